@@ -0,0 +1,72 @@
+package com.example.bankcards.config;
+
+import com.example.bankcards.entity.IdempotencyRecord;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.JwtClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public Cache<String, IdempotencyRecord> idempotencyRecordCache(
+        @Value("${app.idempotency.cache-size:10000}") long cacheSize,
+        @Value("${app.idempotency.retention-ms:86400000}") long retentionMs
+    ) {
+        return Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofMillis(retentionMs))
+            .build();
+    }
+
+    @Bean
+    public Cache<String, JwtClaims> jwtVerificationCache(
+        @Value("${app.jwt.cache-size:10000}") long cacheSize
+    ) {
+        return Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfter(Expiry.<String, JwtClaims>creating((tokenDigest, claims) ->
+                Duration.between(Instant.now(), claims.expiresAt())))
+            .build();
+    }
+
+    @Bean
+    public Cache<UUID, CustomUserDetails> principalCache(
+        @Value("${app.security.principal-cache.size:10000}") long cacheSize,
+        @Value("${app.security.principal-cache.ttl-ms:5000}") long cacheTtlMs
+    ) {
+        return Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+            .build();
+    }
+
+    @Bean
+    public Cache<UUID, Instant> principalChangeCache(
+        @Value("${app.jwt.expiration}") long jwtExpirationMs
+    ) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+            .build();
+    }
+
+    @Bean
+    public Cache<UUID, Integer> cardBalanceSlotCountCache(
+        @Value("${app.card.balance-slots.cache-size:10000}") long cacheSize,
+        @Value("${app.card.balance-slots.cache-ttl-ms:30000}") long cacheTtlMs
+    ) {
+        return Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofMillis(cacheTtlMs))
+            .build();
+    }
+
+}
@@ -1,8 +1,11 @@
 package com.example.bankcards.config;
 
-import com.example.bankcards.security.CustomUserDetailsService;
 import com.example.bankcards.security.JwtAuthenticationFilter;
 import com.example.bankcards.security.JwtTokenProvider;
+import com.example.bankcards.security.OffloadingPasswordEncoder;
+import com.example.bankcards.security.PasswordHashingExecutor;
+import com.example.bankcards.security.PrincipalCache;
+import com.example.bankcards.security.TokenRevocationRegistry;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -30,16 +33,18 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, userDetailsService);
+        return new JwtAuthenticationFilter(tokenProvider, principalCache, tokenRevocationRegistry);
     }
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     @Bean
@@ -81,8 +86,10 @@ public class SecurityConfig {
                         "/swagger-resources/**",
                         "/swagger-ui/index.html",
                         "/api/v1/public/**",
-                        "/openapi.yaml"
+                        "/openapi.yaml",
+                        "/actuator/health"
                     ).permitAll()
+                    .requestMatchers("/actuator/**").hasRole("ADMIN")
                     .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                     .anyRequest().authenticated();
             })
@@ -0,0 +1,12 @@
+package com.example.bankcards.controller;
+
+import com.example.bankcards.dto.request.CardLookupRequest;
+import com.example.bankcards.dto.response.CardResponse;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.RequestBody;
+
+public interface AdminCardController {
+
+    CardResponse lookupCard(@Valid @RequestBody CardLookupRequest cardLookupRequest);
+
+}
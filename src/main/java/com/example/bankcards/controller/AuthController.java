@@ -1,6 +1,7 @@
 package com.example.bankcards.controller;
 
 import com.example.bankcards.dto.request.AuthRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.request.UserRequest;
 import com.example.bankcards.dto.response.AuthResponse;
 import jakarta.validation.Valid;
@@ -12,4 +13,6 @@ public interface AuthController {
 
     AuthResponse login(@Valid @RequestBody AuthRequest authRequest);
 
+    AuthResponse refresh(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest);
+
 }
@@ -1,17 +1,36 @@
 package com.example.bankcards.controller;
 
+import com.example.bankcards.dto.request.BatchTransferRequest;
+import com.example.bankcards.dto.request.CardHoldCaptureRequest;
+import com.example.bankcards.dto.request.CardHoldRequest;
+import com.example.bankcards.dto.request.CardNumberTransferRequest;
 import com.example.bankcards.dto.request.CardRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.TransferScheduleRequest;
+import com.example.bankcards.dto.response.BatchTransferResponse;
 import com.example.bankcards.dto.response.CardBalanceResponse;
+import com.example.bankcards.dto.response.CardHoldResponse;
 import com.example.bankcards.dto.response.CardResponse;
+import com.example.bankcards.dto.response.CursorPageResponse;
+import com.example.bankcards.dto.response.LedgerEntryResponse;
 import com.example.bankcards.dto.response.PageResponse;
+import com.example.bankcards.dto.response.TransferResponse;
+import com.example.bankcards.dto.response.TransferScheduleResponse;
+import com.example.bankcards.utility.constant.TransferMode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
 import java.security.Principal;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 public interface CardController {
@@ -20,6 +39,12 @@ public interface CardController {
 
     CardBalanceResponse getCardBalance(@PathVariable UUID cardId);
 
+    CursorPageResponse<LedgerEntryResponse> getCardTransactions(
+        @PathVariable UUID cardId,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer limit
+    );
+
     PageResponse<CardResponse> getCurrentUserCards(
         @RequestParam(required = false, defaultValue = "0") @Min(0) Integer currentPage,
         @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer limit,
@@ -27,10 +52,52 @@ public interface CardController {
         Principal principal
     );
 
-    void transferMoney(@Valid @RequestBody TransferRequest transferRequest);
+    ResponseEntity<TransferResponse> transferMoney(
+        @RequestHeader(value = "Idempotency-Key", required = false) @Size(min = 1, max = 255) String idempotencyKey,
+        @RequestParam(required = false, defaultValue = "SYNC") TransferMode mode,
+        @Valid @RequestBody TransferRequest transferRequest,
+        Principal principal
+    );
+
+    ResponseEntity<TransferResponse> transferMoneyToCardNumber(
+        @RequestHeader(value = "Idempotency-Key", required = false) @Size(min = 1, max = 255) String idempotencyKey,
+        @RequestParam(required = false, defaultValue = "SYNC") TransferMode mode,
+        @Valid @RequestBody CardNumberTransferRequest cardNumberTransferRequest,
+        Principal principal
+    );
+
+    TransferResponse getTransfer(@PathVariable UUID transferId);
+
+    TransferScheduleResponse createTransferSchedule(
+        @Valid @RequestBody TransferScheduleRequest transferScheduleRequest,
+        Principal principal
+    );
+
+    List<TransferScheduleResponse> getCurrentUserTransferSchedules(Principal principal);
+
+    void cancelTransferSchedule(@PathVariable UUID scheduleId);
+
+    BatchTransferResponse transferMoneyBatch(
+        @Valid @RequestBody BatchTransferRequest batchTransferRequest,
+        Principal principal
+    );
+
+    CardHoldResponse createHold(
+        @PathVariable UUID cardId,
+        @Valid @RequestBody CardHoldRequest cardHoldRequest
+    );
+
+    CardHoldResponse captureHold(
+        @PathVariable UUID holdId,
+        @Valid @RequestBody(required = false) CardHoldCaptureRequest cardHoldCaptureRequest
+    );
+
+    CardHoldResponse releaseHold(@PathVariable UUID holdId);
 
     CardResponse createCard(@Valid @RequestBody CardRequest cardRequest);
 
+    void importCards(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
     PageResponse<CardResponse> getUserCards(
         @PathVariable UUID userId,
         @RequestParam(required = false, defaultValue = "0") @Min(0) Integer currentPage,
@@ -43,6 +110,11 @@ public interface CardController {
         @Valid @RequestBody CardRequest cardRequest
     );
 
+    void updateBalanceSlots(
+        @PathVariable UUID cardId,
+        @RequestParam @Min(0) @Max(64) Integer slotCount
+    );
+
     void blockCard(@PathVariable UUID cardId);
 
     void unblockCard(@PathVariable UUID cardId);
@@ -35,6 +35,8 @@ public interface UserController {
 
     void deleteUser(@PathVariable UUID userId);
 
+    void logoutAll(@PathVariable UUID userId);
+
     UserResponse getCurrentUserDetails(Principal principal);
 
 }
@@ -0,0 +1,31 @@
+package com.example.bankcards.controller.impl;
+
+import com.example.bankcards.controller.AdminCardController;
+import com.example.bankcards.dto.request.CardLookupRequest;
+import com.example.bankcards.dto.response.CardResponse;
+import com.example.bankcards.service.CardService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Validated
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/cards")
+public class AdminCardControllerImpl implements AdminCardController {
+
+    private final CardService cardService;
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CardResponse lookupCard(@Valid @RequestBody CardLookupRequest cardLookupRequest) {
+        CardResponse cardResponse = cardService.getCardByCardNumber(cardLookupRequest.cardNumber());
+        return cardResponse;
+    }
+
+}
@@ -2,6 +2,7 @@ package com.example.bankcards.controller.impl;
 
 import com.example.bankcards.controller.AuthController;
 import com.example.bankcards.dto.request.AuthRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.request.UserRequest;
 import com.example.bankcards.dto.response.AuthResponse;
 import com.example.bankcards.service.AuthService;
@@ -31,4 +32,9 @@ public class AuthControllerImpl implements AuthController {
         AuthResponse authResponse = authService.loginUser(authRequest);
         return authResponse;
     }
+
+    @PostMapping("/refresh")
+    public AuthResponse refresh(@Valid @RequestBody RefreshTokenRequest refreshTokenRequest) {
+        return authService.refreshToken(refreshTokenRequest);
+    }
 }
@@ -1,19 +1,48 @@
 package com.example.bankcards.controller.impl;
 
 import com.example.bankcards.controller.CardController;
+import com.example.bankcards.dto.request.BatchTransferRequest;
+import com.example.bankcards.dto.request.CardHoldCaptureRequest;
+import com.example.bankcards.dto.request.CardHoldRequest;
+import com.example.bankcards.dto.request.CardNumberTransferRequest;
 import com.example.bankcards.dto.request.CardRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.TransferScheduleRequest;
+import com.example.bankcards.dto.response.BatchTransferResponse;
 import com.example.bankcards.dto.response.CardBalanceResponse;
+import com.example.bankcards.dto.response.CardHoldResponse;
 import com.example.bankcards.dto.response.CardResponse;
+import com.example.bankcards.dto.response.CursorPageResponse;
+import com.example.bankcards.dto.response.LedgerEntryResponse;
 import com.example.bankcards.dto.response.PageResponse;
+import com.example.bankcards.dto.response.TransferResponse;
+import com.example.bankcards.dto.response.TransferScheduleResponse;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.service.CardHoldService;
+import com.example.bankcards.service.CardImportService;
 import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.TransferScheduleService;
+import com.example.bankcards.service.impl.AsyncTransferService;
+import com.example.bankcards.service.impl.TransferCardContext;
+import com.example.bankcards.service.impl.TransferGroupCommitExecutor;
+import com.example.bankcards.service.impl.TransferIdempotencyService;
+import com.example.bankcards.utility.constant.CardImportFormat;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferMode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import java.io.IOException;
 import java.security.Principal;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -23,6 +52,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -35,6 +65,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class CardControllerImpl implements CardController {
 
     private final CardService cardService;
+    private final LedgerService ledgerService;
+    private final TransferIdempotencyService transferIdempotencyService;
+    private final AsyncTransferService asyncTransferService;
+    private final TransferGroupCommitExecutor transferGroupCommitExecutor;
+    private final TransferScheduleService transferScheduleService;
+    private final CardHoldService cardHoldService;
+    private final CardImportService cardImportService;
+    private final TransferCardContext transferCardContext;
 
     @GetMapping("/{cardId}")
     @PreAuthorize("hasRole('ADMIN') or @cardSecurityService.isCardOwner(#cardId)")
@@ -50,6 +88,17 @@ public class CardControllerImpl implements CardController {
         return cardBalanceResponse;
     }
 
+    @GetMapping("/{cardId}/transactions")
+    @PreAuthorize("hasRole('ADMIN') or @cardSecurityService.isCardOwner(#cardId)")
+    public CursorPageResponse<LedgerEntryResponse> getCardTransactions(
+        @PathVariable UUID cardId,
+        @RequestParam(required = false) Long cursor,
+        @RequestParam(required = false, defaultValue = "10") @Min(1) @Max(100) Integer limit
+    ) {
+        CursorPageResponse<LedgerEntryResponse> transactions = ledgerService.getCardTransactions(cardId, cursor, limit);
+        return transactions;
+    }
+
     @GetMapping("/user/{userId}")
     @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
     public PageResponse<CardResponse> getUserCards(
@@ -94,6 +143,14 @@ public class CardControllerImpl implements CardController {
         return cardResponse;
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void importCards(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CardImportFormat format = CardImportFormat.fromContentType(request.getContentType());
+        response.setContentType(CardImportFormat.NDJSON.getMediaType());
+        cardImportService.importCards(format, request.getInputStream(), response.getOutputStream());
+    }
+
     @PutMapping("/{cardId}")
     @PreAuthorize("hasRole('ADMIN')")
     public CardResponse updateCardDetails(
@@ -105,10 +162,117 @@ public class CardControllerImpl implements CardController {
     }
 
     @PatchMapping("/transfer")
-    @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("@transferSecurityService.canTransfer(#transferRequest)")
-    public void transferMoney(@Valid @RequestBody TransferRequest transferRequest) {
-        cardService.transferMoneyByTransferRequest(transferRequest);
+    public ResponseEntity<TransferResponse> transferMoney(
+        @RequestHeader(value = "Idempotency-Key", required = false) @Size(min = 1, max = 255) String idempotencyKey,
+        @RequestParam(required = false, defaultValue = "SYNC") TransferMode mode,
+        @Valid @RequestBody TransferRequest transferRequest,
+        Principal principal
+    ) {
+        return executeTransfer(idempotencyKey, mode, transferRequest, principal);
+    }
+
+    @PatchMapping("/transfer/card-number")
+    @PreAuthorize("@transferSecurityService.canTransferToCardNumber(#cardNumberTransferRequest)")
+    public ResponseEntity<TransferResponse> transferMoneyToCardNumber(
+        @RequestHeader(value = "Idempotency-Key", required = false) @Size(min = 1, max = 255) String idempotencyKey,
+        @RequestParam(required = false, defaultValue = "SYNC") TransferMode mode,
+        @Valid @RequestBody CardNumberTransferRequest cardNumberTransferRequest,
+        Principal principal
+    ) {
+        TransferRequest transferRequest = transferCardContext.takeTransferRequest();
+
+        if (transferRequest == null) {
+            CardResponse targetCard = cardService.getCardByCardNumber(cardNumberTransferRequest.targetCardNumber());
+            transferRequest = cardNumberTransferRequest.toTransferRequest(targetCard.id().toString());
+        }
+
+        return executeTransfer(idempotencyKey, mode, transferRequest, principal);
+    }
+
+    @GetMapping("/transfers/{transferId}")
+    @PreAuthorize("hasRole('ADMIN') or @transferSecurityService.isTransferOwner(#transferId)")
+    public TransferResponse getTransfer(@PathVariable UUID transferId) {
+        TransferResponse transferResponse = asyncTransferService.getTransfer(transferId);
+        return transferResponse;
+    }
+
+    @PostMapping("/transfers/schedules")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("@transferSecurityService.canScheduleTransfer(#transferScheduleRequest)")
+    public TransferScheduleResponse createTransferSchedule(
+        @Valid @RequestBody TransferScheduleRequest transferScheduleRequest,
+        Principal principal
+    ) {
+        UUID userId = UUID.fromString(principal.getName());
+        TransferScheduleResponse transferScheduleResponse = transferScheduleService.createSchedule(
+            transferScheduleRequest, userId
+        );
+        return transferScheduleResponse;
+    }
+
+    @GetMapping("/transfers/schedules")
+    @PreAuthorize("isAuthenticated()")
+    public List<TransferScheduleResponse> getCurrentUserTransferSchedules(Principal principal) {
+        UUID userId = UUID.fromString(principal.getName());
+        List<TransferScheduleResponse> transferSchedules = transferScheduleService.getUserSchedules(userId);
+        return transferSchedules;
+    }
+
+    @DeleteMapping("/transfers/schedules/{scheduleId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN') or @transferSecurityService.isScheduleOwner(#scheduleId)")
+    public void cancelTransferSchedule(@PathVariable UUID scheduleId) {
+        transferScheduleService.cancelSchedule(scheduleId);
+    }
+
+    @PostMapping("/transfers/batch")
+    @PreAuthorize("isAuthenticated()")
+    public BatchTransferResponse transferMoneyBatch(
+        @Valid @RequestBody BatchTransferRequest batchTransferRequest,
+        Principal principal
+    ) {
+        UUID userId = UUID.fromString(principal.getName());
+        BatchTransferResponse batchTransferResponse = cardService.transferMoneyBatch(batchTransferRequest, userId);
+        return batchTransferResponse;
+    }
+
+    @PostMapping("/{cardId}/holds")
+    @ResponseStatus(HttpStatus.CREATED)
+    @PreAuthorize("hasRole('ADMIN') or @cardSecurityService.isCardOwner(#cardId)")
+    public CardHoldResponse createHold(
+        @PathVariable UUID cardId,
+        @Valid @RequestBody CardHoldRequest cardHoldRequest
+    ) {
+        CardHoldResponse cardHoldResponse = cardHoldService.createHold(cardId, cardHoldRequest);
+        return cardHoldResponse;
+    }
+
+    @PostMapping("/holds/{holdId}/capture")
+    @PreAuthorize("hasRole('ADMIN') or @cardSecurityService.isHoldOwner(#holdId)")
+    public CardHoldResponse captureHold(
+        @PathVariable UUID holdId,
+        @Valid @RequestBody(required = false) CardHoldCaptureRequest cardHoldCaptureRequest
+    ) {
+        CardHoldResponse cardHoldResponse = cardHoldService.captureHold(holdId, cardHoldCaptureRequest);
+        return cardHoldResponse;
+    }
+
+    @DeleteMapping("/holds/{holdId}")
+    @PreAuthorize("hasRole('ADMIN') or @cardSecurityService.isHoldOwner(#holdId)")
+    public CardHoldResponse releaseHold(@PathVariable UUID holdId) {
+        CardHoldResponse cardHoldResponse = cardHoldService.releaseHold(holdId);
+        return cardHoldResponse;
+    }
+
+    @PatchMapping("/{cardId}/balance-slots")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void updateBalanceSlots(
+        @PathVariable UUID cardId,
+        @RequestParam @Min(0) @Max(64) Integer slotCount
+    ) {
+        cardService.updateBalanceSlots(cardId, slotCount);
     }
 
     @PatchMapping("/{cardId}/block")
@@ -132,4 +296,30 @@ public class CardControllerImpl implements CardController {
         cardService.deleteCard(cardId);
     }
 
+    private ResponseEntity<TransferResponse> executeTransfer(
+        String idempotencyKey,
+        TransferMode mode,
+        TransferRequest transferRequest,
+        Principal principal
+    ) {
+        UUID userId = UUID.fromString(principal.getName());
+
+        if (mode == TransferMode.ASYNC) {
+            if (idempotencyKey != null) {
+                throw new BadRequestException(ErrorMessagesConstant.IDEMPOTENCY_KEY_NOT_SUPPORTED_FOR_ASYNC);
+            }
+
+            TransferResponse transferResponse = asyncTransferService.submitTransfer(userId, transferRequest);
+            return ResponseEntity.accepted().body(transferResponse);
+        }
+
+        if (idempotencyKey == null) {
+            transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest);
+        } else {
+            transferIdempotencyService.transferMoney(userId, idempotencyKey, transferRequest);
+        }
+
+        return ResponseEntity.noContent().build();
+    }
+
 }
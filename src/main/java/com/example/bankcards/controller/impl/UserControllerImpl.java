@@ -87,6 +87,13 @@ public class UserControllerImpl implements UserController {
         userService.activateUser(userId);
     }
 
+    @PostMapping("/{userId}/logout-all")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ADMIN') or #userId == authentication.principal.id")
+    public void logoutAll(@PathVariable UUID userId) {
+        userService.logoutAll(userId);
+    }
+
     @DeleteMapping("/{userId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("hasRole('ADMIN')")
@@ -0,0 +1,21 @@
+package com.example.bankcards.dto.event;
+
+import com.example.bankcards.entity.OutboxEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OutboxEventMessage(
+
+    Long id,
+
+    OutboxEventType eventType,
+
+    UUID aggregateId,
+
+    JsonNode payload,
+
+    LocalDateTime createdAt
+
+) {
+}
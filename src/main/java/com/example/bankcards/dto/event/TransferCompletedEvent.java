@@ -0,0 +1,19 @@
+package com.example.bankcards.dto.event;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record TransferCompletedEvent(
+
+    UUID transferId,
+
+    UUID sourceCardId,
+
+    UUID targetCardId,
+
+    BigDecimal amount,
+
+    String description
+
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.bankcards.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BatchTransferRequest(
+
+    @NotEmpty(message = "{batch.transfer.request.transfers.empty}")
+    @Size(max = 5000, message = "{batch.transfer.request.transfers.size}")
+    List<@Valid TransferRequest> transfers
+
+) {
+    @Override
+    public String toString() {
+        return "BatchTransferRequest{" +
+            "size=" + (transfers == null ? 0 : transfers.size()) +
+            '}';
+    }
+}
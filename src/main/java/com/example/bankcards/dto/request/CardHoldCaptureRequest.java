@@ -0,0 +1,14 @@
+package com.example.bankcards.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+
+public record CardHoldCaptureRequest(
+
+    @Positive(message = "{card.hold.request.amount.negative}")
+    @DecimalMin(value = "0.01", message = "{card.hold.request.amount.least}")
+    BigDecimal amount
+
+) {
+}
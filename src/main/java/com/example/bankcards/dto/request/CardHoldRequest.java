@@ -0,0 +1,23 @@
+package com.example.bankcards.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record CardHoldRequest(
+
+    @NotNull(message = "{card.hold.request.amount.null}")
+    @Positive(message = "{card.hold.request.amount.negative}")
+    @DecimalMin(value = "0.01", message = "{card.hold.request.amount.least}")
+    BigDecimal amount,
+
+    String description,
+
+    @Future(message = "{card.hold.request.expires_at.future}")
+    LocalDateTime expiresAt
+
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.bankcards.dto.request;
+
+import com.example.bankcards.utility.constant.RegExConstant;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record CardLookupRequest(
+
+    @Size(message = "{card.number.size.invalid}", min = 19, max = 19)
+    @Pattern(message = "{card.number.pattern.invalid}", regexp = RegExConstant.cardNumberRegEx)
+    @NotBlank(message = "{card.number.blank}")
+    String cardNumber
+
+) {
+    @Override
+    public String toString() {
+        return "CardLookupRequest{}";
+    }
+}
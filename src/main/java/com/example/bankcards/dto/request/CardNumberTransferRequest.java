@@ -0,0 +1,43 @@
+package com.example.bankcards.dto.request;
+
+import com.example.bankcards.utility.constant.RegExConstant;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+import org.hibernate.validator.constraints.UUID;
+
+public record CardNumberTransferRequest(
+
+    @UUID(message = "{transfer.request.source.card_id.not_valid}")
+    @NotNull(message = "{transfer.request.source.card_id.null}")
+    String sourceCardId,
+
+    @Size(message = "{card.number.size.invalid}", min = 19, max = 19)
+    @Pattern(message = "{card.number.pattern.invalid}", regexp = RegExConstant.cardNumberRegEx)
+    @NotBlank(message = "{card.number.blank}")
+    String targetCardNumber,
+
+    @NotNull(message = "{transfer.request.amount.null}")
+    @Positive(message = "{transfer.request.amount.negative}")
+    @DecimalMin(value = "0.1", message = "{transfer.request.amount.least}")
+    BigDecimal amount,
+
+    String description
+
+) {
+    public TransferRequest toTransferRequest(String targetCardId) {
+        return new TransferRequest(sourceCardId, targetCardId, amount, description);
+    }
+
+    @Override
+    public String toString() {
+        return "CardNumberTransferRequest{" +
+            "sourceCardId='" + sourceCardId + '\'' +
+            ", amount=" + amount +
+            '}';
+    }
+}
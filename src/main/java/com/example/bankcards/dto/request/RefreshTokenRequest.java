@@ -0,0 +1,15 @@
+package com.example.bankcards.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+
+    @NotBlank(message = "{auth.refresh-token.blank}")
+    String refreshToken
+
+) {
+    @Override
+    public String toString() {
+        return "RefreshTokenRequest{}";
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.bankcards.dto.request;
+
+import com.example.bankcards.entity.TransferFrequency;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import org.hibernate.validator.constraints.UUID;
+
+public record TransferScheduleRequest(
+
+    @UUID(message = "{transfer.request.source.card_id.not_valid}")
+    @NotNull(message = "{transfer.request.source.card_id.null}")
+    String sourceCardId,
+
+    @UUID(message = "{transfer.request.target.card_id.not_valid}")
+    @NotNull(message = "{transfer.request.target.card_id.null}")
+    String targetCardId,
+
+    @NotNull(message = "{transfer.request.amount.null}")
+    @Positive(message = "{transfer.request.amount.negative}")
+    @DecimalMin(value = "0.1", message = "{transfer.request.amount.least}")
+    BigDecimal amount,
+
+    String description,
+
+    @NotNull(message = "{transfer.schedule.request.frequency.null}")
+    TransferFrequency frequency,
+
+    @NotNull(message = "{transfer.schedule.request.start_at.null}")
+    @Future(message = "{transfer.schedule.request.start_at.future}")
+    LocalDateTime startAt
+
+) {
+}
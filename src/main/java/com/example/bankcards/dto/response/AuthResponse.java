@@ -2,7 +2,9 @@ package com.example.bankcards.dto.response;
 
 public record AuthResponse(
 
-    String token
+    String token,
+
+    String refreshToken
 
 ) {
 }
@@ -0,0 +1,23 @@
+package com.example.bankcards.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record BatchTransferResponse(
+
+    Integer completed,
+
+    Integer rejected,
+
+    List<TransferItemResponse> results
+
+) {
+    @Override
+    public String toString() {
+        return "BatchTransferResponse{" +
+            "completed=" + completed +
+            ", rejected=" + rejected +
+            '}';
+    }
+}
@@ -4,7 +4,9 @@ import java.math.BigDecimal;
 
 public record CardBalanceResponse(
 
-    BigDecimal balance
+    BigDecimal balance,
+
+    BigDecimal availableBalance
 
 ) {
 }
@@ -0,0 +1,29 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.entity.CardHoldStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CardHoldResponse(
+
+    UUID id,
+
+    UUID cardId,
+
+    BigDecimal amount,
+
+    BigDecimal capturedAmount,
+
+    CardHoldStatus status,
+
+    String description,
+
+    LocalDateTime expiresAt,
+
+    LocalDateTime createdAt,
+
+    LocalDateTime updatedAt
+
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.utility.constant.CardImportItemStatus;
+import java.util.UUID;
+
+public record CardImportItemResponse(
+
+    Integer line,
+
+    UUID cardId,
+
+    CardImportItemStatus status,
+
+    String errorDescription
+
+) {
+}
@@ -0,0 +1,21 @@
+package com.example.bankcards.dto.response;
+
+import java.util.List;
+import lombok.Builder;
+
+@Builder
+public record CursorPageResponse<T>(
+
+    List<T> content,
+
+    Long nextCursor
+
+) {
+    @Override
+    public String toString() {
+        return "CursorPageResponse{" +
+            "size=" + content.size() +
+            ", nextCursor=" + nextCursor +
+            '}';
+    }
+}
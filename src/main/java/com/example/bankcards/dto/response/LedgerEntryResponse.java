@@ -0,0 +1,25 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.entity.LedgerEntryType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record LedgerEntryResponse(
+
+    Long id,
+
+    UUID transferId,
+
+    UUID counterpartyCardId,
+
+    LedgerEntryType entryType,
+
+    BigDecimal amount,
+
+    String description,
+
+    LocalDateTime createdAt
+
+) {
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import java.util.UUID;
+
+public record TransferItemResponse(
+
+    Integer index,
+
+    UUID transferId,
+
+    TransferItemStatus status,
+
+    String errorDescription
+
+) {
+}
@@ -0,0 +1,29 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.entity.TransferStatus;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransferResponse(
+
+    UUID id,
+
+    UUID sourceCardId,
+
+    UUID targetCardId,
+
+    BigDecimal amount,
+
+    String description,
+
+    TransferStatus status,
+
+    String errorDescription,
+
+    LocalDateTime createdAt,
+
+    LocalDateTime updatedAt
+
+) {
+}
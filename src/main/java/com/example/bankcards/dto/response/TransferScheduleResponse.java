@@ -0,0 +1,37 @@
+package com.example.bankcards.dto.response;
+
+import com.example.bankcards.entity.TransferFrequency;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record TransferScheduleResponse(
+
+    UUID id,
+
+    UUID sourceCardId,
+
+    UUID targetCardId,
+
+    BigDecimal amount,
+
+    String description,
+
+    TransferFrequency frequency,
+
+    LocalDateTime startAt,
+
+    LocalDateTime nextRunAt,
+
+    Boolean active,
+
+    LocalDateTime lastRunAt,
+
+    UUID lastTransferId,
+
+    String lastErrorDescription,
+
+    LocalDateTime createdAt
+
+) {
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.FutureOrPresent;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -44,9 +45,15 @@ public class Card {
     @Column(name = "quick_hash", nullable = false)
     private String quickHash;
 
-    @Column(name = "card_number_hash", nullable = false, updatable = false, unique = true)
+    @Column(name = "card_number_hash", updatable = false, unique = true)
     private String cardNumberHash;
 
+    @Column(name = "card_fingerprint", unique = true)
+    private String cardFingerprint;
+
+    @Column(name = "fingerprint_key_version")
+    private Integer fingerprintKeyVersion;
+
     @Column(name = "masked_card_number", nullable = false, updatable = false)
     private String maskedCardNumber;
 
@@ -68,6 +75,18 @@ public class Card {
     @Column(name = "balance", nullable = false, precision = 15, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
 
+    @Builder.Default
+    @Column(name = "held_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal heldAmount = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "balance_slot_count", nullable = false)
+    private Integer balanceSlotCount = 0;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -95,6 +114,14 @@ public class Card {
         );
     }
 
+    public BigDecimal getAvailableBalance() {
+        return balance.subtract(heldAmount);
+    }
+
+    public boolean isStriped() {
+        return balanceSlotCount > 0;
+    }
+
     public boolean isExpired() {
         return expiryDate.isBefore(YearMonth.now());
     }
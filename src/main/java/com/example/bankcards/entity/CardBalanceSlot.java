@@ -0,0 +1,39 @@
+package com.example.bankcards.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@IdClass(CardBalanceSlotId.class)
+@Table(name = "card_balance_slots")
+public class CardBalanceSlot {
+
+    @Id
+    @Column(name = "card_id", nullable = false, updatable = false)
+    private UUID cardId;
+
+    @Id
+    @Column(name = "slot", nullable = false, updatable = false)
+    private Integer slot;
+
+    @Builder.Default
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance = BigDecimal.ZERO;
+
+}
@@ -0,0 +1,20 @@
+package com.example.bankcards.entity;
+
+import java.io.Serializable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBalanceSlotId implements Serializable {
+
+    private UUID cardId;
+
+    private Integer slot;
+
+}
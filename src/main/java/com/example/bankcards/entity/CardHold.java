@@ -0,0 +1,86 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.utility.converter.CardHoldStatusConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "card_holds")
+public class CardHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "card_id", nullable = false, updatable = false)
+    private UUID cardId;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "captured_amount", precision = 15, scale = 2)
+    private BigDecimal capturedAmount;
+
+    @Builder.Default
+    @Convert(converter = CardHoldStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private CardHoldStatus status = CardHoldStatus.ACTIVE;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isActive() {
+        return status == CardHoldStatus.ACTIVE;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void capture(BigDecimal capturedAmount) {
+        this.capturedAmount = capturedAmount;
+        this.status = CardHoldStatus.CAPTURED;
+    }
+
+    public void release() {
+        this.status = CardHoldStatus.RELEASED;
+    }
+
+    public void expire() {
+        this.status = CardHoldStatus.EXPIRED;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.bankcards.entity;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum CardHoldStatus {
+
+    ACTIVE(0),
+    CAPTURED(1),
+    RELEASED(2),
+    EXPIRED(3);
+
+    private final int code;
+
+    public static CardHoldStatus fromCode(int code) {
+        return Arrays.stream(CardHoldStatus.values())
+            .filter(status -> status.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown card hold status code: " + code));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.example.bankcards.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@IdClass(CardLimitUsageId.class)
+@Table(name = "card_limits_usage")
+public class CardLimitUsage {
+
+    @Id
+    @Column(name = "card_id", nullable = false, updatable = false)
+    private UUID cardId;
+
+    @Id
+    @Column(name = "window_start", nullable = false, updatable = false)
+    private LocalDateTime windowStart;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Builder.Default
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount = BigDecimal.ZERO;
+
+}
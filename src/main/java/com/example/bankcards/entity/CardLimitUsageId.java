@@ -0,0 +1,21 @@
+package com.example.bankcards.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardLimitUsageId implements Serializable {
+
+    private UUID cardId;
+
+    private LocalDateTime windowStart;
+
+}
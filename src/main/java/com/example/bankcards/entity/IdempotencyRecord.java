@@ -0,0 +1,71 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.utility.converter.IdempotencyStatusConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "idempotency_key", nullable = false, updatable = false)
+    private String idempotencyKey;
+
+    @Column(name = "request_hash", nullable = false, updatable = false)
+    private String requestHash;
+
+    @Column(name = "transfer_id", nullable = false)
+    private UUID transferId;
+
+    @Convert(converter = IdempotencyStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private IdempotencyStatus status;
+
+    @Column(name = "error_status")
+    private Integer errorStatus;
+
+    @Column(name = "error_message")
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isCompleted() {
+        return status == IdempotencyStatus.COMPLETED;
+    }
+
+    public boolean isFailed() {
+        return status == IdempotencyStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return isCompleted() || isFailed();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.entity;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum IdempotencyStatus {
+
+    IN_PROGRESS(0),
+    COMPLETED(1),
+    FAILED(2);
+
+    private final int code;
+
+    public static IdempotencyStatus fromCode(int code) {
+        return Arrays.stream(IdempotencyStatus.values())
+            .filter(status -> status.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown idempotency status code: " + code));
+    }
+
+}
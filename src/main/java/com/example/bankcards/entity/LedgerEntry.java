@@ -0,0 +1,65 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.utility.converter.LedgerEntryTypeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Immutable
+@Table(name = "ledger_entries")
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "card_id", nullable = false, updatable = false)
+    private UUID cardId;
+
+    @Column(name = "transfer_id", updatable = false)
+    private UUID transferId;
+
+    @Column(name = "counterparty_card_id", updatable = false)
+    private UUID counterpartyCardId;
+
+    @Convert(converter = LedgerEntryTypeConverter.class)
+    @Column(name = "entry_type", nullable = false, updatable = false)
+    private LedgerEntryType entryType;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    public BigDecimal getSignedAmount() {
+        return entryType == LedgerEntryType.CREDIT ? amount : amount.negate();
+    }
+
+}
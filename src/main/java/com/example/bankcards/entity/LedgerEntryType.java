@@ -0,0 +1,23 @@
+package com.example.bankcards.entity;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum LedgerEntryType {
+
+    DEBIT(0),
+    CREDIT(1);
+
+    private final int code;
+
+    public static LedgerEntryType fromCode(int code) {
+        return Arrays.stream(LedgerEntryType.values())
+            .filter(entryType -> entryType.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown ledger entry type code: " + code));
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.bankcards.entity;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum OutboxEventType {
+
+    CARD_CREATED(0),
+    CARD_UPDATED(1),
+    CARD_BLOCKED(2),
+    CARD_UNLOCKED(3),
+    CARD_DELETED(4),
+    TRANSFER_COMPLETED(5);
+
+    private final int code;
+
+    public static OutboxEventType fromCode(int code) {
+        return Arrays.stream(OutboxEventType.values())
+            .filter(eventType -> eventType.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown outbox event type code: " + code));
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.bankcards.entity;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferFrequency {
+
+    DAILY(0),
+    WEEKLY(1),
+    MONTHLY(2);
+
+    private final int code;
+
+    public static TransferFrequency fromCode(int code) {
+        return Arrays.stream(TransferFrequency.values())
+            .filter(frequency -> frequency.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown transfer frequency code: " + code));
+    }
+
+    public LocalDateTime getRunAt(LocalDateTime startAt, long runIndex) {
+        return switch (this) {
+            case DAILY -> startAt.plusDays(runIndex);
+            case WEEKLY -> startAt.plusWeeks(runIndex);
+            case MONTHLY -> startAt.plusMonths(runIndex);
+        };
+    }
+
+}
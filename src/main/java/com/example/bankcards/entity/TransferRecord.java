@@ -0,0 +1,90 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.utility.converter.TransferStatusConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "transfers")
+public class TransferRecord implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "source_card_id", nullable = false, updatable = false)
+    private UUID sourceCardId;
+
+    @Column(name = "target_card_id", nullable = false, updatable = false)
+    private UUID targetCardId;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Builder.Default
+    @Convert(converter = TransferStatusConverter.class)
+    @Column(name = "status", nullable = false)
+    private TransferStatus status = TransferStatus.PENDING;
+
+    @Column(name = "error_description")
+    private String errorDescription;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Override
+    public boolean isNew() {
+        return createdAt == null;
+    }
+
+    public boolean isPending() {
+        return status == TransferStatus.PENDING;
+    }
+
+    public TransferRequest toTransferRequest() {
+        return new TransferRequest(sourceCardId.toString(), targetCardId.toString(), amount, description);
+    }
+
+    public void complete() {
+        this.status = TransferStatus.COMPLETED;
+        this.errorDescription = null;
+    }
+
+    public void reject(String errorDescription) {
+        this.status = TransferStatus.REJECTED;
+        this.errorDescription = errorDescription;
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.example.bankcards.entity;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.utility.converter.TransferFrequencyConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+@Setter
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+@Table(name = "transfer_schedules")
+public class TransferSchedule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private UUID userId;
+
+    @Column(name = "source_card_id", nullable = false, updatable = false)
+    private UUID sourceCardId;
+
+    @Column(name = "target_card_id", nullable = false, updatable = false)
+    private UUID targetCardId;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "description", updatable = false)
+    private String description;
+
+    @Convert(converter = TransferFrequencyConverter.class)
+    @Column(name = "frequency", nullable = false, updatable = false)
+    private TransferFrequency frequency;
+
+    @Column(name = "start_at", nullable = false, updatable = false)
+    private LocalDateTime startAt;
+
+    @Builder.Default
+    @Column(name = "run_count", nullable = false)
+    private Long runCount = 0L;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Builder.Default
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
+    @Column(name = "lease_owner")
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "last_transfer_id")
+    private UUID lastTransferId;
+
+    @Column(name = "last_error_description")
+    private String lastErrorDescription;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isDue(LocalDateTime now) {
+        return active && !nextRunAt.isAfter(now);
+    }
+
+    public TransferRequest toTransferRequest() {
+        return new TransferRequest(sourceCardId.toString(), targetCardId.toString(), amount, description);
+    }
+
+    public void claimLease(String leaseOwner, LocalDateTime leaseUntil) {
+        this.leaseOwner = leaseOwner;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    public void recordRun(LocalDateTime now, UUID transferId, String errorDescription) {
+        this.lastRunAt = now;
+        this.lastTransferId = transferId;
+        this.lastErrorDescription = errorDescription;
+
+        do {
+            runCount++;
+            nextRunAt = frequency.getRunAt(startAt, runCount);
+        } while (!nextRunAt.isAfter(now));
+
+        releaseLease();
+    }
+
+    public void cancel() {
+        this.active = false;
+        releaseLease();
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.entity;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum TransferStatus {
+
+    PENDING(0),
+    COMPLETED(1),
+    REJECTED(2);
+
+    private final int code;
+
+    public static TransferStatus fromCode(int code) {
+        return Arrays.stream(TransferStatus.values())
+            .filter(status -> status.getCode() == code)
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unknown transfer status code: " + code));
+    }
+
+}
@@ -66,6 +66,9 @@ public class User implements UserDetails {
     @Column(name = "is_active", nullable = false)
     private boolean isActive = true;
 
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private LocalDateTime createdAt;
@@ -3,14 +3,22 @@ package com.example.bankcards.exception;
 import com.example.bankcards.exception.error.AccessDeniedException;
 import com.example.bankcards.exception.error.BadRequestException;
 import com.example.bankcards.exception.error.CardAlreadyExistsByCardNumberException;
+import com.example.bankcards.exception.error.CardHoldNotFoundById;
+import com.example.bankcards.exception.error.CardNotFoundByCardNumber;
 import com.example.bankcards.exception.error.CardNotFoundById;
 import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.exception.error.TransferLimitExceededException;
+import com.example.bankcards.exception.error.TransferNotFoundById;
+import com.example.bankcards.exception.error.TransferScheduleNotFoundById;
 import com.example.bankcards.exception.error.UnauthorizedException;
 import com.example.bankcards.exception.error.UserAlreadyExistsByEmailException;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
 import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -23,8 +31,14 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionControllerAdvice {
 
+    private static final int RETRY_AFTER_SECONDS = 1;
+
     @ExceptionHandler({
         CardNotFoundById.class,
+        CardNotFoundByCardNumber.class,
+        CardHoldNotFoundById.class,
+        TransferNotFoundById.class,
+        TransferScheduleNotFoundById.class,
         UsernameNotFoundException.class,
     })
     @ResponseStatus(HttpStatus.NOT_FOUND)
@@ -88,6 +102,20 @@ public class GlobalExceptionControllerAdvice {
             .build();
     }
 
+    @ExceptionHandler(TransferLimitExceededException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ErrorResponse handleTransferLimitExceededException(
+        Exception ex, HttpServletRequest request) {
+
+        return ErrorResponse.builder()
+            .error(HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase())
+            .errorDescription(ex.getMessage())
+            .statusCode(HttpStatus.TOO_MANY_REQUESTS.value())
+            .path(request.getRequestURI())
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+
     @ExceptionHandler({
         ConflictException.class,
         CardAlreadyExistsByCardNumberException.class,
@@ -106,6 +134,22 @@ public class GlobalExceptionControllerAdvice {
             .build();
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServiceUnavailableException(
+        Exception ex, HttpServletRequest request, HttpServletResponse response) {
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+
+        return ErrorResponse.builder()
+            .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+            .errorDescription(ex.getMessage())
+            .statusCode(HttpStatus.SERVICE_UNAVAILABLE.value())
+            .path(request.getRequestURI())
+            .timestamp(LocalDateTime.now())
+            .build();
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponse methodArgumentException(MethodArgumentNotValidException ex, HttpServletRequest request) {
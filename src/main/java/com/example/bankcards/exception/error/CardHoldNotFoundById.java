@@ -0,0 +1,7 @@
+package com.example.bankcards.exception.error;
+
+public class CardHoldNotFoundById extends RuntimeException {
+    public CardHoldNotFoundById(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankcards.exception.error;
+
+public class CardNotFoundByCardNumber extends RuntimeException {
+    public CardNotFoundByCardNumber(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankcards.exception.error;
+
+public class TransferLimitExceededException extends BadRequestException {
+    public TransferLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankcards.exception.error;
+
+public class TransferNotFoundById extends RuntimeException {
+    public TransferNotFoundById(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.bankcards.exception.error;
+
+public class TransferScheduleNotFoundById extends RuntimeException {
+    public TransferScheduleNotFoundById(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardBalanceSlot;
+import com.example.bankcards.entity.CardBalanceSlotId;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CardBalanceSlotRepository extends JpaRepository<CardBalanceSlot, CardBalanceSlotId> {
+
+    long countByCardId(UUID cardId);
+
+    @Modifying
+    @Query("update CardBalanceSlot s set s.balance = s.balance + :amount where s.cardId = :cardId and s.slot = :slot")
+    int creditSlot(@Param("cardId") UUID cardId, @Param("slot") Integer slot, @Param("amount") BigDecimal amount);
+
+    @Transactional
+    @Query(value = """
+        WITH locked AS (
+            SELECT card_id, slot, balance
+            FROM card_balance_slots
+            WHERE card_id = :cardId
+            FOR UPDATE
+        ), cleared AS (
+            UPDATE card_balance_slots s
+            SET balance = 0
+            FROM locked l
+            WHERE s.card_id = l.card_id
+              AND s.slot = l.slot
+              AND l.balance <> 0
+            RETURNING l.balance
+        )
+        SELECT COALESCE(SUM(balance), 0) FROM cleared
+        """, nativeQuery = true)
+    BigDecimal foldSlots(@Param("cardId") UUID cardId);
+
+    @Query(value = """
+        SELECT c.balance + COALESCE((SELECT SUM(s.balance) FROM card_balance_slots s WHERE s.card_id = c.id), 0)
+        FROM cards c
+        WHERE c.id = :cardId
+        """, nativeQuery = true)
+    BigDecimal findTotalBalanceByCardId(@Param("cardId") UUID cardId);
+
+    @Query("select distinct s.cardId from CardBalanceSlot s where s.balance <> 0")
+    List<UUID> findCardIdsWithPendingBalance();
+
+    @Modifying
+    @Query("delete from CardBalanceSlot s where s.cardId = :cardId")
+    int deleteByCardId(@Param("cardId") UUID cardId);
+
+}
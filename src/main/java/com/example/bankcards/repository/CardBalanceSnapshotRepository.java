@@ -0,0 +1,35 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardBalanceSnapshot;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardBalanceSnapshotRepository extends JpaRepository<CardBalanceSnapshot, UUID> {
+
+    @Modifying
+    @Query(value = """
+        insert into card_balance_snapshots (card_id, balance, last_entry_id, created_at)
+        select e.card_id,
+               coalesce(s.balance, 0)
+                   + sum(case when e.entry_type = :creditCode then e.amount else -e.amount end),
+               max(e.id),
+               now()
+        from ledger_entries e
+        left join card_balance_snapshots s on s.card_id = e.card_id
+        where e.id > coalesce(s.last_entry_id, 0)
+          and e.id <= :upToEntryId
+        group by e.card_id, s.balance
+        on conflict (card_id) do update
+        set balance = excluded.balance,
+            last_entry_id = excluded.last_entry_id,
+            created_at = excluded.created_at
+        where card_balance_snapshots.last_entry_id < excluded.last_entry_id
+        """, nativeQuery = true)
+    int upsertSnapshotsUpToEntryId(@Param("upToEntryId") Long upToEntryId, @Param("creditCode") int creditCode);
+
+}
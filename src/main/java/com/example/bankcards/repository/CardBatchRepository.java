@@ -0,0 +1,29 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.Card;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface CardBatchRepository {
+
+    Map<UUID, String> findLegacyQuickHashesForUpdate(int limit);
+
+    void updateQuickHashesInBatch(Map<UUID, String> quickHashesByCardId);
+
+    Map<UUID, String> findQuickHashesWithStaleFingerprintForUpdate(int keyVersion, int limit);
+
+    void updateFingerprintsInBatch(Map<UUID, String> fingerprintsByCardId, int keyVersion);
+
+    Set<String> findExistingFingerprints(List<String> fingerprints);
+
+    Set<String> findExistingQuickHashesWithStaleFingerprint(List<String> quickHashes, List<String> legacyQuickHashes,
+                                                            int keyVersion);
+
+    void insertAllInBatch(List<Card> cards);
+
+    void streamQuickHashes(int fetchSize, Consumer<String> quickHashConsumer);
+
+}
@@ -0,0 +1,193 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.utility.converter.YearMonthConverter;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CardBatchRepositoryImpl implements CardBatchRepository {
+
+    private static final YearMonthConverter YEAR_MONTH_CONVERTER = new YearMonthConverter();
+
+    private static final String FIND_LEGACY_QUICK_HASHES_SQL = """
+        SELECT id, quick_hash
+        FROM cards
+        WHERE fingerprint_key_version IS NULL
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String UPDATE_QUICK_HASH_SQL = """
+        UPDATE cards
+        SET quick_hash = ?
+        WHERE id = ?
+        """;
+
+    private static final String FIND_STALE_FINGERPRINTS_SQL = """
+        SELECT id, quick_hash
+        FROM cards
+        WHERE fingerprint_key_version <> ?
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String UPDATE_FINGERPRINT_SQL = """
+        UPDATE cards
+        SET card_fingerprint = ?, fingerprint_key_version = ?
+        WHERE id = ?
+        """;
+
+    private static final String FIND_EXISTING_FINGERPRINTS_SQL = """
+        SELECT card_fingerprint
+        FROM cards
+        WHERE card_fingerprint IN (%s)
+        """;
+
+    private static final String FIND_EXISTING_STALE_QUICK_HASHES_SQL = """
+        SELECT quick_hash
+        FROM cards
+        WHERE (quick_hash IN (%s) AND fingerprint_key_version <> ?)
+           OR (quick_hash IN (%s) AND fingerprint_key_version IS NULL)
+        """;
+
+    private static final String FIND_ALL_QUICK_HASHES_SQL = """
+        SELECT quick_hash
+        FROM cards
+        """;
+
+    private static final String INSERT_CARD_SQL = """
+        INSERT INTO cards
+            (id, quick_hash, card_fingerprint, fingerprint_key_version, masked_card_number, expiry_date, owner_id,
+             card_status, balance, held_amount, balance_slot_count, version, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public Map<UUID, String> findLegacyQuickHashesForUpdate(int limit) {
+        Map<UUID, String> legacyQuickHashesByCardId = new LinkedHashMap<>();
+
+        jdbcTemplate.query(FIND_LEGACY_QUICK_HASHES_SQL, resultSet -> {
+            legacyQuickHashesByCardId.put(resultSet.getObject("id", UUID.class), resultSet.getString("quick_hash"));
+        }, limit);
+
+        return legacyQuickHashesByCardId;
+    }
+
+    public void updateQuickHashesInBatch(Map<UUID, String> quickHashesByCardId) {
+        List<Map.Entry<UUID, String>> quickHashes = List.copyOf(quickHashesByCardId.entrySet());
+
+        jdbcTemplate.batchUpdate(UPDATE_QUICK_HASH_SQL, quickHashes, batchSize, (statement, quickHash) -> {
+            statement.setString(1, quickHash.getValue());
+            statement.setObject(2, quickHash.getKey());
+        });
+    }
+
+    public Map<UUID, String> findQuickHashesWithStaleFingerprintForUpdate(int keyVersion, int limit) {
+        Map<UUID, String> quickHashesByCardId = new LinkedHashMap<>();
+
+        jdbcTemplate.query(FIND_STALE_FINGERPRINTS_SQL, resultSet -> {
+            quickHashesByCardId.put(resultSet.getObject("id", UUID.class), resultSet.getString("quick_hash"));
+        }, keyVersion, limit);
+
+        return quickHashesByCardId;
+    }
+
+    public void updateFingerprintsInBatch(Map<UUID, String> fingerprintsByCardId, int keyVersion) {
+        List<Map.Entry<UUID, String>> fingerprints = List.copyOf(fingerprintsByCardId.entrySet());
+
+        jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT_SQL, fingerprints, batchSize, (statement, fingerprint) -> {
+            statement.setString(1, fingerprint.getValue());
+            statement.setInt(2, keyVersion);
+            statement.setObject(3, fingerprint.getKey());
+        });
+    }
+
+    public Set<String> findExistingFingerprints(List<String> fingerprints) {
+        if (fingerprints.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> existingFingerprints = new HashSet<>();
+        jdbcTemplate.query(FIND_EXISTING_FINGERPRINTS_SQL.formatted(getPlaceholders(fingerprints.size())),
+            resultSet -> {
+                existingFingerprints.add(resultSet.getString("card_fingerprint"));
+            }, fingerprints.toArray());
+
+        return existingFingerprints;
+    }
+
+    public Set<String> findExistingQuickHashesWithStaleFingerprint(List<String> quickHashes,
+                                                                   List<String> legacyQuickHashes, int keyVersion) {
+        if (quickHashes.isEmpty()) {
+            return Set.of();
+        }
+
+        List<Object> parameters = new ArrayList<>(quickHashes.size() + legacyQuickHashes.size() + 1);
+        parameters.addAll(quickHashes);
+        parameters.add(keyVersion);
+        parameters.addAll(legacyQuickHashes);
+
+        Set<String> existingQuickHashes = new HashSet<>();
+        String sql = FIND_EXISTING_STALE_QUICK_HASHES_SQL.formatted(
+            getPlaceholders(quickHashes.size()), getPlaceholders(legacyQuickHashes.size())
+        );
+        jdbcTemplate.query(sql, resultSet -> {
+            existingQuickHashes.add(resultSet.getString("quick_hash"));
+        }, parameters.toArray());
+
+        return existingQuickHashes;
+    }
+
+    public void insertAllInBatch(List<Card> cards) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_CARD_SQL, cards, batchSize, (statement, card) -> {
+            statement.setObject(1, card.getId());
+            statement.setString(2, card.getQuickHash());
+            statement.setString(3, card.getCardFingerprint());
+            statement.setInt(4, card.getFingerprintKeyVersion());
+            statement.setString(5, card.getMaskedCardNumber());
+            statement.setInt(6, YEAR_MONTH_CONVERTER.convertToDatabaseColumn(card.getExpiryDate()));
+            statement.setObject(7, card.getOwner().getId());
+            statement.setInt(8, card.getCardStatus().getCode());
+            statement.setBigDecimal(9, card.getBalance());
+            statement.setBigDecimal(10, card.getHeldAmount());
+            statement.setInt(11, card.getBalanceSlotCount());
+            statement.setTimestamp(12, createdAt);
+            statement.setTimestamp(13, createdAt);
+        });
+    }
+
+    public void streamQuickHashes(int fetchSize, Consumer<String> quickHashConsumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_ALL_QUICK_HASHES_SQL);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            quickHashConsumer.accept(resultSet.getString("quick_hash"));
+        });
+    }
+
+    private String getPlaceholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardHold;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardHoldRepository extends JpaRepository<CardHold, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select h from CardHold h where h.id = :id")
+    Optional<CardHold> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query(value = """
+        SELECT *
+        FROM card_holds
+        WHERE status = :status
+          AND expires_at <= :now
+        ORDER BY expires_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<CardHold> findExpiredForUpdateSkipLocked(@Param("status") int status,
+                                                  @Param("now") LocalDateTime now,
+                                                  @Param("limit") int limit);
+
+    @Query("""
+        select count(h) > 0
+        from CardHold h
+        join Card c on c.id = h.cardId
+        where h.id = :holdId
+          and c.owner.id = :ownerId
+        """)
+    boolean existsByIdAndCardOwnerId(@Param("holdId") UUID holdId, @Param("ownerId") UUID ownerId);
+
+}
@@ -0,0 +1,10 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardLimitUsage;
+import java.util.List;
+
+public interface CardLimitUsageBatchRepository {
+
+    void addAllInBatch(List<CardLimitUsage> cardLimitUsages);
+
+}
@@ -0,0 +1,35 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardLimitUsage;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class CardLimitUsageBatchRepositoryImpl implements CardLimitUsageBatchRepository {
+
+    private static final String ADD_CARD_LIMIT_USAGE_SQL = """
+        INSERT INTO card_limits_usage (card_id, window_start, user_id, amount)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (card_id, window_start)
+        DO UPDATE SET amount = card_limits_usage.amount + EXCLUDED.amount,
+                      user_id = COALESCE(card_limits_usage.user_id, EXCLUDED.user_id)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public void addAllInBatch(List<CardLimitUsage> cardLimitUsages) {
+        jdbcTemplate.batchUpdate(ADD_CARD_LIMIT_USAGE_SQL, cardLimitUsages, batchSize, (statement, usage) -> {
+            statement.setObject(1, usage.getCardId());
+            statement.setTimestamp(2, Timestamp.valueOf(usage.getWindowStart()));
+            statement.setObject(3, usage.getUserId());
+            statement.setBigDecimal(4, usage.getAmount());
+        });
+    }
+
+}
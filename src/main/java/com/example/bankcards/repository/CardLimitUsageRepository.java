@@ -0,0 +1,23 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.CardLimitUsage;
+import com.example.bankcards.entity.CardLimitUsageId;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CardLimitUsageRepository extends JpaRepository<CardLimitUsage, CardLimitUsageId>,
+    CardLimitUsageBatchRepository {
+
+    List<CardLimitUsage> findAllByWindowStartGreaterThanEqual(LocalDateTime windowStart);
+
+    @Modifying
+    @Query("delete from CardLimitUsage u where u.windowStart < :windowStart")
+    int deleteAllByWindowStartBefore(@Param("windowStart") LocalDateTime windowStart);
+
+}
@@ -1,19 +1,112 @@
 package com.example.bankcards.repository;
 
 import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardStatus;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface CardRepository extends CrudRepository<Card, Integer> {
+public interface CardRepository extends CrudRepository<Card, Integer>, CardBatchRepository {
 
     Optional<Card> findCardById(UUID id);
 
+    <S extends Card> S saveAndFlush(S card);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Card c where c.id in :ids order by c.id")
+    List<Card> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Card c
+        set c.balance = c.balance - :amount, c.version = c.version + 1, c.updatedAt = local datetime
+        where c.id = :cardId
+          and c.balance - c.heldAmount >= :amount
+          and c.cardStatus = :cardStatus
+          and c.expiryDate >= :currentMonth
+        """)
+    int debitCardIfAvailable(@Param("cardId") UUID cardId,
+                             @Param("amount") BigDecimal amount,
+                             @Param("cardStatus") CardStatus cardStatus,
+                             @Param("currentMonth") YearMonth currentMonth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Card c
+        set c.balance = c.balance + :amount, c.version = c.version + 1, c.updatedAt = local datetime
+        where c.id = :cardId
+          and c.cardStatus = :cardStatus
+          and c.expiryDate >= :currentMonth
+        """)
+    int creditCardIfAvailable(@Param("cardId") UUID cardId,
+                              @Param("amount") BigDecimal amount,
+                              @Param("cardStatus") CardStatus cardStatus,
+                              @Param("currentMonth") YearMonth currentMonth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Card c
+        set c.heldAmount = c.heldAmount + :amount, c.version = c.version + 1, c.updatedAt = local datetime
+        where c.id = :cardId
+          and c.balance - c.heldAmount >= :amount
+          and c.cardStatus = :cardStatus
+          and c.expiryDate >= :currentMonth
+        """)
+    int holdFundsIfAvailable(@Param("cardId") UUID cardId,
+                             @Param("amount") BigDecimal amount,
+                             @Param("cardStatus") CardStatus cardStatus,
+                             @Param("currentMonth") YearMonth currentMonth);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Card c
+        set c.balance = c.balance - :capturedAmount,
+            c.heldAmount = c.heldAmount - :heldAmount,
+            c.version = c.version + 1,
+            c.updatedAt = local datetime
+        where c.id = :cardId
+          and c.balance >= :capturedAmount
+          and c.heldAmount >= :heldAmount
+        """)
+    int captureHeldFunds(@Param("cardId") UUID cardId,
+                         @Param("heldAmount") BigDecimal heldAmount,
+                         @Param("capturedAmount") BigDecimal capturedAmount);
+
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update Card c
+        set c.heldAmount = c.heldAmount - :amount, c.version = c.version + 1, c.updatedAt = local datetime
+        where c.id = :cardId
+          and c.heldAmount >= :amount
+        """)
+    int releaseHeldFunds(@Param("cardId") UUID cardId, @Param("amount") BigDecimal amount);
+
+    @Query("select c from Card c join fetch c.owner where c.id in :ids")
+    List<Card> findAllByIdInWithOwner(@Param("ids") Collection<UUID> ids);
+
+    @Query("select c.quickHash from Card c where c.createdAt > :createdAfter")
+    List<String> findQuickHashesByCreatedAtAfter(@Param("createdAfter") LocalDateTime createdAfter);
+
+    @Query("select c.owner.id from Card c where c.id = :id")
+    Optional<UUID> findOwnerIdById(@Param("id") UUID id);
+
+    @Query("select c.id from Card c where c.id in :ids and c.owner.id = :ownerId")
+    List<UUID> findIdsByIdInAndOwnerId(@Param("ids") Collection<UUID> ids, @Param("ownerId") UUID ownerId);
+
     boolean existsByIdAndOwnerId(UUID cardId,
                                  UUID ownerId);
 
@@ -23,7 +116,36 @@ public interface CardRepository extends CrudRepository<Card, Integer> {
 
     boolean existsByCardNumberHash(String cardNumberHash);
 
-    List<Card> findByQuickHash(String quickHash);
+    boolean existsByCardFingerprint(String cardFingerprint);
+
+    Optional<Card> findByCardFingerprint(String cardFingerprint);
+
+    @Query("""
+        select c
+        from Card c
+        where (c.quickHash = :quickHash and c.fingerprintKeyVersion <> :keyVersion)
+           or (c.quickHash = :legacyQuickHash and c.fingerprintKeyVersion is null)
+        """)
+    Optional<Card> findByQuickHashWithStaleFingerprint(@Param("quickHash") String quickHash,
+                                                       @Param("legacyQuickHash") String legacyQuickHash,
+                                                       @Param("keyVersion") int keyVersion);
+
+    @Query("""
+        select count(c) > 0
+        from Card c
+        where (c.quickHash = :quickHash and c.fingerprintKeyVersion <> :keyVersion)
+           or (c.quickHash = :legacyQuickHash and c.fingerprintKeyVersion is null)
+        """)
+    boolean existsByQuickHashWithStaleFingerprint(@Param("quickHash") String quickHash,
+                                                  @Param("legacyQuickHash") String legacyQuickHash,
+                                                  @Param("keyVersion") int keyVersion);
+
+    @Query("""
+        select count(c)
+        from Card c
+        where c.fingerprintKeyVersion is null or c.fingerprintKeyVersion <> :keyVersion
+        """)
+    long countWithStaleFingerprint(@Param("keyVersion") int keyVersion);
 
 }
 
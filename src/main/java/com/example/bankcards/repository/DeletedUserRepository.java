@@ -0,0 +1,24 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.DeletedUser;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface DeletedUserRepository extends JpaRepository<DeletedUser, UUID> {
+
+    List<DeletedUser> findAllByDeletedAtGreaterThan(LocalDateTime deletedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DeletedUser u where u.deletedAt < :deletedBefore")
+    int deleteAllByDeletedAtBefore(@Param("deletedBefore") LocalDateTime deletedBefore);
+
+}
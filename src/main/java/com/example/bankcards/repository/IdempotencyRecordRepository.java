@@ -0,0 +1,109 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.IdempotencyRecord;
+import com.example.bankcards.entity.IdempotencyStatus;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+        INSERT INTO idempotency_keys
+            (id, user_id, idempotency_key, request_hash, transfer_id, status, created_at, updated_at)
+        VALUES (:id, :userId, :idempotencyKey, :requestHash, :transferId, :status, :now, :now)
+        ON CONFLICT (user_id, idempotency_key) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id,
+                       @Param("userId") UUID userId,
+                       @Param("idempotencyKey") String idempotencyKey,
+                       @Param("requestHash") String requestHash,
+                       @Param("transferId") UUID transferId,
+                       @Param("status") int status,
+                       @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.transferId = :transferId,
+            r.updatedAt = :now
+        where r.id = :id
+          and r.status = :inProgress
+          and r.updatedAt = :previousUpdatedAt
+        """)
+    int reclaimInProgress(@Param("id") UUID id,
+                          @Param("transferId") UUID transferId,
+                          @Param("previousUpdatedAt") LocalDateTime previousUpdatedAt,
+                          @Param("now") LocalDateTime now,
+                          @Param("inProgress") IdempotencyStatus inProgress);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.status = :completed,
+            r.updatedAt = :now
+        where r.userId = :userId
+          and r.idempotencyKey = :idempotencyKey
+          and r.transferId = :transferId
+        """)
+    int markCompleted(@Param("userId") UUID userId,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("transferId") UUID transferId,
+                      @Param("now") LocalDateTime now,
+                      @Param("completed") IdempotencyStatus completed);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        update IdempotencyRecord r
+        set r.status = :failed,
+            r.errorStatus = :errorStatus,
+            r.errorMessage = :errorMessage,
+            r.updatedAt = :now
+        where r.userId = :userId
+          and r.idempotencyKey = :idempotencyKey
+          and r.transferId = :transferId
+          and r.status = :inProgress
+        """)
+    int markFailed(@Param("userId") UUID userId,
+                   @Param("idempotencyKey") String idempotencyKey,
+                   @Param("transferId") UUID transferId,
+                   @Param("errorStatus") Integer errorStatus,
+                   @Param("errorMessage") String errorMessage,
+                   @Param("now") LocalDateTime now,
+                   @Param("failed") IdempotencyStatus failed,
+                   @Param("inProgress") IdempotencyStatus inProgress);
+
+    @Transactional
+    @Modifying
+    @Query("""
+        delete from IdempotencyRecord r
+        where r.userId = :userId
+          and r.idempotencyKey = :idempotencyKey
+          and r.transferId = :transferId
+          and r.status = :inProgress
+        """)
+    int deleteInProgress(@Param("userId") UUID userId,
+                         @Param("idempotencyKey") String idempotencyKey,
+                         @Param("transferId") UUID transferId,
+                         @Param("inProgress") IdempotencyStatus inProgress);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.updatedAt < :expiredBefore")
+    int deleteExpired(@Param("expiredBefore") LocalDateTime expiredBefore);
+
+}
@@ -0,0 +1,10 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.LedgerEntry;
+import java.util.List;
+
+public interface LedgerEntryBatchRepository {
+
+    void insertAllInBatch(List<LedgerEntry> ledgerEntries);
+
+}
@@ -0,0 +1,39 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.LedgerEntry;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LedgerEntryBatchRepositoryImpl implements LedgerEntryBatchRepository {
+
+    private static final String INSERT_LEDGER_ENTRY_SQL = """
+        INSERT INTO ledger_entries
+            (card_id, transfer_id, counterparty_card_id, entry_type, amount, description, created_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public void insertAllInBatch(List<LedgerEntry> ledgerEntries) {
+        Timestamp createdAt = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_LEDGER_ENTRY_SQL, ledgerEntries, batchSize, (statement, ledgerEntry) -> {
+            statement.setObject(1, ledgerEntry.getCardId());
+            statement.setObject(2, ledgerEntry.getTransferId());
+            statement.setObject(3, ledgerEntry.getCounterpartyCardId());
+            statement.setInt(4, ledgerEntry.getEntryType().getCode());
+            statement.setBigDecimal(5, ledgerEntry.getAmount());
+            statement.setString(6, ledgerEntry.getDescription());
+            statement.setTimestamp(7, createdAt);
+        });
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.LedgerEntry;
+import com.example.bankcards.entity.LedgerEntryType;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long>, LedgerEntryBatchRepository {
+
+    List<LedgerEntry> findByCardIdOrderByIdDesc(UUID cardId, Limit limit);
+
+    List<LedgerEntry> findByCardIdAndIdLessThanOrderByIdDesc(UUID cardId, Long id, Limit limit);
+
+    boolean existsByTransferId(UUID transferId);
+
+    @Query("""
+        select coalesce(sum(case when e.entryType = :creditType then e.amount else -e.amount end), 0)
+        from LedgerEntry e
+        where e.cardId = :cardId
+          and e.id > :afterEntryId
+        """)
+    BigDecimal sumSignedAmountByCardIdAfterEntryId(@Param("cardId") UUID cardId,
+                                                   @Param("afterEntryId") Long afterEntryId,
+                                                   @Param("creditType") LedgerEntryType creditType);
+
+    @Query("select coalesce(max(e.id), 0) from LedgerEntry e")
+    Long findMaxId();
+
+}
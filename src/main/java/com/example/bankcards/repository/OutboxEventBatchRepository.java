@@ -0,0 +1,10 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.OutboxEvent;
+import java.util.List;
+
+public interface OutboxEventBatchRepository {
+
+    void insertAllInBatch(List<OutboxEvent> outboxEvents);
+
+}
@@ -0,0 +1,32 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.OutboxEvent;
+import java.sql.Timestamp;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class OutboxEventBatchRepositoryImpl implements OutboxEventBatchRepository {
+
+    private static final String INSERT_OUTBOX_EVENT_SQL = """
+        INSERT INTO outbox_events (event_type, aggregate_id, payload, created_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    public void insertAllInBatch(List<OutboxEvent> outboxEvents) {
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX_EVENT_SQL, outboxEvents, batchSize, (statement, outboxEvent) -> {
+            statement.setInt(1, outboxEvent.getEventType().getCode());
+            statement.setObject(2, outboxEvent.getAggregateId());
+            statement.setString(3, outboxEvent.getPayload());
+            statement.setTimestamp(4, Timestamp.valueOf(outboxEvent.getCreatedAt()));
+        });
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.TransferRecord;
+import com.example.bankcards.entity.TransferStatus;
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransferRecordRepository extends JpaRepository<TransferRecord, UUID> {
+
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    List<TransferRecord> findAllByStatusOrderByCreatedAt(TransferStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from TransferRecord t where t.id in :ids and t.status = :status order by t.id")
+    List<TransferRecord> findAllByIdInAndStatusForUpdate(@Param("ids") Collection<UUID> ids,
+                                                         @Param("status") TransferStatus status);
+
+}
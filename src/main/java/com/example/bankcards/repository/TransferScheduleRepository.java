@@ -0,0 +1,46 @@
+package com.example.bankcards.repository;
+
+import com.example.bankcards.entity.TransferSchedule;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TransferScheduleRepository extends JpaRepository<TransferSchedule, UUID> {
+
+    List<TransferSchedule> findAllByUserIdAndActiveTrueOrderByNextRunAt(UUID userId);
+
+    boolean existsByIdAndUserId(UUID id, UUID userId);
+
+    @Query(value = """
+        SELECT *
+        FROM transfer_schedules
+        WHERE active = TRUE
+          AND next_run_at < :horizon
+          AND (lease_until IS NULL OR lease_until < :now)
+        ORDER BY next_run_at
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<TransferSchedule> findClaimableForUpdateSkipLocked(@Param("horizon") LocalDateTime horizon,
+                                                           @Param("now") LocalDateTime now,
+                                                           @Param("limit") int limit);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        select s from TransferSchedule s
+        where s.id in :ids
+          and s.leaseOwner = :leaseOwner
+        order by s.id
+        """)
+    List<TransferSchedule> findAllByIdInAndLeaseOwnerForUpdate(@Param("ids") Collection<UUID> ids,
+                                                              @Param("leaseOwner") String leaseOwner);
+
+}
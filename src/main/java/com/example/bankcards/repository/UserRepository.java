@@ -1,9 +1,15 @@
 package com.example.bankcards.repository;
 
 import com.example.bankcards.entity.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +18,9 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    List<User> findAllByTokensValidAfterGreaterThan(LocalDateTime tokensValidAfter);
+
+    @Query("select u.id from User u where u.id in :ids")
+    Set<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
 }
@@ -34,6 +34,16 @@ public class CustomUserDetails implements UserDetails {
         );
     }
 
+    public static CustomUserDetails create(JwtClaims claims) {
+        return new CustomUserDetails(
+            claims.userId(),
+            null,
+            null,
+            List.of(new SimpleGrantedAuthority(claims.role().name())),
+            claims.active()
+        );
+    }
+
     @Override
     public String getUsername() {
         return id.toString();
@@ -5,12 +5,10 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -20,7 +18,8 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,10 +28,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                UUID userId = tokenProvider.getUserIdFromToken(jwt);
+            JwtVerificationResult verification = StringUtils.hasText(jwt) ? tokenProvider.verify(jwt) : null;
 
-                UserDetails userDetails = userDetailsService.loadUserById(userId);
+            boolean revoked = verification != null && verification.isValid()
+                && tokenRevocationRegistry.isRevoked(verification.claims());
+
+            CustomUserDetails userDetails = verification != null && verification.isValid() && !revoked
+                ? principalCache.getPrincipal(verification.claims())
+                : null;
+
+            if (revoked) {
+                log.warn("doFilterInternal. Revoked token rejected. User id: {}", verification.claims().userId());
+            } else if (userDetails != null && !userDetails.isEnabled()) {
+                log.warn("doFilterInternal. Inactive user rejected. User id: {}", userDetails.getId());
+            } else if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 
@@ -0,0 +1,23 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.entity.Role;
+import java.time.Instant;
+import java.util.UUID;
+
+public record JwtClaims(
+
+    UUID userId,
+
+    Role role,
+
+    Boolean active,
+
+    Instant issuedAt,
+
+    Instant expiresAt
+
+) {
+    public boolean hasPrincipalClaims() {
+        return role != null && active != null;
+    }
+}
@@ -1,81 +1,149 @@
 package com.example.bankcards.security;
 
+import com.example.bankcards.entity.Role;
+import com.example.bankcards.utility.constant.JwtVerificationFailure;
+import com.github.benmanes.caffeine.cache.Cache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 import javax.crypto.SecretKey;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String ROLE_CLAIM = "role";
+    private static final String ACTIVE_CLAIM = "active";
+
+    private final Cache<String, JwtClaims> jwtVerificationCache;
+    private final ThreadLocal<MessageDigest> tokenDigests = ThreadLocal.withInitial(JwtTokenProvider::newTokenDigest);
+
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration}")
     private int jwtExpirationMs;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
     }
 
     public String generateToken(Authentication authentication) {
-        CustomUserDetails userPrincipal = (CustomUserDetails) authentication.getPrincipal();
+        return generateToken((CustomUserDetails) authentication.getPrincipal());
+    }
+
+    public String generateToken(CustomUserDetails userPrincipal) {
         log.debug("generateToken. Generating JWT token for user: {}", userPrincipal.getId());
 
         String token = Jwts.builder()
             .setSubject(userPrincipal.getId().toString())
+            .claim(ROLE_CLAIM, getRole(userPrincipal).name())
+            .claim(ACTIVE_CLAIM, userPrincipal.isEnabled())
             .setIssuedAt(new Date())
             .setExpiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
 
-        log.debug("getSigningKey. JWT token generated successfully for user: {}", userPrincipal.getId());
+        log.debug("generateToken. JWT token generated successfully for user: {}", userPrincipal.getId());
         return token;
     }
 
-    public UUID getUserIdFromToken(String token) {
-        log.debug("getUserIdFromToken. Extracting user ID from JWT token");
-
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    public JwtVerificationResult verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return JwtVerificationResult.failure(JwtVerificationFailure.EMPTY);
+        }
 
-        UUID userId = UUID.fromString(claims.getSubject());
-        log.debug("User ID extracted from token: {}", userId);
-        return userId;
-    }
+        String tokenDigest = getTokenDigest(token);
+        JwtClaims cachedClaims = jwtVerificationCache.getIfPresent(tokenDigest);
+        if (cachedClaims != null && cachedClaims.expiresAt().isAfter(Instant.now())) {
+            return JwtVerificationResult.success(cachedClaims);
+        }
 
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
-        } catch (SecurityException e) {
-            log.error("validateToken. Invalid JWT signature: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.error("validateToken. Invalid JWT token: {}", e.getMessage());
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            JwtClaims jwtClaims = new JwtClaims(
+                UUID.fromString(claims.getSubject()),
+                toRole(claims.get(ROLE_CLAIM, String.class)),
+                claims.get(ACTIVE_CLAIM, Boolean.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration())
+            );
+
+            if (jwtClaims.expiresAt() != null) {
+                jwtVerificationCache.put(tokenDigest, jwtClaims);
+            }
+            return JwtVerificationResult.success(jwtClaims);
         } catch (ExpiredJwtException e) {
-            log.error("validateToken. JWT token is expired: {}", e.getMessage());
+            return reject(JwtVerificationFailure.EXPIRED, e);
+        } catch (SecurityException e) {
+            return reject(JwtVerificationFailure.INVALID_SIGNATURE, e);
         } catch (UnsupportedJwtException e) {
-            log.error("validateToken. JWT token is unsupported: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("validateToken. JWT claims string is empty: {}", e.getMessage());
+            return reject(JwtVerificationFailure.UNSUPPORTED, e);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            return reject(JwtVerificationFailure.MALFORMED, e);
+        }
+    }
+
+    private JwtVerificationResult reject(JwtVerificationFailure failure, Exception e) {
+        log.warn("verify. JWT token rejected. Reason: {}, message: {}", failure, e.getMessage());
+        return JwtVerificationResult.failure(failure);
+    }
+
+    private String getTokenDigest(String token) {
+        return Base64.getEncoder().encodeToString(
+            tokenDigests.get().digest(token.getBytes(StandardCharsets.US_ASCII))
+        );
+    }
+
+    private Role getRole(CustomUserDetails userPrincipal) {
+        return userPrincipal.getAuthorities().stream()
+            .map(authority -> Role.valueOf(authority.getAuthority()))
+            .findFirst()
+            .orElse(Role.ROLE_USER);
+    }
+
+    private Role toRole(String role) {
+        return role != null ? Role.valueOf(role) : null;
+    }
+
+    private Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    private static MessageDigest newTokenDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Token digest algorithm is not available", e);
         }
-        return false;
     }
 }
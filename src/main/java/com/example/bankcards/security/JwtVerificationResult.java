@@ -0,0 +1,23 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.utility.constant.JwtVerificationFailure;
+
+public record JwtVerificationResult(
+
+    JwtClaims claims,
+
+    JwtVerificationFailure failure
+
+) {
+    public static JwtVerificationResult success(JwtClaims claims) {
+        return new JwtVerificationResult(claims, null);
+    }
+
+    public static JwtVerificationResult failure(JwtVerificationFailure failure) {
+        return new JwtVerificationResult(null, failure);
+    }
+
+    public boolean isValid() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    private ThreadPoolExecutor executor;
+    private Timer waitTimer;
+    private Counter rejectedCounter;
+
+    @Value("${app.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${app.password-hashing.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    @PostConstruct
+    public void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger workerIndex = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+            poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> new Thread(runnable, "password-hashing-" + workerIndex.getAndIncrement()),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        waitTimer = Timer.builder("password.hashing.wait").register(meterRegistry);
+        rejectedCounter = meterRegistry.counter("password.hashing.rejected");
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+            .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+            .register(meterRegistry);
+
+        log.info("start. Password hashing executor started. Threads: {}, queue capacity: {}", poolSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+    }
+
+    public <T> T execute(Supplier<T> hashingTask) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashingTask.get();
+            });
+        } catch (RejectedExecutionException e) {
+            throw reject("queue_full");
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw reject("timeout");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private ServiceUnavailableException reject(String reason) {
+        rejectedCounter.increment();
+        log.warn("execute. Password hashing rejected. Reason: {}, queue size: {}", reason, executor.getQueue().size());
+        return new ServiceUnavailableException(ErrorMessagesConstant.PASSWORD_HASHING_OVERLOADED);
+    }
+
+}
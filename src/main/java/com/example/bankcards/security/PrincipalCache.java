@@ -0,0 +1,68 @@
+package com.example.bankcards.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCache {
+
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<UUID, CustomUserDetails> principalCache;
+    private final Cache<UUID, Instant> principalChangeCache;
+
+    public CustomUserDetails getPrincipal(JwtClaims claims) {
+        UUID userId = claims.userId();
+
+        if (claims.hasPrincipalClaims() && !isChangedSince(userId, claims.issuedAt())) {
+            return CustomUserDetails.create(claims);
+        }
+
+        return principalCache.get(userId, id -> {
+            log.debug("getPrincipal. Principal cache miss, loading user. User id: {}", id);
+            return (CustomUserDetails) userDetailsService.loadUserById(id);
+        });
+    }
+
+    public void evict(UUID userId) {
+        principalCache.invalidate(userId);
+        afterCommit(() -> principalCache.invalidate(userId));
+    }
+
+    public void invalidate(UUID userId) {
+        markChanged(userId);
+        afterCommit(() -> markChanged(userId));
+        log.debug("invalidate. Principal invalidated. User id: {}", userId);
+    }
+
+    private boolean isChangedSince(UUID userId, Instant issuedAt) {
+        Instant changedAt = principalChangeCache.getIfPresent(userId);
+        return changedAt != null && (issuedAt == null || !issuedAt.isAfter(changedAt));
+    }
+
+    private void markChanged(UUID userId) {
+        principalChangeCache.put(userId, Instant.now());
+        principalCache.invalidate(userId);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.example.bankcards.security;
+
+import com.example.bankcards.entity.DeletedUser;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.DeletedUserRepository;
+import com.example.bankcards.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+    private final UserRepository userRepository;
+    private final DeletedUserRepository deletedUserRepository;
+    private final Map<UUID, Long> tokensValidAfter = new ConcurrentHashMap<>();
+
+    private LocalDateTime lastPolledAt;
+
+    @Value("${app.jwt.expiration}")
+    private long jwtExpirationMs;
+
+    @Value("${app.security.token-revocation.poll-overlap-ms:10000}")
+    private long pollOverlapMs;
+
+    public boolean isRevoked(JwtClaims claims) {
+        Long validAfter = tokensValidAfter.get(claims.userId());
+        return validAfter != null
+            && (claims.issuedAt() == null || claims.issuedAt().getEpochSecond() <= validAfter);
+    }
+
+    public LocalDateTime newWatermark() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public void revoke(UUID userId, LocalDateTime validAfter) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyWatermark(userId, validAfter);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyWatermark(userId, validAfter);
+            }
+        });
+    }
+
+    public void revokeDeletedUser(UUID userId) {
+        LocalDateTime deletedAt = newWatermark();
+        deletedUserRepository.save(DeletedUser.builder()
+            .userId(userId)
+            .deletedAt(deletedAt)
+            .build());
+
+        revoke(userId, deletedAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWatermarks() {
+        pollWatermarks();
+        log.info("loadWatermarks. Token revocation watermarks loaded: {}", tokensValidAfter.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.token-revocation.poll-interval-ms:1000}")
+    public synchronized void pollWatermarks() {
+        LocalDateTime pollStartedAt = LocalDateTime.now();
+        LocalDateTime since = lastPolledAt == null
+            ? pollStartedAt.minus(jwtExpirationMs, ChronoUnit.MILLIS)
+            : lastPolledAt.minus(pollOverlapMs, ChronoUnit.MILLIS);
+
+        try {
+            List<User> users = userRepository.findAllByTokensValidAfterGreaterThan(since);
+            List<DeletedUser> deletedUsers = deletedUserRepository.findAllByDeletedAtGreaterThan(since);
+            users.forEach(user -> applyWatermark(user.getId(), user.getTokensValidAfter()));
+            deletedUsers.forEach(deletedUser -> applyWatermark(deletedUser.getUserId(), deletedUser.getDeletedAt()));
+            lastPolledAt = pollStartedAt;
+
+            if (!users.isEmpty() || !deletedUsers.isEmpty()) {
+                log.debug("pollWatermarks. Token revocation watermarks updated: {}, deleted users: {}",
+                    users.size(), deletedUsers.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("pollWatermarks. Failed to poll token revocation watermarks since: {}", since, e);
+        }
+
+        long expiredBefore = toEpochSecond(pollStartedAt.minus(jwtExpirationMs, ChronoUnit.MILLIS));
+        tokensValidAfter.values().removeIf(validAfter -> validAfter < expiredBefore);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.security.token-revocation.cleanup-interval-ms:3600000}",
+        fixedDelayString = "${app.security.token-revocation.cleanup-interval-ms:3600000}"
+    )
+    public void deleteExpiredDeletedUsers() {
+        int deletedRows = deletedUserRepository.deleteAllByDeletedAtBefore(
+            LocalDateTime.now().minus(jwtExpirationMs, ChronoUnit.MILLIS)
+        );
+
+        log.info("deleteExpiredDeletedUsers. Expired deleted user watermarks removed: {}", deletedRows);
+    }
+
+    private void applyWatermark(UUID userId, LocalDateTime validAfter) {
+        tokensValidAfter.merge(userId, toEpochSecond(validAfter), Math::max);
+    }
+
+    private long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.example.bankcards.service;
 
 import com.example.bankcards.dto.request.AuthRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.request.UserRequest;
 import com.example.bankcards.dto.response.AuthResponse;
 
@@ -9,4 +10,6 @@ public interface AuthService {
     void registerNewUser(UserRequest userRequest);
 
     AuthResponse loginUser(AuthRequest authRequest);
+
+    AuthResponse refreshToken(RefreshTokenRequest refreshTokenRequest);
 }
@@ -0,0 +1,20 @@
+package com.example.bankcards.service;
+
+import com.example.bankcards.dto.request.CardHoldCaptureRequest;
+import com.example.bankcards.dto.request.CardHoldRequest;
+import com.example.bankcards.dto.response.CardHoldResponse;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.util.UUID;
+
+public interface CardHoldService {
+
+    CardHoldResponse createHold(UUID cardId, @Valid CardHoldRequest cardHoldRequest);
+
+    CardHoldResponse captureHold(UUID holdId, @Valid CardHoldCaptureRequest cardHoldCaptureRequest);
+
+    CardHoldResponse releaseHold(UUID holdId);
+
+    int expireHolds(@Min(1) Integer limit);
+
+}
@@ -0,0 +1,12 @@
+package com.example.bankcards.service;
+
+import com.example.bankcards.utility.constant.CardImportFormat;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface CardImportService {
+
+    void importCards(CardImportFormat format, InputStream inputStream, OutputStream outputStream) throws IOException;
+
+}
@@ -1,13 +1,18 @@
 package com.example.bankcards.service;
 
+import com.example.bankcards.dto.request.BatchTransferRequest;
 import com.example.bankcards.dto.request.CardRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.BatchTransferResponse;
 import com.example.bankcards.dto.response.CardBalanceResponse;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.PageResponse;
+import com.example.bankcards.dto.response.TransferItemResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface CardService {
@@ -16,6 +21,8 @@ public interface CardService {
 
     CardBalanceResponse getCardBalanceResponse(UUID cardId);
 
+    CardResponse getCardByCardNumber(String cardNumber);
+
     PageResponse<CardResponse> getUserCards(
         UUID userId, @Min(0) Integer currentPage, @Min(1) @Max(100) Integer limit, String search
     );
@@ -26,7 +33,17 @@ public interface CardService {
 
     CardResponse updateCardDetails(UUID cardId, @Valid CardRequest updateCardRequest);
 
-    void transferMoneyByTransferRequest(@Valid TransferRequest transferRequest);
+    UUID transferMoneyByTransferRequest(@Valid TransferRequest transferRequest);
+
+    UUID transferMoneyByTransferRequest(@Valid TransferRequest transferRequest, UUID transferId);
+
+    BatchTransferResponse transferMoneyBatch(@Valid BatchTransferRequest batchTransferRequest, UUID userId);
+
+    List<TransferItemResponse> applyTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId);
+
+    void updateBalanceSlots(UUID cardId, @Min(0) @Max(64) Integer slotCount);
+
+    void compactBalanceSlots(UUID cardId);
 
     void blockCardByCardId(UUID cardId);
 
@@ -0,0 +1,32 @@
+package com.example.bankcards.service;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.CursorPageResponse;
+import com.example.bankcards.dto.response.LedgerEntryResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+public interface LedgerService {
+
+    void recordTransfer(UUID transferId, UUID sourceCardId, UUID targetCardId, BigDecimal amount, String description);
+
+    void recordTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId);
+
+    boolean isTransferRecorded(UUID transferId);
+
+    void recordAdjustment(UUID cardId, BigDecimal balanceDelta);
+
+    void recordAdjustments(Map<UUID, BigDecimal> balanceDeltasByCardId);
+
+    CursorPageResponse<LedgerEntryResponse> getCardTransactions(
+        UUID cardId, Long cursor, @Min(1) @Max(100) Integer limit
+    );
+
+    BigDecimal getLedgerBalance(UUID cardId);
+
+    void takeBalanceSnapshots();
+
+}
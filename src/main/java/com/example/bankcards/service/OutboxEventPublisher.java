@@ -0,0 +1,10 @@
+package com.example.bankcards.service;
+
+import com.example.bankcards.dto.event.OutboxEventMessage;
+import java.util.List;
+
+public interface OutboxEventPublisher {
+
+    void publish(List<OutboxEventMessage> outboxEventMessages);
+
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.service;
+
+import com.example.bankcards.dto.request.TransferScheduleRequest;
+import com.example.bankcards.dto.response.TransferScheduleResponse;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+
+public interface TransferScheduleService {
+
+    TransferScheduleResponse createSchedule(@Valid TransferScheduleRequest transferScheduleRequest, UUID userId);
+
+    List<TransferScheduleResponse> getUserSchedules(UUID userId);
+
+    void cancelSchedule(UUID scheduleId);
+
+}
@@ -21,4 +21,6 @@ public interface UserService {
 
     void deleteUser(UUID userId);
 
+    void logoutAll(UUID userId);
+
 }
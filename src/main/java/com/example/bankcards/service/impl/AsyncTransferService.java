@@ -0,0 +1,275 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.dto.response.TransferResponse;
+import com.example.bankcards.entity.TransferRecord;
+import com.example.bankcards.entity.TransferStatus;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.exception.error.TransferNotFoundById;
+import com.example.bankcards.repository.TransferRecordRepository;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import com.example.bankcards.utility.mapper.TransferRecordMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AsyncTransferService {
+
+    private static final long WRITER_SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final CardService cardService;
+    private final TransferRecordRepository transferRecordRepository;
+    private final TransferRecordMapper transferRecordMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<Thread> writers = new ArrayList<>();
+
+    private volatile List<BlockingQueue<UUID>> partitions = List.of();
+    private volatile boolean running;
+
+    @Value("${app.transfer.async.partitions:4}")
+    private int partitionCount;
+
+    @Value("${app.transfer.async.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.transfer.async.max-batch-size:100}")
+    private int maxBatchSize;
+
+    @Value("${app.transfer.async.poll-timeout-ms:500}")
+    private long pollTimeoutMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        List<BlockingQueue<UUID>> startedPartitions = new ArrayList<>(partitionCount);
+        for (int partition = 0; partition < partitionCount; partition++) {
+            BlockingQueue<UUID> transferIds = new ArrayBlockingQueue<>(queueCapacity);
+            startedPartitions.add(transferIds);
+
+            Gauge.builder("transfer.async.queue.size", transferIds, BlockingQueue::size)
+                .tag("partition", String.valueOf(partition))
+                .register(meterRegistry);
+
+            writers.add(new Thread(() -> drainPartition(transferIds), "transfer-writer-" + partition));
+        }
+
+        partitions = List.copyOf(startedPartitions);
+        running = true;
+        writers.forEach(Thread::start);
+
+        log.info("start. Async transfer writers started. Partitions: {}, queue capacity: {}",
+            partitionCount, queueCapacity);
+        recoverPendingTransfers();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        writers.forEach(Thread::interrupt);
+
+        for (Thread writer : writers) {
+            try {
+                writer.join(WRITER_SHUTDOWN_TIMEOUT_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        writers.clear();
+        partitions = List.of();
+        log.info("stop. Async transfer writers stopped");
+    }
+
+    public TransferResponse submitTransfer(UUID userId, TransferRequest transferRequest) {
+        log.debug("submitTransfer. Entering method. User id: {}, {}", userId, transferRequest);
+
+        UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
+        UUID targetCardId = UUID.fromString(transferRequest.targetCardId());
+
+        if (sourceCardId.equals(targetCardId)) {
+            log.error("submitTransfer. Cannot transfer to same card: {}", sourceCardId);
+            throw new BadRequestException(ErrorMessagesConstant.TRANSFER_SAME_CARD);
+        }
+
+        if (!running) {
+            log.error("submitTransfer. Async transfer writers are not running");
+            throw new ServiceUnavailableException(ErrorMessagesConstant.TRANSFER_QUEUE_FULL);
+        }
+
+        BlockingQueue<UUID> partition = getPartition(sourceCardId);
+        TransferRecord transferRecord = transferRecordRepository.save(TransferRecord.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .sourceCardId(sourceCardId)
+            .targetCardId(targetCardId)
+            .amount(transferRequest.amount())
+            .description(transferRequest.description())
+            .build());
+        TransferResponse transferResponse = transferRecordMapper.toResponse(transferRecord);
+
+        if (!partition.offer(transferRecord.getId())) {
+            transferRecordRepository.delete(transferRecord);
+            meterRegistry.counter("transfer.async.queue.rejected").increment();
+            log.warn("submitTransfer. Transfer queue is full. Source card id: {}", sourceCardId);
+            throw new ServiceUnavailableException(ErrorMessagesConstant.TRANSFER_QUEUE_FULL);
+        }
+
+        log.info("submitTransfer. Transfer accepted. Transfer id: {}", transferRecord.getId());
+        return transferResponse;
+    }
+
+    public TransferResponse getTransfer(UUID transferId) {
+        log.debug("getTransfer. Entering method. Transfer id: {}", transferId);
+
+        TransferRecord transferRecord = transferRecordRepository.findById(transferId)
+            .orElseThrow(() -> {
+                log.error("getTransfer. Transfer not found with id {}", transferId);
+                return new TransferNotFoundById(
+                    ErrorMessagesConstant.TRANSFER_NOT_FOUND_BY_ID_MESSAGE.formatted(transferId)
+                );
+            });
+
+        return transferRecordMapper.toResponse(transferRecord);
+    }
+
+    private void recoverPendingTransfers() {
+        List<TransferRecord> pendingTransfers = transferRecordRepository.findAllByStatusOrderByCreatedAt(
+            TransferStatus.PENDING
+        );
+
+        int recoveredTransfers = 0;
+        for (TransferRecord transferRecord : pendingTransfers) {
+            if (getPartition(transferRecord.getSourceCardId()).offer(transferRecord.getId())) {
+                recoveredTransfers++;
+            }
+        }
+
+        log.info("recoverPendingTransfers. Pending transfers re-enqueued: {} of {}",
+            recoveredTransfers, pendingTransfers.size());
+    }
+
+    private BlockingQueue<UUID> getPartition(UUID sourceCardId) {
+        List<BlockingQueue<UUID>> currentPartitions = partitions;
+
+        if (currentPartitions.isEmpty()) {
+            log.error("getPartition. Async transfer writers are not running");
+            throw new ServiceUnavailableException(ErrorMessagesConstant.TRANSFER_QUEUE_FULL);
+        }
+
+        return currentPartitions.get(Math.floorMod(sourceCardId.hashCode(), currentPartitions.size()));
+    }
+
+    private void drainPartition(BlockingQueue<UUID> partition) {
+        List<UUID> transferIds = new ArrayList<>(maxBatchSize);
+
+        while (running) {
+            transferIds.clear();
+
+            try {
+                UUID transferId = partition.poll(pollTimeoutMs, TimeUnit.MILLISECONDS);
+                if (transferId == null) {
+                    continue;
+                }
+
+                transferIds.add(transferId);
+                partition.drainTo(transferIds, maxBatchSize - 1);
+                processTransfers(transferIds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void processTransfers(List<UUID> transferIds) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyTransfers(transferIds));
+        } catch (RuntimeException e) {
+            if (transferIds.size() == 1) {
+                rejectTransfer(transferIds.get(0), e);
+                return;
+            }
+
+            log.warn("processTransfers. Transfer group failed, applying one by one. Transfers count: {}",
+                transferIds.size(), e);
+            transferIds.forEach(transferId -> processTransfers(List.of(transferId)));
+        }
+    }
+
+    private void applyTransfers(List<UUID> transferIds) {
+        Map<UUID, TransferRecord> lockedTransfers = transferRecordRepository
+            .findAllByIdInAndStatusForUpdate(transferIds, TransferStatus.PENDING).stream()
+            .collect(Collectors.toMap(TransferRecord::getId, Function.identity()));
+
+        List<TransferRecord> pendingTransfers = transferIds.stream()
+            .distinct()
+            .map(lockedTransfers::get)
+            .filter(Objects::nonNull)
+            .toList();
+
+        if (pendingTransfers.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, TransferRequest> transferRequestsByTransferId = new LinkedHashMap<>();
+        pendingTransfers.forEach(transferRecord ->
+            transferRequestsByTransferId.put(transferRecord.getId(), transferRecord.toTransferRequest()));
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        for (int index = 0; index < pendingTransfers.size(); index++) {
+            TransferItemResponse result = results.get(index);
+
+            if (result.status() == TransferItemStatus.COMPLETED) {
+                pendingTransfers.get(index).complete();
+            } else {
+                pendingTransfers.get(index).reject(result.errorDescription());
+            }
+        }
+
+        log.debug("applyTransfers. Transfer group committed. Transfers count: {}", pendingTransfers.size());
+    }
+
+    private void rejectTransfer(UUID transferId, RuntimeException cause) {
+        log.error("rejectTransfer. Transfer could not be processed. Transfer id: {}", transferId, cause);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> transferRecordRepository.findById(transferId)
+                .filter(TransferRecord::isPending)
+                .ifPresent(transferRecord -> transferRecord.reject(ErrorMessagesConstant.TRANSFER_PROCESSING_FAILED)));
+        } catch (RuntimeException e) {
+            log.error("rejectTransfer. Transfer left pending. Transfer id: {}", transferId, e);
+        }
+    }
+
+}
@@ -2,15 +2,19 @@ package com.example.bankcards.service.impl;
 
 
 import com.example.bankcards.dto.request.AuthRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.request.UserRequest;
 import com.example.bankcards.dto.response.AuthResponse;
 import com.example.bankcards.entity.Role;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ServiceUnavailableException;
 import com.example.bankcards.exception.error.UserAlreadyExistsByEmailException;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.security.CustomUserDetails;
 import com.example.bankcards.security.JwtTokenProvider;
 import com.example.bankcards.service.AuthService;
+import com.example.bankcards.service.impl.RefreshTokenService.RotatedRefreshToken;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +34,7 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
 
     public void registerNewUser(UserRequest userRequest) {
         log.debug("registerNewUser. Attempting to register new user with email: {}", userRequest.email());
@@ -71,14 +76,30 @@ public class AuthServiceImpl implements AuthService {
             SecurityContextHolder.getContext().setAuthentication(authentication);
 
             String jwt = jwtTokenProvider.generateToken(authentication);
+            String refreshToken = refreshTokenService.issue(
+                ((CustomUserDetails) authentication.getPrincipal()).getId()
+            );
 
             log.info("loginUser. User logged is successfully. Email: {}", authRequest.email());
-            return new AuthResponse(jwt);
+            return new AuthResponse(jwt, refreshToken);
 
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             log.error("loginUser. Authentication failed for email: {}", authRequest.email(), e);
             throw new BadRequestException(ErrorMessagesConstant.INVALID_CREDENTIALS);
         }
     }
 
+    public AuthResponse refreshToken(RefreshTokenRequest refreshTokenRequest) {
+        log.debug("refreshToken. Attempting to refresh access token");
+
+        RotatedRefreshToken rotatedRefreshToken = refreshTokenService.rotate(refreshTokenRequest.refreshToken());
+        User user = rotatedRefreshToken.user();
+        String jwt = jwtTokenProvider.generateToken(CustomUserDetails.create(user));
+
+        log.info("refreshToken. Access token refreshed successfully. User id: {}", user.getId());
+        return new AuthResponse(jwt, rotatedRefreshToken.refreshToken());
+    }
+
 }
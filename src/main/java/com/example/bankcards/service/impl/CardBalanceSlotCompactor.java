@@ -0,0 +1,39 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.service.CardService;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardBalanceSlotCompactor {
+
+    private final CardService cardService;
+    private final CardBalanceSlotService cardBalanceSlotService;
+
+    @Scheduled(
+        initialDelayString = "${app.card.balance-slots.compaction-interval-ms:60000}",
+        fixedDelayString = "${app.card.balance-slots.compaction-interval-ms:60000}"
+    )
+    public void compactBalanceSlots() {
+        List<UUID> cardIds = cardBalanceSlotService.getCardIdsWithPendingBalance();
+        int compactedCards = 0;
+
+        for (UUID cardId : cardIds) {
+            try {
+                cardService.compactBalanceSlots(cardId);
+                compactedCards++;
+            } catch (RuntimeException e) {
+                log.error("compactBalanceSlots. Failed to compact balance slots. Card id: {}", cardId, e);
+            }
+        }
+
+        log.info("compactBalanceSlots. Balance slots compacted. Cards: {}/{}", compactedCards, cardIds.size());
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.entity.CardBalanceSlot;
+import com.example.bankcards.repository.CardBalanceSlotRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardBalanceSlotService {
+
+    private final CardBalanceSlotRepository cardBalanceSlotRepository;
+    private final Cache<UUID, Integer> cardBalanceSlotCountCache;
+    private final AtomicInteger slotCursor = new AtomicInteger();
+
+    public boolean isStriped(UUID cardId) {
+        return getSlotCount(cardId) > 0;
+    }
+
+    public boolean creditSlot(UUID cardId, BigDecimal amount) {
+        int slotCount = getSlotCount(cardId);
+
+        if (slotCount == 0) {
+            return false;
+        }
+
+        int slot = Math.floorMod(slotCursor.getAndIncrement(), slotCount);
+        boolean credited = cardBalanceSlotRepository.creditSlot(cardId, slot, amount) > 0;
+
+        if (!credited) {
+            log.warn("creditSlot. Balance slot not found, falling back to card row. Card id: {}, slot: {}",
+                cardId, slot);
+            cardBalanceSlotCountCache.invalidate(cardId);
+        }
+
+        return credited;
+    }
+
+    public BigDecimal foldSlots(UUID cardId) {
+        BigDecimal foldedBalance = cardBalanceSlotRepository.foldSlots(cardId);
+
+        log.debug("foldSlots. Balance slots folded. Card id: {}, amount: {}", cardId, foldedBalance);
+        return foldedBalance;
+    }
+
+    public BigDecimal getTotalBalance(UUID cardId) {
+        return cardBalanceSlotRepository.findTotalBalanceByCardId(cardId);
+    }
+
+    public List<UUID> getCardIdsWithPendingBalance() {
+        return cardBalanceSlotRepository.findCardIdsWithPendingBalance();
+    }
+
+    public void resizeSlots(UUID cardId, int slotCount) {
+        cardBalanceSlotRepository.deleteByCardId(cardId);
+
+        List<CardBalanceSlot> slots = IntStream.range(0, slotCount)
+            .mapToObj(slot -> CardBalanceSlot.builder()
+                .cardId(cardId)
+                .slot(slot)
+                .build())
+            .toList();
+
+        cardBalanceSlotRepository.saveAll(slots);
+        cardBalanceSlotCountCache.invalidate(cardId);
+
+        log.info("resizeSlots. Balance slots resized. Card id: {}, slot count: {}", cardId, slotCount);
+    }
+
+    private int getSlotCount(UUID cardId) {
+        return cardBalanceSlotCountCache.get(cardId, id -> (int) cardBalanceSlotRepository.countByCardId(id));
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.repository.CardRepository;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardFingerprintBackfiller {
+
+    private final CardRepository cardRepository;
+    private final CardHashService cardHashService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.card.fingerprint.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    @Scheduled(
+        initialDelayString = "${app.card.fingerprint.backfill-interval-ms:10000}",
+        fixedDelayString = "${app.card.fingerprint.backfill-interval-ms:10000}"
+    )
+    public void backfillFingerprints() {
+        if (cardHashService.isFingerprintBackfillComplete()) {
+            return;
+        }
+
+        int keyVersion = cardHashService.getFingerprintKeyVersion();
+        int backfilledCards = 0;
+
+        try {
+            Integer batchSize;
+            do {
+                batchSize = transactionTemplate.execute(status -> backfillBatch(keyVersion));
+                backfilledCards += batchSize;
+            } while (batchSize == backfillBatchSize);
+
+            if (cardRepository.countWithStaleFingerprint(keyVersion) == 0) {
+                cardHashService.markFingerprintBackfillComplete();
+                log.info("backfillFingerprints. Card fingerprints are up to date. Key version: {}", keyVersion);
+            }
+        } catch (RuntimeException e) {
+            log.error("backfillFingerprints. Failed to backfill card fingerprints. Backfilled before failure: {}",
+                backfilledCards, e);
+            return;
+        }
+
+        if (backfilledCards > 0) {
+            log.info("backfillFingerprints. Card fingerprints backfilled: {}, key version: {}",
+                backfilledCards, keyVersion);
+        }
+    }
+
+    private int backfillBatch(int keyVersion) {
+        Map<UUID, String> keyedQuickHashesByCardId = new LinkedHashMap<>();
+        cardRepository.findLegacyQuickHashesForUpdate(backfillBatchSize).forEach((cardId, legacyQuickHash) ->
+            keyedQuickHashesByCardId.put(cardId, cardHashService.getQuickHashByLegacyQuickHash(legacyQuickHash)));
+        cardRepository.updateQuickHashesInBatch(keyedQuickHashesByCardId);
+
+        Map<UUID, String> quickHashesByCardId = new LinkedHashMap<>(keyedQuickHashesByCardId);
+
+        if (quickHashesByCardId.size() < backfillBatchSize) {
+            quickHashesByCardId.putAll(cardRepository.findQuickHashesWithStaleFingerprintForUpdate(
+                keyVersion, backfillBatchSize - quickHashesByCardId.size()
+            ));
+        }
+
+        Map<UUID, String> fingerprintsByCardId = new LinkedHashMap<>();
+        quickHashesByCardId.forEach((cardId, quickHash) ->
+            fingerprintsByCardId.put(cardId, cardHashService.getFingerprintByQuickHash(quickHash)));
+
+        cardRepository.updateFingerprintsInBatch(fingerprintsByCardId, keyVersion);
+        return fingerprintsByCardId.size();
+    }
+
+}
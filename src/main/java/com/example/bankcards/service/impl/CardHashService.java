@@ -3,45 +3,247 @@ package com.example.bankcards.service.impl;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.repository.CardRepository;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
-import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class CardHashService {
 
-    private final PasswordEncoder passwordEncoder;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int HASH_LENGTH = 32;
+    private static final int ENCODED_HASH_LENGTH = 44;
+    private static final Base64.Encoder ENCODER = Base64.getEncoder();
+    private static final Base64.Decoder DECODER = Base64.getDecoder();
+
     private final CardRepository cardRepository;
-    private MessageDigest sha256Digest;
+    private final CardNumberFilter cardNumberFilter;
+    private final ThreadLocal<HashContext> hashContexts = ThreadLocal.withInitial(HashContext::new);
+    private volatile boolean fingerprintBackfillComplete;
 
-    {
-        try {
-            sha256Digest = MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException(e);
-        }
+    @Value("${app.card.quick-hash.key}")
+    private String quickHashKey;
+
+    @Value("${app.card.fingerprint.key}")
+    private String fingerprintKey;
+
+    @Value("${app.card.fingerprint.key-version:1}")
+    private int fingerprintKeyVersion;
+
+    public String getQuickHash(String cardNumber) {
+        HashContext hashContext = hashContexts.get();
+        hashContext.digest(cardNumber);
+        hashContext.keyDigest(quickHashKey);
+        return hashContext.encode(hashContext.digest);
     }
 
-    public String hashCardNumber(String cardNumber) {
-        return passwordEncoder.encode(cardNumber);
+    public String getLegacyQuickHash(String cardNumber) {
+        HashContext hashContext = hashContexts.get();
+        hashContext.digest(cardNumber);
+        return hashContext.encode(hashContext.digest);
     }
 
-    public String getQuickHash(String cardNumber) {
-        byte[] hash = sha256Digest.digest(cardNumber.getBytes(StandardCharsets.UTF_8));
-        return Base64.getEncoder().encodeToString(hash);
+    public String getQuickHashByLegacyQuickHash(String legacyQuickHash) {
+        HashContext hashContext = hashContexts.get();
+        hashContext.decode(legacyQuickHash);
+        hashContext.keyDigest(quickHashKey);
+        return hashContext.encode(hashContext.digest);
+    }
+
+    public String getFingerprint(String cardNumber) {
+        HashContext hashContext = hashContexts.get();
+        hashContext.digest(cardNumber);
+        hashContext.keyDigest(quickHashKey);
+        return hashContext.encode(hashContext.fingerprint(fingerprintKey));
+    }
+
+    public String getFingerprintByQuickHash(String quickHash) {
+        HashContext hashContext = hashContexts.get();
+        hashContext.decode(quickHash);
+        return hashContext.encode(hashContext.fingerprint(fingerprintKey));
+    }
+
+    public int getFingerprintKeyVersion() {
+        return fingerprintKeyVersion;
+    }
+
+    public boolean isFingerprintBackfillComplete() {
+        return fingerprintBackfillComplete;
+    }
+
+    public void markFingerprintBackfillComplete() {
+        if (fingerprintBackfillComplete) {
+            return;
+        }
+
+        cardNumberFilter.rebuild();
+        fingerprintBackfillComplete = true;
     }
 
     public boolean isCardNumberUnique(String cardNumber) {
-        String quickHash = getQuickHash(cardNumber);
-        List<Card> potentialMatches = cardRepository.findByQuickHash(quickHash);
+        boolean backfillComplete = fingerprintBackfillComplete;
+        HashContext hashContext = hashContexts.get();
+        hashContext.digest(cardNumber);
+        String legacyQuickHash = backfillComplete ? null : hashContext.encode(hashContext.digest);
+        hashContext.keyDigest(quickHashKey);
+        String quickHash = hashContext.encode(hashContext.digest);
+
+        if (backfillComplete && cardNumberFilter.isDefinitelyAbsent(quickHash)) {
+            return true;
+        }
+
+        if (cardRepository.existsByCardFingerprint(hashContext.encode(hashContext.fingerprint(fingerprintKey)))) {
+            return false;
+        }
+
+        if (!backfillComplete) {
+            return !cardRepository.existsByQuickHashWithStaleFingerprint(
+                quickHash, legacyQuickHash, fingerprintKeyVersion
+            );
+        }
+
+        cardNumberFilter.recordFalsePositive();
+        return true;
+    }
+
+    public Optional<Card> findCardByCardNumber(String cardNumber) {
+        boolean backfillComplete = fingerprintBackfillComplete;
+        HashContext hashContext = hashContexts.get();
+        hashContext.digest(cardNumber);
+        String legacyQuickHash = backfillComplete ? null : hashContext.encode(hashContext.digest);
+        hashContext.keyDigest(quickHashKey);
+        String quickHash = hashContext.encode(hashContext.digest);
+
+        Optional<Card> card = cardRepository.findByCardFingerprint(
+            hashContext.encode(hashContext.fingerprint(fingerprintKey))
+        );
+        if (card.isPresent() || backfillComplete) {
+            return card;
+        }
+
+        return cardRepository.findByQuickHashWithStaleFingerprint(quickHash, legacyQuickHash, fingerprintKeyVersion);
+    }
+
+    public boolean isQuickHashDefinitelyAbsent(String quickHash) {
+        return fingerprintBackfillComplete && cardNumberFilter.isDefinitelyAbsent(quickHash);
+    }
+
+    public void recordCardAdded(String quickHash) {
+        cardNumberFilter.recordCardAdded(quickHash);
+    }
+
+    public void recordCardDeleted() {
+        cardNumberFilter.recordCardDeleted();
+    }
+
+    private static final class HashContext {
+
+        private final MessageDigest messageDigest;
+        private final Mac quickHashMac;
+        private final Mac fingerprintMac;
+        private final byte[] digest = new byte[HASH_LENGTH];
+        private final byte[] fingerprint = new byte[HASH_LENGTH];
+        private final byte[] encoded = new byte[ENCODED_HASH_LENGTH];
+        private byte[] input = new byte[ENCODED_HASH_LENGTH];
+        private String quickHashMacKey;
+        private String fingerprintMacKey;
+
+        private HashContext() {
+            try {
+                messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+                quickHashMac = Mac.getInstance(HMAC_ALGORITHM);
+                fingerprintMac = Mac.getInstance(HMAC_ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("Card hash algorithms are not available", e);
+            }
+        }
+
+        private void digest(String cardNumber) {
+            try {
+                if (copyAscii(cardNumber)) {
+                    messageDigest.update(input, 0, cardNumber.length());
+                } else {
+                    messageDigest.update(cardNumber.getBytes(StandardCharsets.UTF_8));
+                }
+                messageDigest.digest(digest, 0, HASH_LENGTH);
+            } catch (GeneralSecurityException e) {
+                messageDigest.reset();
+                throw new IllegalStateException("Card number hash could not be calculated", e);
+            }
+        }
+
+        private void decode(String quickHash) {
+            if (quickHash.length() != ENCODED_HASH_LENGTH) {
+                throw new IllegalArgumentException("Card quick hash is not a SHA-256 digest");
+            }
+
+            for (int i = 0; i < ENCODED_HASH_LENGTH; i++) {
+                encoded[i] = (byte) quickHash.charAt(i);
+            }
+            DECODER.decode(encoded, digest);
+        }
+
+        private void keyDigest(String key) {
+            try {
+                if (!key.equals(quickHashMacKey)) {
+                    quickHashMac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+                    quickHashMacKey = key;
+                }
+
+                quickHashMac.update(digest, 0, HASH_LENGTH);
+                quickHashMac.doFinal(digest, 0);
+            } catch (GeneralSecurityException e) {
+                quickHashMac.reset();
+                throw new IllegalStateException("Card quick hash could not be calculated", e);
+            }
+        }
+
+        private byte[] fingerprint(String key) {
+            try {
+                if (!key.equals(fingerprintMacKey)) {
+                    fingerprintMac.init(new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+                    fingerprintMacKey = key;
+                }
+
+                fingerprintMac.update(digest, 0, HASH_LENGTH);
+                fingerprintMac.doFinal(fingerprint, 0);
+                return fingerprint;
+            } catch (GeneralSecurityException e) {
+                fingerprintMac.reset();
+                throw new IllegalStateException("Card fingerprint could not be calculated", e);
+            }
+        }
+
+        private String encode(byte[] hash) {
+            int length = ENCODER.encode(hash, encoded);
+            return new String(encoded, 0, length, StandardCharsets.ISO_8859_1);
+        }
+
+        private boolean copyAscii(String value) {
+            int length = value.length();
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c > 0x7F) {
+                    return false;
+                }
+                input[i] = (byte) c;
+            }
+
+            return true;
+        }
 
-        return potentialMatches.stream()
-            .noneMatch(card -> passwordEncoder.matches(cardNumber, card.getCardNumberHash()));
     }
 
 }
@@ -0,0 +1,182 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.CardHoldCaptureRequest;
+import com.example.bankcards.dto.request.CardHoldRequest;
+import com.example.bankcards.dto.response.CardHoldResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardHold;
+import com.example.bankcards.entity.CardHoldStatus;
+import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.CardHoldNotFoundById;
+import com.example.bankcards.exception.error.CardNotFoundById;
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.repository.CardHoldRepository;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.service.CardHoldService;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.utility.comparator.PostgresUuidComparator;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.mapper.CardHoldMapper;
+import com.example.bankcards.utility.validator.CardValidator;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardHoldServiceImpl implements CardHoldService {
+
+    private final CardHoldRepository cardHoldRepository;
+    private final CardRepository cardRepository;
+    private final CardService cardService;
+    private final CardBalanceSlotService cardBalanceSlotService;
+    private final LedgerService ledgerService;
+    private final CardValidator cardValidator;
+    private final CardHoldMapper cardHoldMapper;
+
+    @Value("${app.card.holds.default-ttl-ms:604800000}")
+    private long defaultTtlMs;
+
+    @Transactional
+    public CardHoldResponse createHold(UUID cardId, CardHoldRequest cardHoldRequest) {
+        log.debug("createHold. Entering method. Card id: {}, amount: {}", cardId, cardHoldRequest.amount());
+
+        BigDecimal amount = cardHoldRequest.amount();
+        YearMonth currentMonth = YearMonth.now();
+        int updatedRows = cardRepository.holdFundsIfAvailable(cardId, amount, CardStatus.ACTIVE, currentMonth);
+
+        if (updatedRows == 0 && cardBalanceSlotService.isStriped(cardId)) {
+            cardService.compactBalanceSlots(cardId);
+            updatedRows = cardRepository.holdFundsIfAvailable(cardId, amount, CardStatus.ACTIVE, currentMonth);
+        }
+
+        if (updatedRows == 0) {
+            cardValidator.validateCardForTransfer(getCardByCardId(cardId));
+
+            log.error("createHold. Hold failed, insufficient balance : {}", cardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+
+        LocalDateTime expiresAt = cardHoldRequest.expiresAt() != null
+            ? cardHoldRequest.expiresAt()
+            : LocalDateTime.now().plus(defaultTtlMs, ChronoUnit.MILLIS);
+
+        CardHold cardHold = CardHold.builder()
+            .cardId(cardId)
+            .amount(amount)
+            .description(cardHoldRequest.description())
+            .expiresAt(expiresAt)
+            .build();
+
+        CardHold savedHold = cardHoldRepository.save(cardHold);
+
+        log.info("createHold. Card hold created. Hold id: {}, card id: {}", savedHold.getId(), cardId);
+        return cardHoldMapper.toResponse(savedHold);
+    }
+
+    @Transactional
+    public CardHoldResponse captureHold(UUID holdId, CardHoldCaptureRequest cardHoldCaptureRequest) {
+        log.debug("captureHold. Entering method. Hold id: {}", holdId);
+
+        CardHold cardHold = getActiveHoldForUpdate(holdId);
+
+        if (cardHold.isExpired(LocalDateTime.now())) {
+            log.error("captureHold. Card hold has expired. Hold id: {}", holdId);
+            throw new ConflictException(ErrorMessagesConstant.CARD_HOLD_EXPIRED.formatted(holdId));
+        }
+
+        BigDecimal capturedAmount = cardHoldCaptureRequest == null || cardHoldCaptureRequest.amount() == null
+            ? cardHold.getAmount()
+            : cardHoldCaptureRequest.amount();
+
+        if (capturedAmount.compareTo(cardHold.getAmount()) > 0) {
+            log.error("captureHold. Captured amount exceeds held amount. Hold id: {}", holdId);
+            throw new BadRequestException(ErrorMessagesConstant.CARD_HOLD_CAPTURE_EXCEEDS_AMOUNT.formatted(holdId));
+        }
+
+        UUID cardId = cardHold.getCardId();
+        if (cardRepository.captureHeldFunds(cardId, cardHold.getAmount(), capturedAmount) == 0) {
+            log.error("captureHold. Capture failed, insufficient balance : {}", cardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+
+        cardHold.capture(capturedAmount);
+        ledgerService.recordAdjustment(cardId, capturedAmount.negate());
+
+        log.info("captureHold. Card hold captured. Hold id: {}, amount: {}", holdId, capturedAmount);
+        return cardHoldMapper.toResponse(cardHold);
+    }
+
+    @Transactional
+    public CardHoldResponse releaseHold(UUID holdId) {
+        log.debug("releaseHold. Entering method. Hold id: {}", holdId);
+
+        CardHold cardHold = getActiveHoldForUpdate(holdId);
+
+        cardRepository.releaseHeldFunds(cardHold.getCardId(), cardHold.getAmount());
+        cardHold.release();
+
+        log.info("releaseHold. Card hold released. Hold id: {}", holdId);
+        return cardHoldMapper.toResponse(cardHold);
+    }
+
+    @Transactional
+    public int expireHolds(Integer limit) {
+        List<CardHold> expiredHolds = cardHoldRepository.findExpiredForUpdateSkipLocked(
+            CardHoldStatus.ACTIVE.getCode(), LocalDateTime.now(), limit
+        );
+
+        Map<UUID, BigDecimal> heldAmountsByCardId = new TreeMap<>(PostgresUuidComparator.INSTANCE);
+        for (CardHold cardHold : expiredHolds) {
+            cardHold.expire();
+            heldAmountsByCardId.merge(cardHold.getCardId(), cardHold.getAmount(), BigDecimal::add);
+        }
+
+        heldAmountsByCardId.forEach(cardRepository::releaseHeldFunds);
+
+        log.debug("expireHolds. Card holds expired: {}, cards: {}", expiredHolds.size(), heldAmountsByCardId.size());
+        return expiredHolds.size();
+    }
+
+    private CardHold getActiveHoldForUpdate(UUID holdId) {
+        CardHold cardHold = cardHoldRepository.findByIdForUpdate(holdId)
+            .orElseThrow(() -> {
+                log.error("getActiveHoldForUpdate. Card hold not found with id {}", holdId);
+                return new CardHoldNotFoundById(
+                    ErrorMessagesConstant.CARD_HOLD_NOT_FOUND_BY_ID_MESSAGE.formatted(holdId)
+                );
+            });
+
+        if (!cardHold.isActive()) {
+            log.error("getActiveHoldForUpdate. Card hold is not active. Hold id: {}, status: {}",
+                holdId, cardHold.getStatus());
+            throw new ConflictException(ErrorMessagesConstant.CARD_HOLD_NOT_ACTIVE.formatted(
+                cardHold.getStatus().name().toLowerCase(), holdId
+            ));
+        }
+
+        return cardHold;
+    }
+
+    private Card getCardByCardId(UUID cardId) {
+        return cardRepository.findCardById(cardId)
+            .orElseThrow(() -> {
+                log.error("getCardByCardId. Card not found with id {}", cardId);
+                return new CardNotFoundById(ErrorMessagesConstant.CARD_NOT_FOUND_BY_ID_MESSAGE.formatted(cardId));
+            });
+    }
+
+}
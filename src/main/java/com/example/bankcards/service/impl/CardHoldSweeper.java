@@ -0,0 +1,43 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.service.CardHoldService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardHoldSweeper {
+
+    private final CardHoldService cardHoldService;
+
+    @Value("${app.card.holds.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    @Scheduled(
+        initialDelayString = "${app.card.holds.sweep-interval-ms:60000}",
+        fixedDelayString = "${app.card.holds.sweep-interval-ms:60000}"
+    )
+    public void expireHolds() {
+        int expiredHolds = 0;
+        int batchSize;
+
+        try {
+            do {
+                batchSize = cardHoldService.expireHolds(sweepBatchSize);
+                expiredHolds += batchSize;
+            } while (batchSize == sweepBatchSize);
+        } catch (RuntimeException e) {
+            log.error("expireHolds. Failed to expire card holds. Expired before failure: {}", expiredHolds, e);
+            return;
+        }
+
+        if (expiredHolds > 0) {
+            log.info("expireHolds. Card holds expired: {}", expiredHolds);
+        }
+    }
+
+}
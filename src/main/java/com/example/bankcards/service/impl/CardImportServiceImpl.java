@@ -0,0 +1,334 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.CardRequest;
+import com.example.bankcards.dto.response.CardImportItemResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.OutboxEventType;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.CardImportService;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.utility.constant.CardImportFormat;
+import com.example.bankcards.utility.constant.CardImportItemStatus;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardImportServiceImpl implements CardImportService {
+
+    private static final String CSV_HEADER = "cardNumber";
+    private static final String CSV_SEPARATOR = ",";
+    private static final int CSV_COLUMNS = 4;
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final CardRepository cardRepository;
+    private final UserRepository userRepository;
+    private final CardHashService cardHashService;
+    private final LedgerService ledgerService;
+    private final OutboxService outboxService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private ForkJoinPool hashPool;
+
+    @Value("${app.card.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.card.import.hash-parallelism:4}")
+    private int hashParallelism;
+
+    @PostConstruct
+    public void start() {
+        hashPool = new ForkJoinPool(hashParallelism);
+    }
+
+    @PreDestroy
+    public void stop() {
+        hashPool.shutdown();
+    }
+
+    public void importCards(CardImportFormat format, InputStream inputStream, OutputStream outputStream)
+        throws IOException {
+        log.debug("importCards. Entering method. Format: {}", format);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int lineNumber = 0;
+        int createdCount = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+
+            if (line.isBlank() || (lineNumber == 1 && format == CardImportFormat.CSV && line.startsWith(CSV_HEADER))) {
+                continue;
+            }
+
+            chunk.add(parseRow(format, lineNumber, line));
+            if (chunk.size() == chunkSize) {
+                createdCount += writeResults(importChunk(chunk), outputStream);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            createdCount += writeResults(importChunk(chunk), outputStream);
+        }
+
+        log.info("importCards. Card import finished. Lines read: {}, cards created: {}", lineNumber, createdCount);
+    }
+
+    private ImportRow parseRow(CardImportFormat format, int lineNumber, String line) {
+        try {
+            CardRequest cardRequest = format == CardImportFormat.CSV
+                ? parseCsvLine(line)
+                : objectMapper.readValue(line, CardRequest.class);
+
+            if (cardRequest == null) {
+                return new ImportRow(lineNumber, null, ErrorMessagesConstant.CARD_IMPORT_LINE_MALFORMED);
+            }
+
+            return new ImportRow(lineNumber, cardRequest, validate(cardRequest));
+        } catch (JsonProcessingException | DateTimeParseException | IllegalArgumentException e) {
+            return new ImportRow(lineNumber, null, ErrorMessagesConstant.CARD_IMPORT_LINE_MALFORMED);
+        }
+    }
+
+    private CardRequest parseCsvLine(String line) {
+        String[] columns = line.split(CSV_SEPARATOR, -1);
+
+        if (columns.length != CSV_COLUMNS) {
+            throw new IllegalArgumentException(ErrorMessagesConstant.CARD_IMPORT_LINE_MALFORMED);
+        }
+
+        return new CardRequest(
+            columns[0].strip(),
+            columns[1].isBlank() ? null : YearMonth.parse(columns[1].strip()),
+            columns[2].strip(),
+            columns[3].isBlank() ? null : new BigDecimal(columns[3].strip())
+        );
+    }
+
+    private String validate(CardRequest cardRequest) {
+        String errorDescription = getViolationMessages(validator.validate(cardRequest));
+
+        if (errorDescription == null) {
+            errorDescription = getViolationMessages(
+                validator.validateValue(Card.class, "expiryDate", cardRequest.expiryDate())
+            );
+        }
+
+        return errorDescription;
+    }
+
+    private String getViolationMessages(Set<? extends ConstraintViolation<?>> violations) {
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private List<ImportRow> importChunk(List<ImportRow> rows) {
+        List<ImportRow> validRows = rows.stream().filter(ImportRow::isPending).toList();
+
+        hashPool.submit(() -> validRows.parallelStream().forEach(row -> {
+            row.quickHash = cardHashService.getQuickHash(row.cardRequest.cardNumber());
+            row.fingerprint = cardHashService.getFingerprintByQuickHash(row.quickHash);
+        })).join();
+
+        insertRows(validRows);
+        return rows;
+    }
+
+    private void insertRows(List<ImportRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(rows));
+        } catch (DataIntegrityViolationException e) {
+            rows.forEach(row -> row.cardId = null);
+
+            if (rows.size() == 1) {
+                log.warn("insertRows. Card was inserted concurrently. Line: {}", rows.get(0).line);
+                rows.get(0).reject(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER);
+                return;
+            }
+
+            log.warn("insertRows. Chunk insert conflicted, inserting one by one. Rows count: {}", rows.size(), e);
+            rows.stream().filter(ImportRow::isPending).forEach(row -> insertRows(List.of(row)));
+        } catch (RuntimeException e) {
+            log.error("insertRows. Chunk insert failed. Rows count: {}", rows.size(), e);
+            rows.forEach(row -> {
+                row.cardId = null;
+                row.reject(ErrorMessagesConstant.CARD_IMPORT_FAILED);
+            });
+        }
+    }
+
+    private void insertChunk(List<ImportRow> rows) {
+        List<ImportRow> pendingRows = rows.stream().filter(ImportRow::isPending).toList();
+        int keyVersion = cardHashService.getFingerprintKeyVersion();
+
+        List<ImportRow> candidateRows = pendingRows.stream()
+            .filter(row -> !cardHashService.isQuickHashDefinitelyAbsent(row.quickHash))
+            .toList();
+
+        Set<String> existingFingerprints = cardRepository.findExistingFingerprints(
+            candidateRows.stream().map(row -> row.fingerprint).toList()
+        );
+        Set<String> existingQuickHashes = Set.of();
+        if (!cardHashService.isFingerprintBackfillComplete()) {
+            candidateRows.forEach(row ->
+                row.legacyQuickHash = cardHashService.getLegacyQuickHash(row.cardRequest.cardNumber()));
+            existingQuickHashes = cardRepository.findExistingQuickHashesWithStaleFingerprint(
+                candidateRows.stream().map(row -> row.quickHash).toList(),
+                candidateRows.stream().map(row -> row.legacyQuickHash).toList(),
+                keyVersion
+            );
+        }
+        Set<UUID> existingOwnerIds = userRepository.findExistingIds(
+            pendingRows.stream().map(row -> UUID.fromString(row.cardRequest.ownerId())).collect(Collectors.toSet())
+        );
+
+        Set<String> chunkFingerprints = new HashSet<>();
+        List<Card> cards = new ArrayList<>(pendingRows.size());
+        Map<UUID, BigDecimal> balancesByCardId = new LinkedHashMap<>();
+
+        for (ImportRow row : pendingRows) {
+            UUID ownerId = UUID.fromString(row.cardRequest.ownerId());
+
+            if (existingFingerprints.contains(row.fingerprint) || existingQuickHashes.contains(row.quickHash)
+                || row.legacyQuickHash != null && existingQuickHashes.contains(row.legacyQuickHash)) {
+                row.reject(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER);
+                continue;
+            }
+
+            if (!existingOwnerIds.contains(ownerId)) {
+                row.reject(ErrorMessagesConstant.USER_NOT_FOUND_BY_ID_MESSAGE.formatted(ownerId));
+                continue;
+            }
+
+            if (!chunkFingerprints.add(row.fingerprint)) {
+                row.reject(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER);
+                continue;
+            }
+
+            Card card = Card.builder()
+                .id(UUID.randomUUID())
+                .quickHash(row.quickHash)
+                .cardFingerprint(row.fingerprint)
+                .fingerprintKeyVersion(keyVersion)
+                .maskedCardNumber(CardServiceImpl.maskCardNumber(row.cardRequest.cardNumber()))
+                .expiryDate(row.cardRequest.expiryDate())
+                .owner(User.builder().id(ownerId).build())
+                .balance(row.cardRequest.balance())
+                .build();
+
+            cards.add(card);
+            balancesByCardId.put(card.getId(), card.getBalance());
+            row.cardId = card.getId();
+        }
+
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        cardRepository.insertAllInBatch(cards);
+        cards.forEach(card -> cardHashService.recordCardAdded(card.getQuickHash()));
+        ledgerService.recordAdjustments(balancesByCardId);
+        outboxService.recordCardEvents(OutboxEventType.CARD_CREATED, cards);
+        log.debug("insertChunk. Cards inserted. Cards count: {}", cards.size());
+    }
+
+    private int writeResults(List<ImportRow> rows, OutputStream outputStream) throws IOException {
+        int createdCount = 0;
+
+        for (ImportRow row : rows) {
+            CardImportItemResponse itemResponse = row.toResponse();
+            outputStream.write(objectMapper.writeValueAsBytes(itemResponse));
+            outputStream.write(LINE_SEPARATOR);
+
+            meterRegistry.counter("card.import.lines", "status", itemResponse.status().name()).increment();
+            if (itemResponse.status() == CardImportItemStatus.CREATED) {
+                createdCount++;
+            }
+        }
+
+        outputStream.flush();
+        return createdCount;
+    }
+
+    private static final class ImportRow {
+
+        private final int line;
+        private final CardRequest cardRequest;
+        private String errorDescription;
+        private String quickHash;
+        private String legacyQuickHash;
+        private String fingerprint;
+        private UUID cardId;
+
+        private ImportRow(int line, CardRequest cardRequest, String errorDescription) {
+            this.line = line;
+            this.cardRequest = cardRequest;
+            this.errorDescription = errorDescription;
+        }
+
+        private boolean isPending() {
+            return errorDescription == null && cardId == null;
+        }
+
+        private void reject(String errorDescription) {
+            this.errorDescription = errorDescription;
+        }
+
+        private CardImportItemResponse toResponse() {
+            return cardId != null
+                ? new CardImportItemResponse(line, cardId, CardImportItemStatus.CREATED, null)
+                : new CardImportItemResponse(line, null, CardImportItemStatus.REJECTED, errorDescription);
+        }
+
+    }
+
+}
@@ -0,0 +1,224 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.utility.filter.ScalableBloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardNumberFilter {
+
+    private final CardRepository cardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile ScalableBloomFilter filter;
+    private volatile ScalableBloomFilter rebuildingFilter;
+    private LocalDateTime lastPolledAt;
+
+    @Value("${app.card.filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.card.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.card.filter.initial-capacity:1000000}")
+    private long initialCapacity;
+
+    @Value("${app.card.filter.rebuild-deleted-ratio:0.2}")
+    private double rebuildDeletedRatio;
+
+    @Value("${app.card.filter.fetch-size:10000}")
+    private int fetchSize;
+
+    @Value("${app.card.filter.poll-overlap-ms:10000}")
+    private long pollOverlapMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        registerGauge("card.filter.entries", ScalableBloomFilter::size);
+        registerGauge("card.filter.layers", ScalableBloomFilter::getLayerCount);
+        registerGauge("card.filter.false.positive.rate.expected", ScalableBloomFilter::getExpectedFalsePositiveRate);
+        Gauge.builder("card.filter.memory", this, cardNumberFilter -> {
+                ScalableBloomFilter currentFilter = cardNumberFilter.filter;
+                return currentFilter != null ? currentFilter.getMemoryBytes() : 0;
+            })
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("card.filter.false.positive.rate.observed", this, CardNumberFilter::getObservedFalsePositiveRate)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.card.filter.rebuild-check-interval-ms:300000}")
+    public void rebuildIfStale() {
+        ScalableBloomFilter currentFilter = filter;
+        if (!enabled || currentFilter == null) {
+            return;
+        }
+
+        if (deletedCount.get() > currentFilter.size() * rebuildDeletedRatio || currentFilter.getLayerCount() > 1) {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.card.filter.poll-interval-ms:1000}")
+    public synchronized void pollNewCards() {
+        if (!enabled || filter == null || lastPolledAt == null) {
+            return;
+        }
+
+        LocalDateTime pollStartedAt = LocalDateTime.now();
+        LocalDateTime since = lastPolledAt.minus(pollOverlapMs, ChronoUnit.MILLIS);
+
+        try {
+            List<String> quickHashes = cardRepository.findQuickHashesByCreatedAtAfter(since);
+            long addedCount = quickHashes.stream().filter(this::addIfAbsent).count();
+            lastPolledAt = pollStartedAt;
+
+            if (addedCount > 0) {
+                log.debug("pollNewCards. Cards created on other nodes added to filter: {}", addedCount);
+            }
+        } catch (RuntimeException e) {
+            log.error("pollNewCards. Failed to poll new cards since: {}", since, e);
+        }
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime rebuildStartedAt = LocalDateTime.now();
+        long deletedBeforeRebuild = deletedCount.get();
+        long cardsCount = cardRepository.count();
+        ScalableBloomFilter newFilter = new ScalableBloomFilter(
+            Math.max(initialCapacity, cardsCount * 2), falsePositiveRate
+        );
+
+        rebuildingFilter = newFilter;
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                cardRepository.streamQuickHashes(fetchSize, quickHash -> add(newFilter, quickHash)));
+
+            filter = newFilter;
+            lastPolledAt = rebuildStartedAt;
+            deletedCount.addAndGet(-deletedBeforeRebuild);
+            log.info("rebuild. Card number filter rebuilt. Entries: {}, memory: {} bytes, time: {} ms",
+                newFilter.size(), newFilter.getMemoryBytes(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("rebuild. Failed to rebuild card number filter", e);
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    public boolean isDefinitelyAbsent(String quickHash) {
+        ScalableBloomFilter currentFilter = filter;
+        if (currentFilter == null) {
+            return false;
+        }
+
+        ByteBuffer digest = ByteBuffer.wrap(Base64.getDecoder().decode(quickHash));
+        if (currentFilter.mightContain(digest.getLong(0), digest.getLong(Long.BYTES))) {
+            return false;
+        }
+
+        definiteMisses.increment();
+        return true;
+    }
+
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    public void recordCardAdded(String quickHash) {
+        addToFilters(quickHash);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addToFilters(quickHash);
+                }
+            });
+        }
+    }
+
+    public void recordCardDeleted() {
+        deletedCount.incrementAndGet();
+    }
+
+    private void addToFilters(String quickHash) {
+        ScalableBloomFilter pendingFilter = rebuildingFilter;
+        ScalableBloomFilter currentFilter = filter;
+
+        if (pendingFilter != null) {
+            add(pendingFilter, quickHash);
+        }
+        if (currentFilter != null && currentFilter != pendingFilter) {
+            add(currentFilter, quickHash);
+        }
+    }
+
+    private boolean addIfAbsent(String quickHash) {
+        ScalableBloomFilter currentFilter = filter;
+        ByteBuffer digest = ByteBuffer.wrap(Base64.getDecoder().decode(quickHash));
+
+        if (currentFilter.mightContain(digest.getLong(0), digest.getLong(Long.BYTES))) {
+            return false;
+        }
+
+        currentFilter.add(digest.getLong(0), digest.getLong(Long.BYTES));
+        return true;
+    }
+
+    private void add(ScalableBloomFilter targetFilter, String quickHash) {
+        ByteBuffer digest = ByteBuffer.wrap(Base64.getDecoder().decode(quickHash));
+        targetFilter.add(digest.getLong(0), digest.getLong(Long.BYTES));
+    }
+
+    private double getObservedFalsePositiveRate() {
+        long falsePositiveCount = falsePositives.sum();
+        long negativeCount = falsePositiveCount + definiteMisses.sum();
+        return negativeCount == 0 ? 0 : (double) falsePositiveCount / negativeCount;
+    }
+
+    private void registerGauge(String name, ToDoubleFunction<ScalableBloomFilter> value) {
+        Gauge.builder(name, this, cardNumberFilter -> {
+                ScalableBloomFilter currentFilter = cardNumberFilter.filter;
+                return currentFilter != null ? value.applyAsDouble(currentFilter) : 0;
+            })
+            .register(meterRegistry);
+    }
+
+}
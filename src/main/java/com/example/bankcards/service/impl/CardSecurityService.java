@@ -1,5 +1,6 @@
 package com.example.bankcards.service.impl;
 
+import com.example.bankcards.repository.CardHoldRepository;
 import com.example.bankcards.repository.CardRepository;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 public class CardSecurityService {
 
     private final CardRepository cardRepository;
+    private final CardHoldRepository cardHoldRepository;
 
     public boolean isCardOwner(UUID cardId) {
         try {
@@ -40,4 +42,28 @@ public class CardSecurityService {
         }
     }
 
+    public boolean isHoldOwner(UUID holdId) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            if (authentication == null || !authentication.isAuthenticated()) {
+                log.warn("Unauthenticated access attempt to card hold: {}", holdId);
+                return false;
+            }
+
+            UUID userId = UUID.fromString(authentication.getName());
+
+            boolean isOwner = cardHoldRepository.existsByIdAndCardOwnerId(holdId, userId);
+
+            log.debug("isHoldOwner. Card hold ownership check - holdId: {}, userId: {}, isOwner: {}",
+                holdId, userId, isOwner);
+
+            return isOwner;
+
+        } catch (Exception e) {
+            log.error("isHoldOwner. Error checking card hold ownership for holdId: {}", holdId, e);
+            return false;
+        }
+    }
+
 }
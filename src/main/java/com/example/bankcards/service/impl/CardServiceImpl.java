@@ -1,27 +1,54 @@
 package com.example.bankcards.service.impl;
 
+import com.example.bankcards.dto.request.BatchTransferRequest;
 import com.example.bankcards.dto.request.CardRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.BatchTransferResponse;
 import com.example.bankcards.dto.response.CardBalanceResponse;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.PageResponse;
+import com.example.bankcards.dto.response.TransferItemResponse;
 import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.entity.OutboxEventType;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.BadRequestException;
 import com.example.bankcards.exception.error.CardAlreadyExistsByCardNumberException;
+import com.example.bankcards.exception.error.CardNotFoundByCardNumber;
 import com.example.bankcards.exception.error.CardNotFoundById;
+import com.example.bankcards.exception.error.ConflictException;
 import com.example.bankcards.exception.error.UserNotFoundById;
 import com.example.bankcards.repository.CardRepository;
 import com.example.bankcards.repository.UserRepository;
 import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.utility.annotation.RetryOnOptimisticLock;
+import com.example.bankcards.utility.comparator.PostgresUuidComparator;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
 import com.example.bankcards.utility.mapper.CardMapper;
 import com.example.bankcards.utility.mapper.PageResponseMapper;
 import com.example.bankcards.utility.validator.CardValidator;
+import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +66,15 @@ public class CardServiceImpl implements CardService {
     private final CardMapper cardMapper;
     private final PageResponseMapper pageResponseMapper;
     private final CardValidator cardValidator;
+    private final LedgerService ledgerService;
+    private final CardBalanceSlotService cardBalanceSlotService;
+    private final OutboxService outboxService;
+    private final TransferCardContext transferCardContext;
+    private final TransferLimitService transferLimitService;
+    private final EntityManager entityManager;
+
+    @Value("${app.card.concurrency-mode:PESSIMISTIC}")
+    private CardConcurrencyMode cardConcurrencyMode;
 
     public CardResponse getCardDetails(UUID cardId) {
         log.debug("getCardDetails. Entering method. Card id: {}", cardId);
@@ -52,10 +88,25 @@ public class CardServiceImpl implements CardService {
         log.debug("getCardBalanceResponse. Entering method. Card id: {}", cardId);
 
         Card card = getCardByCardId(cardId);
-        BigDecimal cardBalance = card.getBalance();
+        BigDecimal cardBalance = card.isStriped()
+            ? cardBalanceSlotService.getTotalBalance(cardId)
+            : card.getBalance();
 
         log.info("getCardBalanceResponse. Card balance founded. Card id: {}", cardId);
-        return new CardBalanceResponse(cardBalance);
+        return new CardBalanceResponse(cardBalance, cardBalance.subtract(card.getHeldAmount()));
+    }
+
+    public CardResponse getCardByCardNumber(String cardNumber) {
+        log.debug("getCardByCardNumber. Entering method.");
+
+        Card card = cardHashService.findCardByCardNumber(cardNumber)
+            .orElseThrow(() -> {
+                log.warn("getCardByCardNumber. Card not found by card number");
+                return new CardNotFoundByCardNumber(ErrorMessagesConstant.CARD_NOT_FOUND_BY_CARD_NUMBER_MESSAGE);
+            });
+
+        log.info("getCardByCardNumber. Card founded by card number. Card id: {}", card.getId());
+        return cardMapper.toResponse(card);
     }
 
     public PageResponse<CardResponse> getUserCards(UUID userId, Integer currentPage, Integer limit, String search) {
@@ -114,11 +165,11 @@ public class CardServiceImpl implements CardService {
                 ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER);
         }
         String maskedCardNumber = maskCardNumber(cardNumber);
-        String cardNumberHash = cardHashService.hashCardNumber(cardNumber);
         String quickHash = cardHashService.getQuickHash(cardNumber);
 
         Card card = Card.builder()
-            .cardNumberHash(cardNumberHash)
+            .cardFingerprint(cardHashService.getFingerprintByQuickHash(quickHash))
+            .fingerprintKeyVersion(cardHashService.getFingerprintKeyVersion())
             .maskedCardNumber(maskedCardNumber)
             .quickHash(quickHash)
             .expiryDate(cardRequest.expiryDate())
@@ -127,31 +178,61 @@ public class CardServiceImpl implements CardService {
             .build();
 
         owner.addCard(card);
-        Card savedCard = cardRepository.save(card);
+        Card savedCard;
+
+        try {
+            savedCard = cardRepository.saveAndFlush(card);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("createNewCard. Card already exists, unique constraint violated. Owner id: {}", ownerId);
+            throw new CardAlreadyExistsByCardNumberException(
+                ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER);
+        }
+
+        cardHashService.recordCardAdded(quickHash);
+        ledgerService.recordAdjustment(savedCard.getId(), savedCard.getBalance());
+        outboxService.recordCardEvent(OutboxEventType.CARD_CREATED, savedCard);
 
         log.info("createNewCard. Card created successfully. Card id: {}", savedCard.getId());
         return cardMapper.toResponse(savedCard);
     }
 
     @Transactional
+    @RetryOnOptimisticLock
     public CardResponse updateCardDetails(UUID cardId, CardRequest updateCardRequest) {
         log.debug("updateCardDetails. Entering method. Card id: {}, request: {}", cardId, updateCardRequest);
 
-        Card card = getCardByCardId(cardId);
+        Card card = getCardForUpdate(cardId);
 
         cardValidator.validateCardForUpade(card);
+        foldBalanceSlots(card);
 
+        if (updateCardRequest.balance().compareTo(card.getHeldAmount()) < 0) {
+            log.error("updateCardDetails. Balance is below held amount. Card id: {}", cardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+
+        BigDecimal balanceDelta = updateCardRequest.balance().subtract(card.getBalance());
         card.setExpiryDate(updateCardRequest.expiryDate());
         card.setBalance(updateCardRequest.balance());
 
         Card updatedCard = cardRepository.save(card);
+        ledgerService.recordAdjustment(cardId, balanceDelta);
+        outboxService.recordCardEvent(OutboxEventType.CARD_UPDATED, updatedCard);
         log.info("updateCardDetails. Card updated successfully. Card id: {}", cardId);
         return cardMapper.toResponse(updatedCard);
     }
 
     @Transactional
-    public void transferMoneyByTransferRequest(TransferRequest transferRequest) {
-        log.debug("transferMoneyByTransferRequest. Entering method. Transfer request: {}", transferRequest);
+    @RetryOnOptimisticLock
+    public UUID transferMoneyByTransferRequest(TransferRequest transferRequest) {
+        return transferMoneyByTransferRequest(transferRequest, UUID.randomUUID());
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public UUID transferMoneyByTransferRequest(TransferRequest transferRequest, UUID transferId) {
+        log.debug("transferMoneyByTransferRequest. Entering method. Transfer id: {}, Transfer request: {}",
+            transferId, transferRequest);
 
         UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
         UUID targetCardId = UUID.fromString(transferRequest.targetCardId());
@@ -161,50 +242,124 @@ public class CardServiceImpl implements CardService {
             throw new BadRequestException(ErrorMessagesConstant.TRANSFER_SAME_CARD);
         }
 
-        Card sourceCard = getCardByCardId(sourceCardId);
-        Card targetCard = getCardByCardId(targetCardId);
-
-        cardValidator.validateCardsForTransfer(sourceCard, targetCard);
-
         BigDecimal amount = transferRequest.amount();
-        if (sourceCard.getBalance().compareTo(amount) < 0) {
-            log.error("transferMoneyByTransferRequest. Transfer failed, insufficient balance : {}", sourceCardId);
-            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        Map<UUID, Card> loadedCards = transferCardContext.takeCards();
+        transferLimitService.reserve(sourceCardId, getOwnerId(loadedCards, sourceCardId), amount);
+
+        if (cardConcurrencyMode == CardConcurrencyMode.ATOMIC) {
+            transferWithConditionalUpdates(sourceCardId, targetCardId, amount);
+        } else {
+            transferWithLoadedCards(sourceCardId, targetCardId, amount, loadedCards);
         }
 
-        sourceCard.setBalance(sourceCard.getBalance().subtract(amount));
-        targetCard.setBalance(targetCard.getBalance().add(amount));
-
-        cardRepository.save(sourceCard);
-        cardRepository.save(targetCard);
+        ledgerService.recordTransfer(transferId, sourceCardId, targetCardId, amount, transferRequest.description());
+        outboxService.recordTransfer(transferId, sourceCardId, targetCardId, amount, transferRequest.description());
 
         log.info("transferMoneyByTransferRequest. Transfer completed successfully. From: {}, To: {}, Amount: {}",
             sourceCardId, targetCardId, amount);
+        return transferId;
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public BatchTransferResponse transferMoneyBatch(BatchTransferRequest batchTransferRequest, UUID userId) {
+        log.debug("transferMoneyBatch. Entering method. User id: {}, {}", userId, batchTransferRequest);
+
+        List<TransferRequest> transferRequests = batchTransferRequest.transfers();
+        Set<UUID> cardIds = transferRequests.stream()
+            .flatMap(transferRequest -> Stream.of(transferRequest.sourceCardId(), transferRequest.targetCardId()))
+            .map(UUID::fromString)
+            .collect(Collectors.toSet());
+
+        List<UUID> ownedCardIds = cardRepository.findIdsByIdInAndOwnerId(cardIds, userId);
+        Map<UUID, TransferRequest> transferRequestsByTransferId = new LinkedHashMap<>();
+        transferRequests.forEach(transferRequest -> transferRequestsByTransferId.put(UUID.randomUUID(), transferRequest));
+
+        List<TransferItemResponse> results = applyTransfers(transferRequestsByTransferId, ownedCardIds);
+        long completedTransfers = results.stream()
+            .filter(result -> result.status() == TransferItemStatus.COMPLETED)
+            .count();
+
+        BatchTransferResponse batchTransferResponse = BatchTransferResponse.builder()
+            .completed((int) completedTransfers)
+            .rejected(transferRequests.size() - (int) completedTransfers)
+            .results(results)
+            .build();
+
+        log.info("transferMoneyBatch. Batch transfer processed. User id: {}, {}", userId, batchTransferResponse);
+        return batchTransferResponse;
+    }
+
+    @Transactional
+    public List<TransferItemResponse> applyTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        log.debug("applyTransfers. Entering method. Transfers count: {}", transferRequestsByTransferId.size());
+
+        Set<UUID> cardIds = transferRequestsByTransferId.values().stream()
+            .flatMap(transferRequest -> Stream.of(transferRequest.sourceCardId(), transferRequest.targetCardId()))
+            .map(UUID::fromString)
+            .collect(Collectors.toSet());
+
+        List<TransferItemResponse> results = applyTransfers(transferRequestsByTransferId, cardIds);
+
+        log.debug("applyTransfers. Transfers applied. Transfers count: {}", results.size());
+        return results;
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
+    public void updateBalanceSlots(UUID cardId, Integer slotCount) {
+        log.debug("updateBalanceSlots. Entering method. Card id: {}, slot count: {}", cardId, slotCount);
+
+        Card card = getCardForUpdate(cardId);
+
+        foldBalanceSlots(card);
+        cardBalanceSlotService.resizeSlots(cardId, slotCount);
+        card.setBalanceSlotCount(slotCount);
+
+        cardRepository.save(card);
+        log.info("updateBalanceSlots. Balance slots updated. Card id: {}, slot count: {}", cardId, slotCount);
     }
 
     @Transactional
+    @RetryOnOptimisticLock
+    public void compactBalanceSlots(UUID cardId) {
+        log.debug("compactBalanceSlots. Entering method. Card id: {}", cardId);
+
+        Card card = getCardForUpdate(cardId);
+
+        foldBalanceSlots(card);
+
+        cardRepository.save(card);
+        log.debug("compactBalanceSlots. Balance slots compacted. Card id: {}", cardId);
+    }
+
+    @Transactional
+    @RetryOnOptimisticLock
     public void blockCardByCardId(UUID cardId) {
         log.debug("blockCardByCardId. Entering method. Card id: {}", cardId);
 
-        Card card = getCardByCardId(cardId);
+        Card card = getCardForUpdate(cardId);
 
         cardValidator.validateCardForBlock(card);
 
         card.block();
         cardRepository.save(card);
+        outboxService.recordCardEvent(OutboxEventType.CARD_BLOCKED, card);
         log.info("blockCardByCardId. Card blocked successfully. Card id: {}", cardId);
     }
 
     @Transactional
+    @RetryOnOptimisticLock
     public void unlockCardByCardId(UUID cardId) {
         log.debug("unlockCardByCardId. Entering method. Card id: {}", cardId);
 
-        Card card = getCardByCardId(cardId);
+        Card card = getCardForUpdate(cardId);
 
         cardValidator.validateCardForUnlock(card);
 
         card.activate();
         cardRepository.save(card);
+        outboxService.recordCardEvent(OutboxEventType.CARD_UNLOCKED, card);
         log.info("unlockCardByCardId. Card unlocked successfully. Card id: {}", cardId);
     }
 
@@ -212,11 +367,14 @@ public class CardServiceImpl implements CardService {
     public void deleteCard(UUID cardId) {
         log.debug("deleteCard. Entering method. Card id: {}", cardId);
 
-        Card card = getCardByCardId(cardId);
+        Card card = getCardForUpdate(cardId);
+        foldBalanceSlots(card);
 
         cardValidator.validateCardForDelete(card);
 
+        outboxService.recordCardEvent(OutboxEventType.CARD_DELETED, card);
         cardRepository.delete(card);
+        cardHashService.recordCardDeleted();
         log.info("deleteCard. Card deleted successfully. Card id: {}", cardId);
     }
 
@@ -230,7 +388,252 @@ public class CardServiceImpl implements CardService {
             });
     }
 
-    private String maskCardNumber(String cardNumber) {
+    private UUID getOwnerId(Map<UUID, Card> cards, UUID cardId) {
+        Card card = cards.get(cardId);
+
+        if (card != null && card.getOwner() != null) {
+            return card.getOwner().getId();
+        }
+
+        return cardRepository.findOwnerIdById(cardId).orElse(null);
+    }
+
+    private TransferLimitService.Reservation reserveTransferLimit(TransferRequest transferRequest,
+                                                                  Map<UUID, Card> lockedCards) {
+        UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
+        return transferLimitService.reserve(sourceCardId, getOwnerId(lockedCards, sourceCardId),
+            transferRequest.amount());
+    }
+
+    private Card getLoadedCard(Map<UUID, Card> loadedCards, UUID cardId) {
+        Card card = loadedCards.get(cardId);
+        return card != null ? card : getCardByCardId(cardId);
+    }
+
+    private void transferWithLoadedCards(UUID sourceCardId, UUID targetCardId, BigDecimal amount,
+                                         Map<UUID, Card> loadedCards) {
+        boolean isStripedTarget = cardBalanceSlotService.isStriped(targetCardId);
+        Card sourceCard;
+        Card targetCard;
+
+        if (cardConcurrencyMode == CardConcurrencyMode.PESSIMISTIC) {
+            List<UUID> lockedCardIds = isStripedTarget ? List.of(sourceCardId) : List.of(sourceCardId, targetCardId);
+            detachLoadedCards(loadedCards, lockedCardIds);
+            Map<UUID, Card> lockedCards = lockCardsByCardIds(lockedCardIds);
+            sourceCard = getLockedCard(lockedCards, sourceCardId);
+            targetCard = isStripedTarget
+                ? getLoadedCard(loadedCards, targetCardId)
+                : getLockedCard(lockedCards, targetCardId);
+        } else {
+            sourceCard = getLoadedCard(loadedCards, sourceCardId);
+            targetCard = getLoadedCard(loadedCards, targetCardId);
+        }
+
+        cardValidator.validateCardsForTransfer(sourceCard, targetCard);
+
+        if (sourceCard.getAvailableBalance().compareTo(amount) < 0) {
+            foldBalanceSlots(sourceCard);
+        }
+
+        if (sourceCard.getAvailableBalance().compareTo(amount) < 0) {
+            log.error("transferWithLoadedCards. Transfer failed, insufficient balance : {}", sourceCardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+
+        sourceCard.setBalance(sourceCard.getBalance().subtract(amount));
+        cardRepository.save(sourceCard);
+
+        if (!isStripedTarget || !cardBalanceSlotService.creditSlot(targetCardId, amount)) {
+            targetCard.setBalance(targetCard.getBalance().add(amount));
+            cardRepository.save(targetCard);
+        }
+    }
+
+    private void applyBatchTransfer(TransferRequest transferRequest, Map<UUID, Card> batchCards,
+                                    Set<UUID> stripedTargetIds) {
+        UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
+        UUID targetCardId = UUID.fromString(transferRequest.targetCardId());
+
+        if (sourceCardId.equals(targetCardId)) {
+            log.warn("applyBatchTransfer. Cannot transfer to same card: {}", sourceCardId);
+            throw new BadRequestException(ErrorMessagesConstant.TRANSFER_SAME_CARD);
+        }
+
+        Card sourceCard = getLockedCard(batchCards, sourceCardId);
+        Card targetCard = getLockedCard(batchCards, targetCardId);
+        BigDecimal amount = transferRequest.amount();
+
+        cardValidator.validateCardsForTransfer(sourceCard, targetCard);
+
+        if (sourceCard.getAvailableBalance().compareTo(amount) < 0) {
+            foldBalanceSlots(sourceCard);
+        }
+
+        if (sourceCard.getAvailableBalance().compareTo(amount) < 0) {
+            log.warn("applyBatchTransfer. Transfer rejected, insufficient balance : {}", sourceCardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+
+        sourceCard.setBalance(sourceCard.getBalance().subtract(amount));
+
+        if (!stripedTargetIds.contains(targetCardId) || !cardBalanceSlotService.creditSlot(targetCardId, amount)) {
+            targetCard.setBalance(targetCard.getBalance().add(amount));
+        }
+    }
+
+    private void transferWithConditionalUpdates(UUID sourceCardId, UUID targetCardId, BigDecimal amount) {
+        YearMonth currentMonth = YearMonth.now();
+
+        if (PostgresUuidComparator.INSTANCE.compare(sourceCardId, targetCardId) < 0) {
+            debitCard(sourceCardId, amount, currentMonth);
+            creditCard(targetCardId, amount, currentMonth);
+        } else {
+            creditCard(targetCardId, amount, currentMonth);
+            debitCard(sourceCardId, amount, currentMonth);
+        }
+    }
+
+    private void debitCard(UUID cardId, BigDecimal amount, YearMonth currentMonth) {
+        int updatedRows = cardRepository.debitCardIfAvailable(cardId, amount, CardStatus.ACTIVE, currentMonth);
+
+        if (updatedRows == 0 && cardBalanceSlotService.isStriped(cardId)) {
+            lockCardsByCardIds(List.of(cardId));
+            BigDecimal foldedBalance = cardBalanceSlotService.foldSlots(cardId);
+
+            if (foldedBalance.signum() > 0) {
+                cardRepository.creditCardIfAvailable(cardId, foldedBalance, CardStatus.ACTIVE, currentMonth);
+                updatedRows = cardRepository.debitCardIfAvailable(cardId, amount, CardStatus.ACTIVE, currentMonth);
+            }
+        }
+
+        if (updatedRows == 0) {
+            cardValidator.validateCardForTransfer(getCardByCardId(cardId));
+
+            log.error("debitCard. Transfer failed, insufficient balance : {}", cardId);
+            throw new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        }
+    }
+
+    private void creditCard(UUID cardId, BigDecimal amount, YearMonth currentMonth) {
+        if (cardBalanceSlotService.isStriped(cardId)) {
+            cardValidator.validateCardForTransfer(getCardByCardId(cardId));
+
+            if (cardBalanceSlotService.creditSlot(cardId, amount)) {
+                return;
+            }
+        }
+
+        int updatedRows = cardRepository.creditCardIfAvailable(cardId, amount, CardStatus.ACTIVE, currentMonth);
+
+        if (updatedRows == 0) {
+            cardValidator.validateCardForTransfer(getCardByCardId(cardId));
+
+            log.error("creditCard. Card changed during transfer: {}", cardId);
+            throw new ConflictException(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION);
+        }
+    }
+
+    private void foldBalanceSlots(Card card) {
+        if (!card.isStriped()) {
+            return;
+        }
+
+        BigDecimal foldedBalance = cardBalanceSlotService.foldSlots(card.getId());
+        card.setBalance(card.getBalance().add(foldedBalance));
+    }
+
+    private Card getCardForUpdate(UUID cardId) {
+        if (cardConcurrencyMode == CardConcurrencyMode.PESSIMISTIC) {
+            return getLockedCard(lockCardsByCardIds(List.of(cardId)), cardId);
+        }
+
+        return getCardByCardId(cardId);
+    }
+
+    private List<TransferItemResponse> applyTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId,
+                                                      Collection<UUID> lockableCardIds) {
+        Set<UUID> stripedTargetIds = getStripedTargetIds(transferRequestsByTransferId.values(), lockableCardIds);
+        List<UUID> lockedCardIds = lockableCardIds.stream()
+            .filter(cardId -> !stripedTargetIds.contains(cardId))
+            .toList();
+
+        Map<UUID, Card> batchCards = new HashMap<>();
+        if (!lockedCardIds.isEmpty()) {
+            batchCards.putAll(lockCardsByCardIds(lockedCardIds));
+        }
+        if (!stripedTargetIds.isEmpty()) {
+            cardRepository.findAllByIdInWithOwner(stripedTargetIds).forEach(card -> batchCards.put(card.getId(), card));
+        }
+
+        Map<UUID, TransferRequest> completedTransfers = new LinkedHashMap<>();
+        List<TransferItemResponse> results = new ArrayList<>(transferRequestsByTransferId.size());
+        int index = 0;
+
+        for (Map.Entry<UUID, TransferRequest> transfer : transferRequestsByTransferId.entrySet()) {
+            TransferLimitService.Reservation reservation = null;
+
+            try {
+                reservation = reserveTransferLimit(transfer.getValue(), batchCards);
+                applyBatchTransfer(transfer.getValue(), batchCards, stripedTargetIds);
+
+                completedTransfers.put(transfer.getKey(), transfer.getValue());
+                results.add(new TransferItemResponse(index, transfer.getKey(), TransferItemStatus.COMPLETED, null));
+            } catch (BadRequestException | CardNotFoundById e) {
+                if (reservation != null) {
+                    reservation.release();
+                }
+                results.add(new TransferItemResponse(index, null, TransferItemStatus.REJECTED, e.getMessage()));
+            }
+            index++;
+        }
+
+        cardRepository.saveAll(batchCards.values());
+        ledgerService.recordTransfers(completedTransfers);
+        outboxService.recordTransfers(completedTransfers);
+
+        return results;
+    }
+
+    private Set<UUID> getStripedTargetIds(Collection<TransferRequest> transferRequests,
+                                          Collection<UUID> lockableCardIds) {
+        Set<UUID> sourceCardIds = transferRequests.stream()
+            .map(transferRequest -> UUID.fromString(transferRequest.sourceCardId()))
+            .collect(Collectors.toSet());
+
+        return transferRequests.stream()
+            .map(transferRequest -> UUID.fromString(transferRequest.targetCardId()))
+            .filter(lockableCardIds::contains)
+            .filter(cardId -> !sourceCardIds.contains(cardId))
+            .filter(cardBalanceSlotService::isStriped)
+            .collect(Collectors.toSet());
+    }
+
+    private void detachLoadedCards(Map<UUID, Card> loadedCards, List<UUID> cardIds) {
+        cardIds.stream()
+            .map(loadedCards::get)
+            .filter(Objects::nonNull)
+            .forEach(entityManager::detach);
+    }
+
+    private Map<UUID, Card> lockCardsByCardIds(List<UUID> cardIds) {
+        log.debug("lockCardsByCardIds. Locking cards: {}", cardIds);
+
+        return cardRepository.findAllByIdInForUpdate(cardIds).stream()
+            .collect(Collectors.toMap(Card::getId, Function.identity()));
+    }
+
+    private Card getLockedCard(Map<UUID, Card> lockedCards, UUID cardId) {
+        Card card = lockedCards.get(cardId);
+
+        if (card == null) {
+            log.error("getLockedCard. Card not found with id {}", cardId);
+            throw new CardNotFoundById(ErrorMessagesConstant.CARD_NOT_FOUND_BY_ID_MESSAGE.formatted(cardId));
+        }
+
+        return card;
+    }
+
+    static String maskCardNumber(String cardNumber) {
         if (cardNumber == null || cardNumber.length() < 12) {
             return cardNumber;
         }
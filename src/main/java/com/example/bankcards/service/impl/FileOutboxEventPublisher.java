@@ -0,0 +1,47 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.event.OutboxEventMessage;
+import com.example.bankcards.service.OutboxEventPublisher;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "file", matchIfMissing = true)
+public class FileOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.file-path:outbox-events.ndjson}")
+    private Path filePath;
+
+    public synchronized void publish(List<OutboxEventMessage> outboxEventMessages) {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+
+            for (OutboxEventMessage outboxEventMessage : outboxEventMessages) {
+                writer.write(objectMapper.writeValueAsString(outboxEventMessage));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.error("publish. Failed to append outbox events to file: {}", filePath, e);
+            throw new UncheckedIOException(e);
+        }
+
+        log.debug("publish. Outbox events appended: {}, file: {}", outboxEventMessages.size(), filePath);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.event.OutboxEventMessage;
+import com.example.bankcards.service.OutboxEventPublisher;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "memory")
+public class InMemoryOutboxEventPublisher implements OutboxEventPublisher {
+
+    private final Deque<OutboxEventMessage> publishedEvents = new ArrayDeque<>();
+
+    @Value("${app.outbox.memory-capacity:10000}")
+    private int capacity;
+
+    public synchronized void publish(List<OutboxEventMessage> outboxEventMessages) {
+        for (OutboxEventMessage outboxEventMessage : outboxEventMessages) {
+            if (publishedEvents.size() >= capacity) {
+                publishedEvents.pollFirst();
+            }
+            publishedEvents.addLast(outboxEventMessage);
+        }
+
+        log.debug("publish. Outbox events kept in memory: {}", outboxEventMessages.size());
+    }
+
+    public synchronized List<OutboxEventMessage> getPublishedEvents() {
+        return List.copyOf(publishedEvents);
+    }
+
+    public synchronized void clear() {
+        publishedEvents.clear();
+    }
+
+}
@@ -0,0 +1,199 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.CursorPageResponse;
+import com.example.bankcards.dto.response.LedgerEntryResponse;
+import com.example.bankcards.entity.CardBalanceSnapshot;
+import com.example.bankcards.entity.LedgerEntry;
+import com.example.bankcards.entity.LedgerEntryType;
+import com.example.bankcards.repository.CardBalanceSnapshotRepository;
+import com.example.bankcards.repository.LedgerEntryRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.utility.mapper.LedgerEntryMapper;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final long NO_WATERMARK = -1L;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final CardBalanceSnapshotRepository cardBalanceSnapshotRepository;
+    private final LedgerEntryMapper ledgerEntryMapper;
+    private final AtomicLong pendingSnapshotWatermark = new AtomicLong(NO_WATERMARK);
+
+    @Transactional
+    public void recordTransfer(UUID transferId, UUID sourceCardId, UUID targetCardId, BigDecimal amount,
+                               String description) {
+        log.debug("recordTransfer. Entering method. Transfer id: {}, From: {}, To: {}, Amount: {}",
+            transferId, sourceCardId, targetCardId, amount);
+
+        ledgerEntryRepository.saveAll(getTransferEntries(transferId, sourceCardId, targetCardId, amount, description));
+
+        log.debug("recordTransfer. Transfer recorded. Transfer id: {}", transferId);
+    }
+
+    @Transactional
+    public void recordTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        log.debug("recordTransfers. Entering method. Transfers count: {}", transferRequestsByTransferId.size());
+
+        if (transferRequestsByTransferId.isEmpty()) {
+            return;
+        }
+
+        List<LedgerEntry> ledgerEntries = new ArrayList<>(transferRequestsByTransferId.size() * 2);
+        transferRequestsByTransferId.forEach((transferId, transferRequest) -> ledgerEntries.addAll(getTransferEntries(
+            transferId,
+            UUID.fromString(transferRequest.sourceCardId()),
+            UUID.fromString(transferRequest.targetCardId()),
+            transferRequest.amount(),
+            transferRequest.description()
+        )));
+
+        ledgerEntryRepository.insertAllInBatch(ledgerEntries);
+        log.debug("recordTransfers. Transfers recorded. Entries count: {}", ledgerEntries.size());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isTransferRecorded(UUID transferId) {
+        return ledgerEntryRepository.existsByTransferId(transferId);
+    }
+
+    @Transactional
+    public void recordAdjustment(UUID cardId, BigDecimal balanceDelta) {
+        log.debug("recordAdjustment. Entering method. Card id: {}, delta: {}", cardId, balanceDelta);
+
+        if (balanceDelta.signum() == 0) {
+            return;
+        }
+
+        LedgerEntry adjustmentEntry = LedgerEntry.builder()
+            .cardId(cardId)
+            .entryType(balanceDelta.signum() > 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+            .amount(balanceDelta.abs())
+            .build();
+
+        ledgerEntryRepository.save(adjustmentEntry);
+        log.debug("recordAdjustment. Adjustment recorded. Card id: {}", cardId);
+    }
+
+    @Transactional
+    public void recordAdjustments(Map<UUID, BigDecimal> balanceDeltasByCardId) {
+        log.debug("recordAdjustments. Entering method. Cards count: {}", balanceDeltasByCardId.size());
+
+        List<LedgerEntry> adjustmentEntries = new ArrayList<>(balanceDeltasByCardId.size());
+        balanceDeltasByCardId.forEach((cardId, balanceDelta) -> {
+            if (balanceDelta.signum() != 0) {
+                adjustmentEntries.add(LedgerEntry.builder()
+                    .cardId(cardId)
+                    .entryType(balanceDelta.signum() > 0 ? LedgerEntryType.CREDIT : LedgerEntryType.DEBIT)
+                    .amount(balanceDelta.abs())
+                    .build());
+            }
+        });
+
+        if (adjustmentEntries.isEmpty()) {
+            return;
+        }
+
+        ledgerEntryRepository.insertAllInBatch(adjustmentEntries);
+        log.debug("recordAdjustments. Adjustments recorded. Entries count: {}", adjustmentEntries.size());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<LedgerEntryResponse> getCardTransactions(UUID cardId, Long cursor, Integer limit) {
+        log.debug("getCardTransactions. Entering method. Card id: {}, cursor: {}, limit: {}", cardId, cursor, limit);
+
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<LedgerEntry> entries = cursor == null
+            ? ledgerEntryRepository.findByCardIdOrderByIdDesc(cardId, fetchLimit)
+            : ledgerEntryRepository.findByCardIdAndIdLessThanOrderByIdDesc(cardId, cursor, fetchLimit);
+
+        boolean hasNext = entries.size() > limit;
+        List<LedgerEntry> pageEntries = hasNext ? entries.subList(0, limit) : entries;
+        Long nextCursor = hasNext ? pageEntries.get(pageEntries.size() - 1).getId() : null;
+
+        CursorPageResponse<LedgerEntryResponse> response = CursorPageResponse.<LedgerEntryResponse>builder()
+            .content(pageEntries.stream().map(ledgerEntryMapper::toResponse).toList())
+            .nextCursor(nextCursor)
+            .build();
+
+        log.info("getCardTransactions. Card transactions retrieved. Card id: {}", cardId);
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public BigDecimal getLedgerBalance(UUID cardId) {
+        log.debug("getLedgerBalance. Entering method. Card id: {}", cardId);
+
+        Optional<CardBalanceSnapshot> snapshot = cardBalanceSnapshotRepository.findById(cardId);
+        BigDecimal snapshotBalance = snapshot.map(CardBalanceSnapshot::getBalance).orElse(BigDecimal.ZERO);
+        Long lastEntryId = snapshot.map(CardBalanceSnapshot::getLastEntryId).orElse(0L);
+
+        BigDecimal entriesSinceSnapshot = ledgerEntryRepository.sumSignedAmountByCardIdAfterEntryId(
+            cardId, lastEntryId, LedgerEntryType.CREDIT
+        );
+
+        return snapshotBalance.add(entriesSinceSnapshot);
+    }
+
+    @Transactional
+    @Scheduled(
+        initialDelayString = "${app.ledger.snapshot-interval-ms:300000}",
+        fixedDelayString = "${app.ledger.snapshot-interval-ms:300000}"
+    )
+    public void takeBalanceSnapshots() {
+        long currentWatermark = ledgerEntryRepository.findMaxId();
+        long snapshotWatermark = pendingSnapshotWatermark.getAndSet(currentWatermark);
+
+        if (snapshotWatermark == NO_WATERMARK) {
+            log.debug("takeBalanceSnapshots. Watermark recorded, snapshots start next run: {}", currentWatermark);
+            return;
+        }
+
+        int updatedSnapshots = cardBalanceSnapshotRepository.upsertSnapshotsUpToEntryId(
+            snapshotWatermark, LedgerEntryType.CREDIT.getCode()
+        );
+
+        log.info("takeBalanceSnapshots. Balance snapshots updated: {}, up to entry id: {}",
+            updatedSnapshots, snapshotWatermark);
+    }
+
+    private List<LedgerEntry> getTransferEntries(UUID transferId, UUID sourceCardId, UUID targetCardId,
+                                                 BigDecimal amount, String description) {
+        LedgerEntry debitEntry = LedgerEntry.builder()
+            .cardId(sourceCardId)
+            .transferId(transferId)
+            .counterpartyCardId(targetCardId)
+            .entryType(LedgerEntryType.DEBIT)
+            .amount(amount)
+            .description(description)
+            .build();
+
+        LedgerEntry creditEntry = LedgerEntry.builder()
+            .cardId(targetCardId)
+            .transferId(transferId)
+            .counterpartyCardId(sourceCardId)
+            .entryType(LedgerEntryType.CREDIT)
+            .amount(amount)
+            .description(description)
+            .build();
+
+        return List.of(debitEntry, creditEntry);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.event.OutboxEventMessage;
+import com.example.bankcards.entity.OutboxEvent;
+import com.example.bankcards.repository.OutboxEventRepository;
+import com.example.bankcards.service.OutboxEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay-interval-ms:1000}")
+    public void relayEvents() {
+        int relayedEvents = 0;
+        int batchRelayedEvents;
+
+        do {
+            Integer result = transactionTemplate.execute(status -> relayBatch());
+            batchRelayedEvents = result == null ? 0 : result;
+            relayedEvents += batchRelayedEvents;
+        } while (batchRelayedEvents == batchSize);
+
+        if (relayedEvents > 0) {
+            log.info("relayEvents. Outbox events relayed: {}", relayedEvents);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> outboxEvents = outboxEventRepository.findBatchForUpdateSkipLocked(batchSize);
+
+        if (outboxEvents.isEmpty()) {
+            return 0;
+        }
+
+        outboxEventPublisher.publish(outboxEvents.stream().map(this::toMessage).toList());
+        outboxEventRepository.deleteAllByIdInBatch(outboxEvents.stream().map(OutboxEvent::getId).toList());
+
+        log.debug("relayBatch. Outbox batch relayed. Events count: {}", outboxEvents.size());
+        return outboxEvents.size();
+    }
+
+    private OutboxEventMessage toMessage(OutboxEvent outboxEvent) {
+        try {
+            return new OutboxEventMessage(
+                outboxEvent.getId(),
+                outboxEvent.getEventType(),
+                outboxEvent.getAggregateId(),
+                objectMapper.readTree(outboxEvent.getPayload()),
+                outboxEvent.getCreatedAt()
+            );
+        } catch (JsonProcessingException e) {
+            log.error("toMessage. Failed to parse outbox payload. Event id: {}", outboxEvent.getId(), e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
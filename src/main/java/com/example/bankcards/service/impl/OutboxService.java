@@ -0,0 +1,103 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.event.TransferCompletedEvent;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.OutboxEvent;
+import com.example.bankcards.entity.OutboxEventType;
+import com.example.bankcards.repository.OutboxEventRepository;
+import com.example.bankcards.utility.mapper.CardMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CardMapper cardMapper;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCardEvent(OutboxEventType eventType, Card card) {
+        log.debug("recordCardEvent. Entering method. Event type: {}, Card id: {}", eventType, card.getId());
+
+        outboxEventRepository.save(getOutboxEvent(eventType, card.getId(), cardMapper.toResponse(card)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCardEvents(OutboxEventType eventType, List<Card> cards) {
+        log.debug("recordCardEvents. Entering method. Event type: {}, Cards count: {}", eventType, cards.size());
+
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEvent> outboxEvents = new ArrayList<>(cards.size());
+        cards.forEach(card -> outboxEvents.add(getOutboxEvent(eventType, card.getId(), cardMapper.toResponse(card))));
+
+        outboxEventRepository.insertAllInBatch(outboxEvents);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransfer(UUID transferId, UUID sourceCardId, UUID targetCardId, BigDecimal amount,
+                               String description) {
+        log.debug("recordTransfer. Entering method. Transfer id: {}", transferId);
+
+        TransferCompletedEvent transferCompletedEvent = new TransferCompletedEvent(
+            transferId, sourceCardId, targetCardId, amount, description
+        );
+        outboxEventRepository.save(getOutboxEvent(OutboxEventType.TRANSFER_COMPLETED, transferId,
+            transferCompletedEvent));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransfers(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        log.debug("recordTransfers. Entering method. Transfers count: {}", transferRequestsByTransferId.size());
+
+        if (transferRequestsByTransferId.isEmpty()) {
+            return;
+        }
+
+        List<OutboxEvent> outboxEvents = new ArrayList<>(transferRequestsByTransferId.size());
+        transferRequestsByTransferId.forEach((transferId, transferRequest) -> {
+            TransferCompletedEvent transferCompletedEvent = new TransferCompletedEvent(
+                transferId,
+                UUID.fromString(transferRequest.sourceCardId()),
+                UUID.fromString(transferRequest.targetCardId()),
+                transferRequest.amount(),
+                transferRequest.description()
+            );
+            outboxEvents.add(getOutboxEvent(OutboxEventType.TRANSFER_COMPLETED, transferId, transferCompletedEvent));
+        });
+
+        outboxEventRepository.insertAllInBatch(outboxEvents);
+    }
+
+    private OutboxEvent getOutboxEvent(OutboxEventType eventType, UUID aggregateId, Object payload) {
+        try {
+            return OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(objectMapper.writeValueAsString(payload))
+                .createdAt(LocalDateTime.now())
+                .build();
+        } catch (JsonProcessingException e) {
+            log.error("getOutboxEvent. Failed to serialize payload. Event type: {}", eventType, e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.UnauthorizedException;
+import com.example.bankcards.repository.RefreshTokenRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${app.jwt.refresh-expiration:2592000000}")
+    private long refreshExpirationMs;
+
+    public String issue(UUID userId) {
+        log.debug("issue. Issuing refresh token for user: {}", userId);
+        return createToken(userId, UUID.randomUUID(), LocalDateTime.now());
+    }
+
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public RotatedRefreshToken rotate(String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken currentToken = refreshTokenRepository.findByTokenHashForUpdate(hash(refreshToken))
+            .orElseThrow(() -> reject("unknown", null));
+
+        if (currentToken.isRevoked()) {
+            int revokedTokens = refreshTokenRepository.revokeFamily(currentToken.getFamilyId(), now);
+            log.warn("rotate. Refresh token reuse detected, family revoked. User id: {}, family id: {}, "
+                + "revoked tokens: {}", currentToken.getUserId(), currentToken.getFamilyId(), revokedTokens);
+            throw reject("reused", currentToken.getUserId());
+        }
+
+        if (currentToken.isExpired(now)) {
+            throw reject("expired", currentToken.getUserId());
+        }
+
+        User user = userRepository.findById(currentToken.getUserId())
+            .filter(User::isActive)
+            .orElse(null);
+
+        if (user == null) {
+            refreshTokenRepository.revokeFamily(currentToken.getFamilyId(), now);
+            throw reject("inactive_user", currentToken.getUserId());
+        }
+
+        currentToken.setRevokedAt(now);
+        String rotatedToken = createToken(user.getId(), currentToken.getFamilyId(), now);
+
+        log.debug("rotate. Refresh token rotated. User id: {}, family id: {}", user.getId(),
+            currentToken.getFamilyId());
+        return new RotatedRefreshToken(user, rotatedToken);
+    }
+
+    public void revokeAll(UUID userId) {
+        int revokedTokens = refreshTokenRepository.revokeAllByUserId(userId, LocalDateTime.now());
+        log.debug("revokeAll. Refresh tokens revoked. User id: {}, tokens count: {}", userId, revokedTokens);
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.jwt.refresh-cleanup-interval-ms:3600000}",
+        fixedDelayString = "${app.jwt.refresh-cleanup-interval-ms:3600000}"
+    )
+    public void deleteExpiredTokens() {
+        int deletedTokens = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+
+        log.info("deleteExpiredTokens. Expired refresh tokens deleted: {}", deletedTokens);
+    }
+
+    private String createToken(UUID userId, UUID familyId, LocalDateTime now) {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(tokenBytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .familyId(familyId)
+            .tokenHash(hash(token))
+            .expiresAt(now.plus(refreshExpirationMs, ChronoUnit.MILLIS))
+            .createdAt(now)
+            .build());
+
+        return token;
+    }
+
+    private UnauthorizedException reject(String reason, UUID userId) {
+        meterRegistry.counter("auth.refresh.rejected", "reason", reason).increment();
+        log.warn("rotate. Refresh token rejected. Reason: {}, user id: {}", reason, userId);
+        return new UnauthorizedException(ErrorMessagesConstant.INVALID_REFRESH_TOKEN);
+    }
+
+    private String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Refresh token digest algorithm is not available", e);
+        }
+    }
+
+    public record RotatedRefreshToken(User user, String refreshToken) {
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.Card;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+@Slf4j
+@Component
+public class TransferCardContext {
+
+    private static final String CARDS_ATTRIBUTE = TransferCardContext.class.getName() + ".cards";
+    private static final String TRANSFER_REQUEST_ATTRIBUTE = TransferCardContext.class.getName() + ".transferRequest";
+
+    public void putCards(Collection<Card> cards) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return;
+        }
+
+        Map<UUID, Card> cardsById = cards.stream()
+            .collect(Collectors.toMap(Card::getId, Function.identity(), (first, second) -> first));
+        requestAttributes.setAttribute(CARDS_ATTRIBUTE, cardsById, RequestAttributes.SCOPE_REQUEST);
+
+        log.debug("putCards. Transfer cards stored for request: {}", cardsById.keySet());
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<UUID, Card> takeCards() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return Map.of();
+        }
+
+        Object cards = requestAttributes.getAttribute(CARDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        requestAttributes.removeAttribute(CARDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        return cards == null ? Map.of() : (Map<UUID, Card>) cards;
+    }
+
+    public void putTransferRequest(TransferRequest transferRequest) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return;
+        }
+
+        requestAttributes.setAttribute(TRANSFER_REQUEST_ATTRIBUTE, transferRequest, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    public TransferRequest takeTransferRequest() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        Object transferRequest = requestAttributes.getAttribute(
+            TRANSFER_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+        );
+        requestAttributes.removeAttribute(TRANSFER_REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+
+        return (TransferRequest) transferRequest;
+    }
+
+}
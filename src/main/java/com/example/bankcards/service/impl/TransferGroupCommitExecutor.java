@@ -0,0 +1,216 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferGroupCommitExecutor {
+
+    private static final long COORDINATOR_POLL_TIMEOUT_MS = 500;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final CardService cardService;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private BlockingQueue<PendingTransfer> pendingTransfers;
+    private ThreadPoolExecutor committers;
+    private Thread coordinator;
+
+    @Value("${app.transfer.group-commit.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.transfer.group-commit.window-micros:1000}")
+    private long windowMicros;
+
+    @Value("${app.transfer.group-commit.max-batch-size:64}")
+    private int maxBatchSize;
+
+    @Value("${app.transfer.group-commit.committer-threads:4}")
+    private int committerThreads;
+
+    @Value("${app.transfer.group-commit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+
+        AtomicInteger committerIndex = new AtomicInteger();
+        pendingTransfers = new ArrayBlockingQueue<>(queueCapacity);
+        committers = new ThreadPoolExecutor(
+            committerThreads, committerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(committerThreads),
+            runnable -> new Thread(runnable, "transfer-committer-" + committerIndex.getAndIncrement()),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+
+        running = true;
+        coordinator = new Thread(this::collectGroups, "transfer-group-coordinator");
+        coordinator.start();
+
+        log.info("start. Group commit started. Window: {} us, max batch size: {}, committers: {}",
+            windowMicros, maxBatchSize, committerThreads);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        coordinator.interrupt();
+
+        try {
+            coordinator.join(SHUTDOWN_TIMEOUT_MS);
+            committers.shutdown();
+            committers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<PendingTransfer> remainingTransfers = new ArrayList<>();
+        pendingTransfers.drainTo(remainingTransfers);
+        remainingTransfers.forEach(this::applyIndividually);
+
+        log.info("stop. Group commit stopped");
+    }
+
+    public UUID transferMoneyByTransferRequest(TransferRequest transferRequest) {
+        return transferMoneyByTransferRequest(transferRequest, UUID.randomUUID());
+    }
+
+    public UUID transferMoneyByTransferRequest(TransferRequest transferRequest, UUID transferId) {
+        if (!running) {
+            return cardService.transferMoneyByTransferRequest(transferRequest, transferId);
+        }
+
+        PendingTransfer pendingTransfer = new PendingTransfer(transferId, transferRequest, new CompletableFuture<>());
+
+        if (!pendingTransfers.offer(pendingTransfer)) {
+            log.warn("transferMoneyByTransferRequest. Group commit queue is full, committing directly");
+            return cardService.transferMoneyByTransferRequest(transferRequest, transferId);
+        }
+
+        try {
+            return pendingTransfer.result().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void collectGroups() {
+        long windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+
+        while (running) {
+            try {
+                PendingTransfer firstTransfer = pendingTransfers.poll(COORDINATOR_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (firstTransfer == null) {
+                    continue;
+                }
+
+                List<PendingTransfer> group = new ArrayList<>(maxBatchSize);
+                group.add(firstTransfer);
+                pendingTransfers.drainTo(group, maxBatchSize - group.size());
+
+                long deadline = System.nanoTime() + windowNanos;
+                while (group.size() < maxBatchSize) {
+                    long remainingNanos = deadline - System.nanoTime();
+                    PendingTransfer nextTransfer = remainingNanos > 0
+                        ? pendingTransfers.poll(remainingNanos, TimeUnit.NANOSECONDS)
+                        : null;
+                    if (nextTransfer == null) {
+                        break;
+                    }
+
+                    group.add(nextTransfer);
+                    pendingTransfers.drainTo(group, maxBatchSize - group.size());
+                }
+
+                committers.execute(() -> commitGroup(group));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void commitGroup(List<PendingTransfer> group) {
+        Map<UUID, TransferRequest> transferRequestsByTransferId = new LinkedHashMap<>();
+        group.forEach(pendingTransfer ->
+            transferRequestsByTransferId.put(pendingTransfer.transferId(), pendingTransfer.transferRequest()));
+
+        if (transferRequestsByTransferId.size() != group.size()) {
+            group.forEach(this::applyIndividually);
+            return;
+        }
+
+        List<PendingTransfer> replayedTransfers = new ArrayList<>();
+
+        try {
+            List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+            meterRegistry.counter("transfer.group-commit.commits").increment();
+            meterRegistry.summary("transfer.group-commit.size").record(group.size());
+
+            for (int index = 0; index < group.size(); index++) {
+                PendingTransfer pendingTransfer = group.get(index);
+
+                if (results.get(index).status() == TransferItemStatus.COMPLETED) {
+                    pendingTransfer.result().complete(pendingTransfer.transferId());
+                } else {
+                    replayedTransfers.add(pendingTransfer);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("commitGroup. Group commit failed, committing one by one. Transfers count: {}", group.size(), e);
+            replayedTransfers.addAll(group);
+        }
+
+        replayedTransfers.forEach(this::applyIndividually);
+    }
+
+    private void applyIndividually(PendingTransfer pendingTransfer) {
+        try {
+            UUID transferId = cardService.transferMoneyByTransferRequest(
+                pendingTransfer.transferRequest(), pendingTransfer.transferId()
+            );
+            pendingTransfer.result().complete(transferId);
+        } catch (RuntimeException e) {
+            pendingTransfer.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingTransfer(UUID transferId, TransferRequest transferRequest, CompletableFuture<UUID> result) {
+    }
+
+}
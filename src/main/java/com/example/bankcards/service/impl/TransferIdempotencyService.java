@@ -0,0 +1,266 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.IdempotencyRecord;
+import com.example.bankcards.entity.IdempotencyStatus;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.CardNotFoundById;
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.exception.error.TransferLimitExceededException;
+import com.example.bankcards.repository.IdempotencyRecordRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferIdempotencyService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    private final TransferGroupCommitExecutor transferGroupCommitExecutor;
+    private final LedgerService ledgerService;
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final Cache<String, IdempotencyRecord> idempotencyRecordCache;
+    private final Map<String, CompletableFuture<IdempotencyRecord>> inFlightRequests = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.wait-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    @Value("${app.idempotency.in-progress-timeout-ms:30000}")
+    private long inProgressTimeoutMs;
+
+    @Value("${app.idempotency.retention-ms:86400000}")
+    private long retentionMs;
+
+    public UUID transferMoney(UUID userId, String idempotencyKey, TransferRequest transferRequest) {
+        log.debug("transferMoney. Entering method. User id: {}, idempotency key: {}", userId, idempotencyKey);
+
+        String requestHash = getRequestHash(transferRequest);
+        String cacheKey = userId + ":" + idempotencyKey;
+
+        IdempotencyRecord cachedRecord = idempotencyRecordCache.getIfPresent(cacheKey);
+        if (cachedRecord != null) {
+            log.info("transferMoney. Replaying cached result. Idempotency key: {}", idempotencyKey);
+            return replay(cachedRecord, requestHash);
+        }
+
+        CompletableFuture<IdempotencyRecord> execution = new CompletableFuture<>();
+        CompletableFuture<IdempotencyRecord> inFlightExecution = inFlightRequests.putIfAbsent(cacheKey, execution);
+        if (inFlightExecution != null) {
+            log.info("transferMoney. Waiting for in-flight request. Idempotency key: {}", idempotencyKey);
+            return replay(awaitExecution(inFlightExecution), requestHash);
+        }
+
+        try {
+            IdempotencyRecord completedRecord = execute(userId, idempotencyKey, requestHash, transferRequest);
+            if (completedRecord.isFinished()) {
+                idempotencyRecordCache.put(cacheKey, completedRecord);
+            }
+            execution.complete(completedRecord);
+            return replay(completedRecord, requestHash);
+        } catch (RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRequests.remove(cacheKey, execution);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.idempotency.cleanup-interval-ms:3600000}",
+        fixedDelayString = "${app.idempotency.cleanup-interval-ms:3600000}"
+    )
+    public void deleteExpiredRecords() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minus(retentionMs, ChronoUnit.MILLIS);
+        int deletedRecords = idempotencyRecordRepository.deleteExpired(expiredBefore);
+
+        log.info("deleteExpiredRecords. Expired idempotency records deleted: {}", deletedRecords);
+    }
+
+    private IdempotencyRecord execute(UUID userId, String idempotencyKey, String requestHash,
+                                      TransferRequest transferRequest) {
+        UUID transferId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+
+        int claimedRecords = idempotencyRecordRepository.insertIfAbsent(
+            UUID.randomUUID(), userId, idempotencyKey, requestHash, transferId,
+            IdempotencyStatus.IN_PROGRESS.getCode(), now
+        );
+
+        if (claimedRecords == 0) {
+            IdempotencyRecord existingRecord = getIdempotencyRecord(userId, idempotencyKey);
+
+            if (!existingRecord.getRequestHash().equals(requestHash) || existingRecord.isFinished()) {
+                return existingRecord;
+            }
+
+            if (ledgerService.isTransferRecorded(existingRecord.getTransferId())) {
+                return complete(userId, idempotencyKey, existingRecord.getTransferId());
+            }
+
+            transferId = reclaimStaleRecord(existingRecord, now);
+        }
+
+        try {
+            transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest, transferId);
+        } catch (RuntimeException e) {
+            recordFailure(userId, idempotencyKey, transferId, e);
+            throw e;
+        }
+
+        return complete(userId, idempotencyKey, transferId);
+    }
+
+    private UUID reclaimStaleRecord(IdempotencyRecord existingRecord, LocalDateTime now) {
+        LocalDateTime staleBefore = now.minus(inProgressTimeoutMs, ChronoUnit.MILLIS);
+
+        if (existingRecord.getUpdatedAt().isAfter(staleBefore)) {
+            log.warn("reclaimStaleRecord. Request still in progress. Idempotency key: {}",
+                existingRecord.getIdempotencyKey());
+            throw new ConflictException(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        UUID transferId = UUID.randomUUID();
+        int reclaimedRecords = idempotencyRecordRepository.reclaimInProgress(
+            existingRecord.getId(), transferId, existingRecord.getUpdatedAt(), now, IdempotencyStatus.IN_PROGRESS
+        );
+
+        if (reclaimedRecords == 0) {
+            throw new ConflictException(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+
+        log.warn("reclaimStaleRecord. Stale idempotency record reclaimed. Idempotency key: {}",
+            existingRecord.getIdempotencyKey());
+        return transferId;
+    }
+
+    private void recordFailure(UUID userId, String idempotencyKey, UUID transferId, RuntimeException e) {
+        HttpStatus errorStatus = getRecordedErrorStatus(e);
+
+        if (errorStatus == null) {
+            idempotencyRecordRepository.deleteInProgress(
+                userId, idempotencyKey, transferId, IdempotencyStatus.IN_PROGRESS
+            );
+            log.warn("recordFailure. Transfer failed, idempotency key released: {}", idempotencyKey);
+            return;
+        }
+
+        String errorMessage = e.getMessage() != null && e.getMessage().length() > MAX_ERROR_MESSAGE_LENGTH
+            ? e.getMessage().substring(0, MAX_ERROR_MESSAGE_LENGTH)
+            : e.getMessage();
+
+        idempotencyRecordRepository.markFailed(
+            userId, idempotencyKey, transferId, errorStatus.value(), errorMessage, LocalDateTime.now(),
+            IdempotencyStatus.FAILED, IdempotencyStatus.IN_PROGRESS
+        );
+        log.warn("recordFailure. Transfer rejected, outcome recorded. Idempotency key: {}, status: {}",
+            idempotencyKey, errorStatus.value());
+    }
+
+    private HttpStatus getRecordedErrorStatus(RuntimeException e) {
+        if (e instanceof TransferLimitExceededException) {
+            return null;
+        }
+
+        if (e instanceof BadRequestException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+
+        if (e instanceof CardNotFoundById) {
+            return HttpStatus.NOT_FOUND;
+        }
+
+        return null;
+    }
+
+    private IdempotencyRecord complete(UUID userId, String idempotencyKey, UUID transferId) {
+        idempotencyRecordRepository.markCompleted(
+            userId, idempotencyKey, transferId, LocalDateTime.now(), IdempotencyStatus.COMPLETED
+        );
+
+        return getIdempotencyRecord(userId, idempotencyKey);
+    }
+
+    private IdempotencyRecord getIdempotencyRecord(UUID userId, String idempotencyKey) {
+        return idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+            .orElseThrow(() -> new ConflictException(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS));
+    }
+
+    private UUID replay(IdempotencyRecord idempotencyRecord, String requestHash) {
+        if (!idempotencyRecord.getRequestHash().equals(requestHash)) {
+            log.error("replay. Idempotency key reused with different request: {}",
+                idempotencyRecord.getIdempotencyKey());
+            throw new ConflictException(ErrorMessagesConstant.IDEMPOTENCY_KEY_REUSED);
+        }
+
+        if (idempotencyRecord.isFailed()) {
+            log.info("replay. Replaying recorded failure. Idempotency key: {}", idempotencyRecord.getIdempotencyKey());
+            throw toRecordedError(idempotencyRecord);
+        }
+
+        return idempotencyRecord.getTransferId();
+    }
+
+    private RuntimeException toRecordedError(IdempotencyRecord idempotencyRecord) {
+        if (idempotencyRecord.getErrorStatus() == HttpStatus.NOT_FOUND.value()) {
+            return new CardNotFoundById(idempotencyRecord.getErrorMessage());
+        }
+
+        return new BadRequestException(idempotencyRecord.getErrorMessage());
+    }
+
+    private IdempotencyRecord awaitExecution(CompletableFuture<IdempotencyRecord> execution) {
+        try {
+            return execution.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ConflictException(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS);
+        }
+    }
+
+    private String getRequestHash(TransferRequest transferRequest) {
+        String fingerprint = String.join("|",
+            UUID.fromString(transferRequest.sourceCardId()).toString(),
+            UUID.fromString(transferRequest.targetCardId()).toString(),
+            transferRequest.amount().stripTrailingZeros().toPlainString(),
+            Objects.requireNonNullElse(transferRequest.description(), "")
+        );
+
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,290 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.entity.CardLimitUsage;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.TransferLimitExceededException;
+import com.example.bankcards.repository.CardLimitUsageRepository;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.limit.SlidingWindowCounter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferLimitService {
+
+    private static final long DAY_MS = Duration.ofDays(1).toMillis();
+    private static final int DAY_SLICES = 24;
+    private static final long MINUTE_MS = Duration.ofMinutes(1).toMillis();
+    private static final int MINUTE_SLICES = 60;
+    private static final long USAGE_RETENTION_MS = 2 * DAY_MS;
+
+    private final CardLimitUsageRepository cardLimitUsageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<UUID, SlidingWindowCounter> cardTransfersPerMinute = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMillis(MINUTE_MS))
+        .build();
+    private final Cache<UUID, SlidingWindowCounter> cardDailyAmounts = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMillis(DAY_MS))
+        .build();
+    private final Cache<UUID, SlidingWindowCounter> userDailyAmounts = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMillis(DAY_MS))
+        .build();
+    private final Map<UsageWindow, PendingUsage> pendingUsages = new ConcurrentHashMap<>();
+
+    @Value("${app.transfer.limits.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.transfer.limits.max-amount-per-transfer:1000000.00}")
+    private BigDecimal maxAmountPerTransfer;
+
+    @Value("${app.transfer.limits.card-daily-amount:5000000.00}")
+    private BigDecimal cardDailyAmount;
+
+    @Value("${app.transfer.limits.card-transfers-per-minute:60}")
+    private long cardTransfersPerMinuteLimit;
+
+    @Value("${app.transfer.limits.user-daily-amount:10000000.00}")
+    private BigDecimal userDailyAmount;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadUsage() {
+        long nowMs = System.currentTimeMillis();
+        List<CardLimitUsage> cardLimitUsages = cardLimitUsageRepository.findAllByWindowStartGreaterThanEqual(
+            toLocalDateTime(nowMs - DAY_MS)
+        );
+
+        for (CardLimitUsage cardLimitUsage : cardLimitUsages) {
+            long windowStartMs = toEpochMilli(cardLimitUsage.getWindowStart());
+            long amount = toMinorUnits(cardLimitUsage.getAmount());
+
+            getDailyCounter(cardDailyAmounts, cardLimitUsage.getCardId()).addAt(windowStartMs, amount, nowMs);
+            if (cardLimitUsage.getUserId() != null) {
+                getDailyCounter(userDailyAmounts, cardLimitUsage.getUserId()).addAt(windowStartMs, amount, nowMs);
+            }
+        }
+
+        log.info("loadUsage. Transfer limit usage rebuilt. Windows loaded: {}", cardLimitUsages.size());
+    }
+
+    public Reservation reserve(UUID cardId, UUID userId, BigDecimal amount) {
+        if (!enabled) {
+            return null;
+        }
+
+        if (amount.compareTo(maxAmountPerTransfer) > 0) {
+            recordRejection("amount", cardId);
+            throw new BadRequestException(ErrorMessagesConstant.TRANSFER_AMOUNT_LIMIT_EXCEEDED);
+        }
+
+        long nowMs = System.currentTimeMillis();
+        long amountMinorUnits = toMinorUnits(amount);
+
+        SlidingWindowCounter transferCounter = cardTransfersPerMinute.get(cardId,
+            id -> new SlidingWindowCounter(MINUTE_MS, MINUTE_SLICES));
+        LongAdder rateBucket = tryAcquire(transferCounter, nowMs, 1, cardTransfersPerMinuteLimit);
+        if (rateBucket == null) {
+            throw reject("card_rate", cardId, ErrorMessagesConstant.TRANSFER_RATE_LIMIT_EXCEEDED);
+        }
+
+        SlidingWindowCounter cardCounter = getDailyCounter(cardDailyAmounts, cardId);
+        LongAdder cardBucket = tryAcquire(cardCounter, nowMs, amountMinorUnits, toMinorUnits(cardDailyAmount));
+        if (cardBucket == null) {
+            rateBucket.decrement();
+            throw reject("card_daily", cardId, ErrorMessagesConstant.CARD_DAILY_LIMIT_EXCEEDED);
+        }
+
+        LongAdder userBucket = null;
+        if (userId != null) {
+            userBucket = tryAcquire(getDailyCounter(userDailyAmounts, userId), nowMs, amountMinorUnits,
+                toMinorUnits(userDailyAmount));
+
+            if (userBucket == null) {
+                cardBucket.add(-amountMinorUnits);
+                rateBucket.decrement();
+                throw reject("user_daily", cardId, ErrorMessagesConstant.USER_DAILY_LIMIT_EXCEEDED);
+            }
+        }
+
+        UsageWindow usageWindow = new UsageWindow(cardId, cardCounter.getSliceStartMs(nowMs));
+        addPendingUsage(usageWindow, userId, amountMinorUnits);
+
+        Reservation reservation = new Reservation(amountMinorUnits, rateBucket, cardBucket, userBucket, usageWindow,
+            userId);
+        releaseOnRollback(reservation);
+        return reservation;
+    }
+
+    @Scheduled(fixedDelayString = "${app.transfer.limits.flush-interval-ms:5000}")
+    public void flushUsage() {
+        long nowMs = System.currentTimeMillis();
+        List<CardLimitUsage> cardLimitUsages = new ArrayList<>();
+
+        for (UsageWindow usageWindow : pendingUsages.keySet()) {
+            PendingUsage pendingUsage = pendingUsages.remove(usageWindow);
+
+            if (pendingUsage != null && pendingUsage.amount() != 0) {
+                cardLimitUsages.add(CardLimitUsage.builder()
+                    .cardId(usageWindow.cardId())
+                    .windowStart(toLocalDateTime(usageWindow.windowStartMs()))
+                    .userId(pendingUsage.userId())
+                    .amount(BigDecimal.valueOf(pendingUsage.amount(), 2))
+                    .build());
+            }
+        }
+
+        if (cardLimitUsages.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                cardLimitUsageRepository.addAllInBatch(cardLimitUsages);
+                cardLimitUsageRepository.deleteAllByWindowStartBefore(toLocalDateTime(nowMs - USAGE_RETENTION_MS));
+            });
+            log.debug("flushUsage. Transfer limit usage flushed. Windows count: {}", cardLimitUsages.size());
+        } catch (RuntimeException e) {
+            log.error("flushUsage. Failed to flush transfer limit usage. Windows count: {}",
+                cardLimitUsages.size(), e);
+            cardLimitUsages.forEach(this::restorePendingUsage);
+        }
+    }
+
+    private LongAdder tryAcquire(SlidingWindowCounter counter, long nowMs, long amount, long limit) {
+        LongAdder bucket = counter.add(nowMs, amount);
+
+        if (counter.sum(nowMs) > limit) {
+            bucket.add(-amount);
+            return null;
+        }
+
+        return bucket;
+    }
+
+    private SlidingWindowCounter getDailyCounter(Cache<UUID, SlidingWindowCounter> counters, UUID id) {
+        return counters.get(id, key -> new SlidingWindowCounter(DAY_MS, DAY_SLICES));
+    }
+
+    private TransferLimitExceededException reject(String limit, UUID cardId, String message) {
+        recordRejection(limit, cardId);
+        return new TransferLimitExceededException(message);
+    }
+
+    private void recordRejection(String limit, UUID cardId) {
+        meterRegistry.counter("transfer.limits.rejected", "limit", limit).increment();
+        log.warn("reserve. Transfer limit exceeded. Card id: {}, limit: {}", cardId, limit);
+    }
+
+    private void releaseOnRollback(Reservation reservation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    reservation.release();
+                }
+            }
+        });
+    }
+
+    private void restorePendingUsage(CardLimitUsage cardLimitUsage) {
+        UsageWindow usageWindow = new UsageWindow(
+            cardLimitUsage.getCardId(), toEpochMilli(cardLimitUsage.getWindowStart())
+        );
+
+        addPendingUsage(usageWindow, cardLimitUsage.getUserId(), toMinorUnits(cardLimitUsage.getAmount()));
+    }
+
+    private void addPendingUsage(UsageWindow usageWindow, UUID userId, long amount) {
+        pendingUsages.merge(usageWindow, new PendingUsage(userId, amount), PendingUsage::plus);
+    }
+
+    private long toMinorUnits(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.UP).longValueExact();
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public final class Reservation {
+
+        private final long amount;
+        private final LongAdder rateBucket;
+        private final LongAdder cardBucket;
+        private final LongAdder userBucket;
+        private final UsageWindow usageWindow;
+        private final UUID userId;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Reservation(long amount, LongAdder rateBucket, LongAdder cardBucket, LongAdder userBucket,
+                            UsageWindow usageWindow, UUID userId) {
+            this.amount = amount;
+            this.rateBucket = rateBucket;
+            this.cardBucket = cardBucket;
+            this.userBucket = userBucket;
+            this.usageWindow = usageWindow;
+            this.userId = userId;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+
+            rateBucket.decrement();
+            cardBucket.add(-amount);
+            addPendingUsage(usageWindow, userId, -amount);
+            if (userBucket != null) {
+                userBucket.add(-amount);
+            }
+        }
+
+    }
+
+    private record UsageWindow(UUID cardId, long windowStartMs) {
+    }
+
+    private record PendingUsage(UUID userId, long amount) {
+
+        private PendingUsage plus(PendingUsage other) {
+            return new PendingUsage(userId != null ? userId : other.userId(), amount + other.amount());
+        }
+
+    }
+
+}
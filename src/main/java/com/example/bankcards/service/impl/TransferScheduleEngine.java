@@ -0,0 +1,262 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.entity.TransferSchedule;
+import com.example.bankcards.repository.TransferScheduleRepository;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.utility.timer.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransferScheduleEngine {
+
+    private static final int WHEEL_SIZE = 60;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final TransferScheduleRepository transferScheduleRepository;
+    private final CardService cardService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean running;
+    private String nodeId;
+    private HierarchicalTimingWheel<UUID> timingWheel;
+    private ThreadPoolExecutor workers;
+
+    @Value("${app.transfer.schedule.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${app.transfer.schedule.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${app.transfer.schedule.horizon-ms:300000}")
+    private long horizonMs;
+
+    @Value("${app.transfer.schedule.lease-timeout-ms:120000}")
+    private long leaseTimeoutMs;
+
+    @Value("${app.transfer.schedule.claim-limit:1000}")
+    private int claimLimit;
+
+    @Value("${app.transfer.schedule.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.transfer.schedule.executor-threads:4}")
+    private int executorThreads;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        AtomicInteger workerIndex = new AtomicInteger();
+        nodeId = resolveNodeId();
+        timingWheel = new HierarchicalTimingWheel<>(tickMs, WHEEL_SIZE, System.currentTimeMillis());
+        workers = new ThreadPoolExecutor(
+            executorThreads, executorThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(executorThreads),
+            runnable -> new Thread(runnable, "transfer-schedule-worker-" + workerIndex.getAndIncrement()),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        Gauge.builder("transfer.schedule.wheel.size", timingWheel, HierarchicalTimingWheel::size)
+            .register(meterRegistry);
+
+        running = true;
+        log.info("start. Transfer schedule engine started. Node id: {}, tick: {} ms, horizon: {} ms",
+            nodeId, tickMs, horizonMs);
+        loadSchedules();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+
+        running = false;
+        workers.shutdown();
+
+        try {
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.info("stop. Transfer schedule engine stopped. Node id: {}", nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.transfer.schedule.load-interval-ms:60000}")
+    public void loadSchedules() {
+        if (!running) {
+            return;
+        }
+
+        List<ScheduledRun> claimedRuns = transactionTemplate.execute(status -> claimSchedules(LocalDateTime.now()));
+        if (claimedRuns == null || claimedRuns.isEmpty()) {
+            return;
+        }
+
+        claimedRuns.forEach(this::addToWheel);
+        log.info("loadSchedules. Transfer schedules claimed: {}. Node id: {}", claimedRuns.size(), nodeId);
+    }
+
+    @Scheduled(fixedRateString = "${app.transfer.schedule.tick-ms:1000}")
+    public void tick() {
+        if (!running) {
+            return;
+        }
+
+        List<UUID> dueScheduleIds = timingWheel.advance(System.currentTimeMillis());
+
+        for (int from = 0; from < dueScheduleIds.size(); from += batchSize) {
+            List<UUID> batch = List.copyOf(dueScheduleIds.subList(from, Math.min(from + batchSize, dueScheduleIds.size())));
+
+            try {
+                workers.execute(() -> executeBatch(batch));
+            } catch (RejectedExecutionException e) {
+                deferToNextTick(dueScheduleIds.subList(from, dueScheduleIds.size()));
+                return;
+            }
+        }
+    }
+
+    private void deferToNextTick(List<UUID> scheduleIds) {
+        long nowMs = System.currentTimeMillis();
+        scheduleIds.forEach(scheduleId -> timingWheel.add(scheduleId, nowMs));
+        meterRegistry.counter("transfer.schedule.deferred").increment(scheduleIds.size());
+
+        log.warn("tick. Schedule workers are busy, runs deferred to next tick. Schedules count: {}",
+            scheduleIds.size());
+    }
+
+    private String resolveNodeId() {
+        if (StringUtils.hasText(configuredNodeId)) {
+            return configuredNodeId;
+        }
+
+        String hostName = System.getenv("HOSTNAME");
+        if (!StringUtils.hasText(hostName)) {
+            try {
+                hostName = InetAddress.getLocalHost().getHostName();
+            } catch (UnknownHostException e) {
+                log.warn("resolveNodeId. Host name is not available, using random node id", e);
+                hostName = "node-" + UUID.randomUUID();
+            }
+        }
+
+        return hostName + "-" + ProcessHandle.current().pid();
+    }
+
+    private List<ScheduledRun> claimSchedules(LocalDateTime now) {
+        List<TransferSchedule> transferSchedules = transferScheduleRepository.findClaimableForUpdateSkipLocked(
+            now.plusNanos(TimeUnit.MILLISECONDS.toNanos(horizonMs)), now, claimLimit
+        );
+
+        List<ScheduledRun> claimedRuns = new ArrayList<>(transferSchedules.size());
+        for (TransferSchedule transferSchedule : transferSchedules) {
+            LocalDateTime leaseStart = transferSchedule.getNextRunAt().isAfter(now)
+                ? transferSchedule.getNextRunAt()
+                : now;
+            transferSchedule.claimLease(nodeId, leaseStart.plusNanos(TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMs)));
+            claimedRuns.add(new ScheduledRun(transferSchedule.getId(), transferSchedule.getNextRunAt()));
+        }
+
+        return claimedRuns;
+    }
+
+    private void executeBatch(List<UUID> scheduleIds) {
+        try {
+            List<ScheduledRun> deferredRuns = transactionTemplate.execute(status -> runSchedules(scheduleIds));
+            if (deferredRuns != null) {
+                deferredRuns.forEach(this::addToWheel);
+            }
+        } catch (RuntimeException e) {
+            if (scheduleIds.size() == 1) {
+                log.error("executeBatch. Scheduled transfer failed, lease left to expire. Schedule id: {}",
+                    scheduleIds.get(0), e);
+                return;
+            }
+
+            log.warn("executeBatch. Schedule batch failed, running one by one. Schedules count: {}",
+                scheduleIds.size(), e);
+            scheduleIds.forEach(scheduleId -> executeBatch(List.of(scheduleId)));
+        }
+    }
+
+    private List<ScheduledRun> runSchedules(List<UUID> scheduleIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TransferSchedule> dueSchedules = new ArrayList<>();
+        List<ScheduledRun> deferredRuns = new ArrayList<>();
+
+        for (TransferSchedule transferSchedule : transferScheduleRepository
+            .findAllByIdInAndLeaseOwnerForUpdate(scheduleIds, nodeId)) {
+            if (transferSchedule.isDue(now)) {
+                dueSchedules.add(transferSchedule);
+            } else if (transferSchedule.getActive()) {
+                deferredRuns.add(new ScheduledRun(transferSchedule.getId(), transferSchedule.getNextRunAt()));
+            } else {
+                transferSchedule.releaseLease();
+            }
+        }
+
+        if (dueSchedules.isEmpty()) {
+            return deferredRuns;
+        }
+
+        Map<UUID, TransferRequest> transferRequestsByTransferId = new LinkedHashMap<>();
+        dueSchedules.forEach(transferSchedule ->
+            transferRequestsByTransferId.put(UUID.randomUUID(), transferSchedule.toTransferRequest()));
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        for (int index = 0; index < dueSchedules.size(); index++) {
+            TransferItemResponse result = results.get(index);
+            dueSchedules.get(index).recordRun(now, result.transferId(), result.errorDescription());
+            meterRegistry.counter("transfer.schedule.runs", "status", result.status().name()).increment();
+        }
+
+        log.debug("runSchedules. Scheduled transfers executed. Transfers count: {}", dueSchedules.size());
+        return deferredRuns;
+    }
+
+    private void addToWheel(ScheduledRun scheduledRun) {
+        timingWheel.add(
+            scheduledRun.scheduleId(),
+            scheduledRun.runAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+        );
+    }
+
+    private record ScheduledRun(UUID scheduleId, LocalDateTime runAt) {
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.bankcards.service.impl;
+
+import com.example.bankcards.dto.request.TransferScheduleRequest;
+import com.example.bankcards.dto.response.TransferScheduleResponse;
+import com.example.bankcards.entity.TransferSchedule;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.TransferScheduleNotFoundById;
+import com.example.bankcards.repository.TransferScheduleRepository;
+import com.example.bankcards.service.TransferScheduleService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.mapper.TransferScheduleMapper;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransferScheduleServiceImpl implements TransferScheduleService {
+
+    private final TransferScheduleRepository transferScheduleRepository;
+    private final TransferScheduleMapper transferScheduleMapper;
+
+    @Transactional
+    public TransferScheduleResponse createSchedule(TransferScheduleRequest transferScheduleRequest, UUID userId) {
+        log.debug("createSchedule. Entering method. User id: {}, frequency: {}",
+            userId, transferScheduleRequest.frequency());
+
+        UUID sourceCardId = UUID.fromString(transferScheduleRequest.sourceCardId());
+        UUID targetCardId = UUID.fromString(transferScheduleRequest.targetCardId());
+
+        if (sourceCardId.equals(targetCardId)) {
+            log.error("createSchedule. Cannot schedule transfer to same card: {}", sourceCardId);
+            throw new BadRequestException(ErrorMessagesConstant.TRANSFER_SAME_CARD);
+        }
+
+        TransferSchedule transferSchedule = TransferSchedule.builder()
+            .userId(userId)
+            .sourceCardId(sourceCardId)
+            .targetCardId(targetCardId)
+            .amount(transferScheduleRequest.amount())
+            .description(transferScheduleRequest.description())
+            .frequency(transferScheduleRequest.frequency())
+            .startAt(transferScheduleRequest.startAt())
+            .nextRunAt(transferScheduleRequest.startAt())
+            .build();
+
+        TransferSchedule savedSchedule = transferScheduleRepository.save(transferSchedule);
+
+        log.info("createSchedule. Transfer schedule created. Schedule id: {}", savedSchedule.getId());
+        return transferScheduleMapper.toResponse(savedSchedule);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TransferScheduleResponse> getUserSchedules(UUID userId) {
+        log.debug("getUserSchedules. Entering method. User id: {}", userId);
+
+        List<TransferScheduleResponse> schedules = transferScheduleRepository
+            .findAllByUserIdAndActiveTrueOrderByNextRunAt(userId).stream()
+            .map(transferScheduleMapper::toResponse)
+            .toList();
+
+        log.info("getUserSchedules. Transfer schedules retrieved. User id: {}", userId);
+        return schedules;
+    }
+
+    @Transactional
+    public void cancelSchedule(UUID scheduleId) {
+        log.debug("cancelSchedule. Entering method. Schedule id: {}", scheduleId);
+
+        TransferSchedule transferSchedule = transferScheduleRepository.findById(scheduleId)
+            .orElseThrow(() -> {
+                log.error("cancelSchedule. Transfer schedule not found with id {}", scheduleId);
+                return new TransferScheduleNotFoundById(
+                    ErrorMessagesConstant.TRANSFER_SCHEDULE_NOT_FOUND_BY_ID_MESSAGE.formatted(scheduleId)
+                );
+            });
+
+        transferSchedule.cancel();
+        log.info("cancelSchedule. Transfer schedule cancelled. Schedule id: {}", scheduleId);
+    }
+
+}
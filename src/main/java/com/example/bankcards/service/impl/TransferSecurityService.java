@@ -1,7 +1,14 @@
 package com.example.bankcards.service.impl;
 
+import com.example.bankcards.dto.request.CardNumberTransferRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.request.TransferScheduleRequest;
+import com.example.bankcards.entity.Card;
 import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.TransferRecordRepository;
+import com.example.bankcards.repository.TransferScheduleRepository;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,35 +22,131 @@ import org.springframework.stereotype.Service;
 public class TransferSecurityService {
 
     private final CardRepository cardRepository;
+    private final TransferRecordRepository transferRecordRepository;
+    private final TransferScheduleRepository transferScheduleRepository;
+    private final TransferCardContext transferCardContext;
+    private final CardHashService cardHashService;
 
     public boolean canTransfer(TransferRequest transferRequest) {
+        List<Card> transferCards = getOwnedTransferCards(
+            "canTransfer", transferRequest.sourceCardId(), transferRequest.targetCardId()
+        );
+
+        if (transferCards.isEmpty()) {
+            return false;
+        }
+
+        transferCardContext.putCards(transferCards);
+        return true;
+    }
+
+    public boolean canTransferToCardNumber(CardNumberTransferRequest cardNumberTransferRequest) {
+        Optional<Card> targetCard = cardHashService.findCardByCardNumber(cardNumberTransferRequest.targetCardNumber());
+
+        if (targetCard.isEmpty()) {
+            log.warn("canTransferToCardNumber. Target card not found by card number. Source: {}",
+                cardNumberTransferRequest.sourceCardId());
+            return false;
+        }
+
+        TransferRequest transferRequest = cardNumberTransferRequest.toTransferRequest(
+            targetCard.get().getId().toString()
+        );
+        if (!canTransfer(transferRequest)) {
+            return false;
+        }
+
+        transferCardContext.putTransferRequest(transferRequest);
+        return true;
+    }
+
+    public boolean canScheduleTransfer(TransferScheduleRequest transferScheduleRequest) {
+        return !getOwnedTransferCards(
+            "canScheduleTransfer", transferScheduleRequest.sourceCardId(), transferScheduleRequest.targetCardId()
+        ).isEmpty();
+    }
+
+    public boolean isTransferOwner(UUID transferId) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            if (authentication == null || !authentication.isAuthenticated()) {
+                log.warn("isTransferOwner. Unauthenticated access attempt to transfer: {}", transferId);
+                return false;
+            }
+
+            UUID userId = UUID.fromString(authentication.getName());
+            boolean isOwner = transferRecordRepository.existsByIdAndUserId(transferId, userId);
+
+            log.debug("isTransferOwner. Transfer ownership check - transferId: {}, userId: {}, isOwner: {}",
+                transferId, userId, isOwner);
+
+            return isOwner;
+
+        } catch (Exception e) {
+            log.error("isTransferOwner. Error checking transfer ownership for transferId: {}", transferId, e);
+            return false;
+        }
+    }
+
+    public boolean isScheduleOwner(UUID scheduleId) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
             if (authentication == null || !authentication.isAuthenticated()) {
-                log.warn("canTransfer. Unauthenticated transfer attempt");
+                log.warn("isScheduleOwner. Unauthenticated access attempt to transfer schedule: {}", scheduleId);
                 return false;
             }
 
+            UUID userId = UUID.fromString(authentication.getName());
+            boolean isOwner = transferScheduleRepository.existsByIdAndUserId(scheduleId, userId);
+
+            log.debug("isScheduleOwner. Schedule ownership check - scheduleId: {}, userId: {}, isOwner: {}",
+                scheduleId, userId, isOwner);
+
+            return isOwner;
+
+        } catch (Exception e) {
+            log.error("isScheduleOwner. Error checking schedule ownership for scheduleId: {}", scheduleId, e);
+            return false;
+        }
+    }
+
+    private List<Card> getOwnedTransferCards(String methodName, String sourceCardIdValue, String targetCardIdValue) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+            if (authentication == null || !authentication.isAuthenticated()) {
+                log.warn("{}. Unauthenticated transfer attempt", methodName);
+                return List.of();
+            }
+
             String currentUserId = authentication.getName();
             UUID userId = UUID.fromString(currentUserId);
 
-            UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
-            UUID targetCardId = UUID.fromString(transferRequest.targetCardId());
+            UUID sourceCardId = UUID.fromString(sourceCardIdValue);
+            UUID targetCardId = UUID.fromString(targetCardIdValue);
+
+            List<Card> transferCards = cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId));
 
-            boolean canTransferSource = cardRepository.existsByIdAndOwnerId(sourceCardId, userId);
-            boolean canTransferTarget = cardRepository.existsByIdAndOwnerId(targetCardId, userId);
+            boolean canTransferSource = isCardOwner(transferCards, sourceCardId, userId);
+            boolean canTransferTarget = isCardOwner(transferCards, targetCardId, userId);
 
             boolean canTransfer = canTransferSource && canTransferTarget;
 
-            log.debug("canTransfer. Transfer security check - source: {}, target: {}, user: {}, allowed: {}",
-                sourceCardId, targetCardId, userId, canTransfer);
+            log.debug("{}. Transfer security check - source: {}, target: {}, user: {}, allowed: {}",
+                methodName, sourceCardId, targetCardId, userId, canTransfer);
 
-            return canTransfer;
+            return canTransfer ? transferCards : List.of();
 
         } catch (Exception e) {
-            log.error("canTransfer. Error in transfer security check", e);
-            return false;
+            log.error("{}. Error in transfer security check", methodName, e);
+            return List.of();
         }
     }
+
+    private boolean isCardOwner(List<Card> cards, UUID cardId, UUID userId) {
+        return cards.stream()
+            .anyMatch(card -> card.getId().equals(cardId) && card.getOwner().getId().equals(userId));
+    }
 }
@@ -7,11 +7,14 @@ import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.UserAlreadyExistsByEmailException;
 import com.example.bankcards.exception.error.UserNotFoundById;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.security.PrincipalCache;
+import com.example.bankcards.security.TokenRevocationRegistry;
 import com.example.bankcards.service.UserService;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
 import com.example.bankcards.utility.mapper.PageResponseMapper;
 import com.example.bankcards.utility.mapper.UserMapper;
 import com.example.bankcards.utility.validator.UserValidator;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,6 +35,9 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final PageResponseMapper pageResponseMapper;
     private final UserValidator userValidator;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RefreshTokenService refreshTokenService;
 
 
     public UserResponse getUserDetails(UUID userId) {
@@ -104,12 +110,21 @@ public class UserServiceImpl implements UserService {
         user.setLastName(updateUserRequest.lastName());
         user.setEmail(updateUserRequest.email());
 
+        LocalDateTime tokensValidAfter = null;
         if (updateUserRequest.password() != null && !updateUserRequest.password().isBlank()) {
             String encryptedPassword = passwordEncoder.encode(updateUserRequest.password());
             user.setEncryptedPassword(encryptedPassword);
+            tokensValidAfter = tokenRevocationRegistry.newWatermark();
+            user.setTokensValidAfter(tokensValidAfter);
         }
 
         User updatedUser = userRepository.save(user);
+        principalCache.evict(userId);
+
+        if (tokensValidAfter != null) {
+            tokenRevocationRegistry.revoke(userId, tokensValidAfter);
+            refreshTokenService.revokeAll(userId);
+        }
         log.info("updateUserDetails. User updated successfully. User id: {}", userId);
         return userMapper.toResponse(updatedUser);
     }
@@ -122,7 +137,12 @@ public class UserServiceImpl implements UserService {
         userValidator.validateUserForDeactivation(user);
 
         user.setActive(false);
+        LocalDateTime tokensValidAfter = tokenRevocationRegistry.newWatermark();
+        user.setTokensValidAfter(tokensValidAfter);
         userRepository.save(user);
+        principalCache.invalidate(userId);
+        tokenRevocationRegistry.revoke(userId, tokensValidAfter);
+        refreshTokenService.revokeAll(userId);
 
         log.info("deactivateUser. User deactivated successfully. User id: {}", userId);
     }
@@ -136,6 +156,7 @@ public class UserServiceImpl implements UserService {
 
         user.setActive(true);
         userRepository.save(user);
+        principalCache.invalidate(userId);
 
         log.info("activateUser. User activated successfully. User id: {}", userId);
     }
@@ -148,9 +169,26 @@ public class UserServiceImpl implements UserService {
         userValidator.validateUserForDelete(user);
 
         userRepository.delete(user);
+        principalCache.invalidate(userId);
+        tokenRevocationRegistry.revokeDeletedUser(userId);
         log.info("deleteUser. User deleted successfully. User id: {}", userId);
     }
 
+    @Transactional
+    public void logoutAll(UUID userId) {
+        log.debug("logoutAll. Entering method. User id: {}", userId);
+
+        User user = getUserByUserId(userId);
+
+        LocalDateTime tokensValidAfter = tokenRevocationRegistry.newWatermark();
+        user.setTokensValidAfter(tokensValidAfter);
+        userRepository.save(user);
+        tokenRevocationRegistry.revoke(userId, tokensValidAfter);
+        refreshTokenService.revokeAll(userId);
+
+        log.info("logoutAll. User tokens revoked. User id: {}", userId);
+    }
+
     private User getUserByUserId(UUID userId) {
         log.debug("getUserByUserId. Search user by user Id: {}", userId);
 
@@ -0,0 +1,99 @@
+package com.example.bankcards.utility.aspect;
+
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.OptimisticLockException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class OptimisticLockRetryAspect {
+
+    private static final String OPERATION_TAG = "operation";
+    private static final String MODE_TAG = "mode";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.card.concurrency-mode:PESSIMISTIC}")
+    private CardConcurrencyMode cardConcurrencyMode;
+
+    @Value("${app.card.retry.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.card.retry.initial-backoff-ms:10}")
+    private long initialBackoffMs;
+
+    @Value("${app.card.retry.max-backoff-ms:200}")
+    private long maxBackoffMs;
+
+    @Around("@annotation(com.example.bankcards.utility.annotation.RetryOnOptimisticLock)")
+    public Object retryOnOptimisticLock(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName();
+        String mode = String.valueOf(cardConcurrencyMode);
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        meterRegistry.counter("card.concurrency.invocations", OPERATION_TAG, operation, MODE_TAG, mode).increment();
+
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return joinPoint.proceed();
+                } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                    meterRegistry.counter("card.concurrency.conflicts", OPERATION_TAG, operation, MODE_TAG, mode)
+                        .increment();
+
+                    if (attempt >= maxAttempts) {
+                        meterRegistry.counter("card.concurrency.exhausted", OPERATION_TAG, operation, MODE_TAG, mode)
+                            .increment();
+                        log.error("retryOnOptimisticLock. Retries exhausted. Operation: {}, attempts: {}",
+                            operation, attempt);
+                        throw new ConflictException(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION);
+                    }
+
+                    long backoffMs = getBackoffMs(attempt);
+                    meterRegistry.counter("card.concurrency.retries", OPERATION_TAG, operation, MODE_TAG, mode)
+                        .increment();
+                    log.warn("retryOnOptimisticLock. Optimistic lock conflict. Operation: {}, attempt: {}, backoff: {} ms",
+                        operation, attempt, backoffMs);
+
+                    sleep(backoffMs);
+                }
+            }
+        } finally {
+            sample.stop(meterRegistry.timer("card.concurrency.operation", OPERATION_TAG, operation, MODE_TAG, mode));
+        }
+    }
+
+    private long getBackoffMs(int attempt) {
+        long exponentialBackoffMs = initialBackoffMs << Math.min(attempt - 1, 20);
+        long cappedBackoffMs = Math.min(maxBackoffMs, exponentialBackoffMs);
+
+        return ThreadLocalRandom.current().nextLong(cappedBackoffMs + 1);
+    }
+
+    private void sleep(long backoffMs) {
+        try {
+            Thread.sleep(backoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION);
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.example.bankcards.utility.comparator;
+
+import java.util.Comparator;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PostgresUuidComparator {
+
+    public static final Comparator<UUID> INSTANCE = Comparator
+        .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+        .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+}
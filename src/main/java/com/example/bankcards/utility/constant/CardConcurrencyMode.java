@@ -0,0 +1,9 @@
+package com.example.bankcards.utility.constant;
+
+public enum CardConcurrencyMode {
+
+    OPTIMISTIC,
+    PESSIMISTIC,
+    ATOMIC
+
+}
@@ -0,0 +1,27 @@
+package com.example.bankcards.utility.constant;
+
+import com.example.bankcards.exception.error.BadRequestException;
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+@AllArgsConstructor
+public enum CardImportFormat {
+
+    CSV("text/csv"),
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    public static CardImportFormat fromContentType(String contentType) {
+        return Arrays.stream(CardImportFormat.values()).filter(
+                format -> contentType != null
+                    && MediaType.parseMediaType(format.getMediaType()).isCompatibleWith(MediaType.parseMediaType(contentType))
+            )
+            .findFirst()
+            .orElseThrow(() -> new BadRequestException(ErrorMessagesConstant.CARD_IMPORT_FORMAT_NOT_SUPPORTED));
+    }
+
+}
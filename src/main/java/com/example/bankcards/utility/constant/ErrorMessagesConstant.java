@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 public final class ErrorMessagesConstant {
 
     public static final String CARD_NOT_FOUND_BY_ID_MESSAGE = "Card not found by id: %s";
+    public static final String CARD_NOT_FOUND_BY_CARD_NUMBER_MESSAGE = "Card not found by card number";
     public static final String CARD_EXPIRED = "Card has expired. Card id: %s";
     public static final String CARD_BLOCKED = "Card is blocked. Card id: %s";
     public static final String INSUFFICIENT_BALANCE = "Insufficient balance";
@@ -14,6 +15,28 @@ public final class ErrorMessagesConstant {
     public static final String CARD_DELETE_HAS_POSITIVE_BALANCE =
         "Cannot delete card with positive balance. Card id: %s";
     public static final String CARD_ALREADY_EXISTS_BY_CARD_NUMBER = "Card already exists";
+    public static final String CARD_CONCURRENT_MODIFICATION = "Card was modified concurrently, please retry";
+    public static final String IDEMPOTENCY_KEY_REUSED =
+        "Idempotency key has already been used with a different request";
+    public static final String IDEMPOTENT_REQUEST_IN_PROGRESS =
+        "Request with this idempotency key is still in progress, please retry later";
+    public static final String IDEMPOTENCY_KEY_NOT_SUPPORTED_FOR_ASYNC =
+        "Idempotency-Key header is not supported for asynchronous transfers";
+    public static final String TRANSFER_NOT_FOUND_BY_ID_MESSAGE = "Transfer not found by id: %s";
+    public static final String TRANSFER_QUEUE_FULL = "Transfer queue is full, please retry later";
+    public static final String TRANSFER_PROCESSING_FAILED = "Transfer could not be processed";
+    public static final String TRANSFER_SCHEDULE_NOT_FOUND_BY_ID_MESSAGE = "Transfer schedule not found by id: %s";
+    public static final String TRANSFER_AMOUNT_LIMIT_EXCEEDED = "Transfer amount exceeds the per-transfer limit";
+    public static final String TRANSFER_RATE_LIMIT_EXCEEDED = "Too many transfers from this card, try again later";
+    public static final String CARD_DAILY_LIMIT_EXCEEDED = "Daily transfer limit for this card is exceeded";
+    public static final String USER_DAILY_LIMIT_EXCEEDED = "Daily transfer limit for this user is exceeded";
+    public static final String CARD_HOLD_NOT_FOUND_BY_ID_MESSAGE = "Card hold not found by id: %s";
+    public static final String CARD_HOLD_NOT_ACTIVE = "Card hold is already %s. Hold id: %s";
+    public static final String CARD_HOLD_EXPIRED = "Card hold has expired. Hold id: %s";
+    public static final String CARD_HOLD_CAPTURE_EXCEEDS_AMOUNT = "Captured amount exceeds held amount. Hold id: %s";
+    public static final String CARD_IMPORT_FORMAT_NOT_SUPPORTED = "Card import supports only text/csv and application/x-ndjson";
+    public static final String CARD_IMPORT_LINE_MALFORMED = "Line could not be parsed as a card";
+    public static final String CARD_IMPORT_FAILED = "Card could not be imported";
 
     public static final String USER_NOT_FOUND_BY_ID_MESSAGE = "User not found by id: %s";
     public static final String USER_ALREADY_EXISTS_BY_EMAIL_MESSAGE = "User already exists by email: %s";
@@ -23,6 +46,8 @@ public final class ErrorMessagesConstant {
     public static final String USER_ALREADY_ACTIVE = "User already active";
     public static final String CANNOT_DELETE_USER_WITH_CARDS = "Cannot delete user with card";
     public static final String INVALID_CREDENTIALS = "Invalid credentials";
+    public static final String INVALID_REFRESH_TOKEN = "Invalid refresh token";
+    public static final String PASSWORD_HASHING_OVERLOADED = "Too many authentication requests, please retry later";
     public static final String USER_NOT_FOUND_BY_EMAIL = "User not found by email: %s";
 
 }
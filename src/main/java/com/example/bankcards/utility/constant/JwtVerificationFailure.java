@@ -0,0 +1,11 @@
+package com.example.bankcards.utility.constant;
+
+public enum JwtVerificationFailure {
+
+    EMPTY,
+    MALFORMED,
+    UNSUPPORTED,
+    INVALID_SIGNATURE,
+    EXPIRED
+
+}
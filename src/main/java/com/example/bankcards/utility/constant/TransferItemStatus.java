@@ -0,0 +1,8 @@
+package com.example.bankcards.utility.constant;
+
+public enum TransferItemStatus {
+
+    COMPLETED,
+    REJECTED
+
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.CardHoldStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class CardHoldStatusConverter implements AttributeConverter<CardHoldStatus, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(CardHoldStatus status) {
+        return status.getCode();
+    }
+
+    @Override
+    public CardHoldStatus convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return CardHoldStatus.fromCode(code);
+    }
+
+}
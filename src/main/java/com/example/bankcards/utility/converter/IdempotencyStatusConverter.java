@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.IdempotencyStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class IdempotencyStatusConverter implements AttributeConverter<IdempotencyStatus, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(IdempotencyStatus status) {
+        return status.getCode();
+    }
+
+    @Override
+    public IdempotencyStatus convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return IdempotencyStatus.fromCode(code);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.LedgerEntryType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class LedgerEntryTypeConverter implements AttributeConverter<LedgerEntryType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(LedgerEntryType entryType) {
+        return entryType.getCode();
+    }
+
+    @Override
+    public LedgerEntryType convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return LedgerEntryType.fromCode(code);
+    }
+
+}
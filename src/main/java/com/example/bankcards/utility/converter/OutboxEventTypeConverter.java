@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.OutboxEventType;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class OutboxEventTypeConverter implements AttributeConverter<OutboxEventType, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(OutboxEventType eventType) {
+        return eventType.getCode();
+    }
+
+    @Override
+    public OutboxEventType convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return OutboxEventType.fromCode(code);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.TransferFrequency;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TransferFrequencyConverter implements AttributeConverter<TransferFrequency, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(TransferFrequency frequency) {
+        return frequency.getCode();
+    }
+
+    @Override
+    public TransferFrequency convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return TransferFrequency.fromCode(code);
+    }
+
+}
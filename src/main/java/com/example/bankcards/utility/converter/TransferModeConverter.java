@@ -0,0 +1,16 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.utility.constant.TransferMode;
+import java.util.Locale;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransferModeConverter implements Converter<String, TransferMode> {
+
+    @Override
+    public TransferMode convert(String mode) {
+        return TransferMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+    }
+
+}
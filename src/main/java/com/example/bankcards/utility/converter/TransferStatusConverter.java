@@ -0,0 +1,24 @@
+package com.example.bankcards.utility.converter;
+
+import com.example.bankcards.entity.TransferStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TransferStatusConverter implements AttributeConverter<TransferStatus, Integer> {
+
+    @Override
+    public Integer convertToDatabaseColumn(TransferStatus status) {
+        return status.getCode();
+    }
+
+    @Override
+    public TransferStatus convertToEntityAttribute(Integer code) {
+        if (code == null) {
+            return null;
+        }
+
+        return TransferStatus.fromCode(code);
+    }
+
+}
@@ -5,15 +5,17 @@ import jakarta.persistence.Converter;
 import java.time.YearMonth;
 
 @Converter
-public class YearMonthConverter implements AttributeConverter<YearMonth, String> {
+public class YearMonthConverter implements AttributeConverter<YearMonth, Integer> {
+
+    private static final int MONTHS_FACTOR = 100;
 
     @Override
-    public String convertToDatabaseColumn(YearMonth yearMonth) {
-        return yearMonth != null ? yearMonth.toString() : null;
+    public Integer convertToDatabaseColumn(YearMonth yearMonth) {
+        return yearMonth != null ? yearMonth.getYear() * MONTHS_FACTOR + yearMonth.getMonthValue() : null;
     }
 
     @Override
-    public YearMonth convertToEntityAttribute(String dbData) {
-        return dbData != null ? YearMonth.parse(dbData) : null;
+    public YearMonth convertToEntityAttribute(Integer dbData) {
+        return dbData != null ? YearMonth.of(dbData / MONTHS_FACTOR, dbData % MONTHS_FACTOR) : null;
     }
 }
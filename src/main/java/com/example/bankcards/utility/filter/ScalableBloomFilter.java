@@ -0,0 +1,148 @@
+package com.example.bankcards.utility.filter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ScalableBloomFilter {
+
+    private static final int GROWTH_FACTOR = 2;
+    private static final double TIGHTENING_RATIO = 0.5;
+    private static final double LN2 = Math.log(2);
+
+    private final double falsePositiveRate;
+    private volatile Layer[] layers;
+
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (initialCapacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Capacity must be positive and false positive rate between 0 and 1");
+        }
+
+        this.falsePositiveRate = falsePositiveRate;
+        this.layers = new Layer[]{new Layer(initialCapacity, falsePositiveRate * (1 - TIGHTENING_RATIO))};
+    }
+
+    public void add(long hash1, long hash2) {
+        Layer[] currentLayers = layers;
+        Layer layer = currentLayers[currentLayers.length - 1];
+
+        if (layer.count.get() >= layer.capacity) {
+            layer = grow(layer);
+        }
+
+        layer.add(hash1, hash2);
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        for (Layer layer : layers) {
+            if (layer.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public long size() {
+        long size = 0;
+        for (Layer layer : layers) {
+            size += layer.count.get();
+        }
+        return size;
+    }
+
+    public long getMemoryBytes() {
+        long memoryBytes = 0;
+        for (Layer layer : layers) {
+            memoryBytes += (long) layer.bits.length() * Long.BYTES;
+        }
+        return memoryBytes;
+    }
+
+    public int getLayerCount() {
+        return layers.length;
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        double trueNegativeRate = 1;
+        for (Layer layer : layers) {
+            trueNegativeRate *= 1 - layer.getExpectedFalsePositiveRate();
+        }
+        return 1 - trueNegativeRate;
+    }
+
+    private synchronized Layer grow(Layer fullLayer) {
+        Layer[] currentLayers = layers;
+        Layer lastLayer = currentLayers[currentLayers.length - 1];
+
+        if (lastLayer != fullLayer) {
+            return lastLayer;
+        }
+
+        Layer[] grownLayers = Arrays.copyOf(currentLayers, currentLayers.length + 1);
+        grownLayers[currentLayers.length] = new Layer(
+            fullLayer.capacity * GROWTH_FACTOR,
+            falsePositiveRate * (1 - TIGHTENING_RATIO) * Math.pow(TIGHTENING_RATIO, currentLayers.length)
+        );
+        layers = grownLayers;
+        return grownLayers[currentLayers.length];
+    }
+
+    private static final class Layer {
+
+        private final long capacity;
+        private final long bitSize;
+        private final int hashCount;
+        private final AtomicLongArray bits;
+        private final AtomicLong count = new AtomicLong();
+
+        private Layer(long capacity, double falsePositiveRate) {
+            long words = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2) / Long.SIZE);
+            if (words > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Bloom filter layer is too large. Capacity: " + capacity);
+            }
+
+            this.capacity = capacity;
+            this.bits = new AtomicLongArray((int) Math.max(1, words));
+            this.bitSize = (long) bits.length() * Long.SIZE;
+            this.hashCount = (int) Math.max(1, Math.round((double) bitSize / capacity * LN2));
+        }
+
+        private void add(long hash1, long hash2) {
+            long combinedHash = hash1;
+
+            for (int i = 0; i < hashCount; i++) {
+                long bitIndex = Math.floorMod(combinedHash, bitSize);
+                int wordIndex = (int) (bitIndex >>> 6);
+                long mask = 1L << bitIndex;
+
+                if ((bits.get(wordIndex) & mask) == 0) {
+                    bits.getAndAccumulate(wordIndex, mask, (word, bit) -> word | bit);
+                }
+                combinedHash += hash2;
+            }
+
+            count.incrementAndGet();
+        }
+
+        private boolean mightContain(long hash1, long hash2) {
+            long combinedHash = hash1;
+
+            for (int i = 0; i < hashCount; i++) {
+                long bitIndex = Math.floorMod(combinedHash, bitSize);
+                if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+                combinedHash += hash2;
+            }
+
+            return true;
+        }
+
+        private double getExpectedFalsePositiveRate() {
+            return Math.pow(1 - Math.exp(-(double) hashCount * count.get() / bitSize), hashCount);
+        }
+
+    }
+
+}
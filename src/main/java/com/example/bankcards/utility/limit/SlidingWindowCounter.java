@@ -0,0 +1,85 @@
+package com.example.bankcards.utility.limit;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class SlidingWindowCounter {
+
+    private final long sliceMs;
+    private final int sliceCount;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    public SlidingWindowCounter(long windowMs, int sliceCount) {
+        if (windowMs <= 0 || sliceCount <= 0 || windowMs % sliceCount != 0) {
+            throw new IllegalArgumentException("Window must be a positive multiple of slice count");
+        }
+
+        this.sliceMs = windowMs / sliceCount;
+        this.sliceCount = sliceCount;
+        this.buckets = new AtomicReferenceArray<>(sliceCount);
+    }
+
+    public LongAdder add(long nowMs, long value) {
+        LongAdder bucket = getBucket(nowMs / sliceMs);
+        LongAdder target = bucket != null ? bucket : new LongAdder();
+        target.add(value);
+        return target;
+    }
+
+    public void addAt(long timeMs, long value, long nowMs) {
+        long slice = timeMs / sliceMs;
+
+        if (slice > nowMs / sliceMs || slice <= nowMs / sliceMs - sliceCount) {
+            return;
+        }
+
+        LongAdder bucket = getBucket(slice);
+        if (bucket != null) {
+            bucket.add(value);
+        }
+    }
+
+    public long sum(long nowMs) {
+        long currentSlice = nowMs / sliceMs;
+        long total = 0;
+
+        for (int index = 0; index < sliceCount; index++) {
+            Bucket bucket = buckets.get(index);
+
+            if (bucket != null && bucket.slice() <= currentSlice && bucket.slice() > currentSlice - sliceCount) {
+                total += bucket.value().sum();
+            }
+        }
+
+        return total;
+    }
+
+    public long getSliceStartMs(long timeMs) {
+        return timeMs - Math.floorMod(timeMs, sliceMs);
+    }
+
+    private LongAdder getBucket(long slice) {
+        int index = (int) Math.floorMod(slice, (long) sliceCount);
+
+        while (true) {
+            Bucket bucket = buckets.get(index);
+
+            if (bucket != null && bucket.slice() == slice) {
+                return bucket.value();
+            }
+
+            if (bucket != null && bucket.slice() > slice) {
+                return null;
+            }
+
+            Bucket nextBucket = new Bucket(slice, new LongAdder());
+            if (buckets.compareAndSet(index, bucket, nextBucket)) {
+                return nextBucket.value();
+            }
+        }
+    }
+
+    private record Bucket(long slice, LongAdder value) {
+    }
+
+}
@@ -21,6 +21,11 @@ public interface CardMapper {
     @Mapping(target = "cardStatus", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "cardFingerprint", ignore = true)
+    @Mapping(target = "fingerprintKeyVersion", ignore = true)
+    @Mapping(target = "heldAmount", ignore = true)
+    @Mapping(target = "balanceSlotCount", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Card toEntity(CardRequest cardRequest);
 
     @Mapping(target = "ownerId", source = "owner.id")
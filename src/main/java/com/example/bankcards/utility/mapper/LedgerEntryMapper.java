@@ -0,0 +1,17 @@
+package com.example.bankcards.utility.mapper;
+
+import com.example.bankcards.dto.response.LedgerEntryResponse;
+import com.example.bankcards.entity.LedgerEntry;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface LedgerEntryMapper {
+
+    LedgerEntryResponse toResponse(LedgerEntry ledgerEntry);
+
+}
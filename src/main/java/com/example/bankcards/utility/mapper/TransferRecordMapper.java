@@ -0,0 +1,17 @@
+package com.example.bankcards.utility.mapper;
+
+import com.example.bankcards.dto.response.TransferResponse;
+import com.example.bankcards.entity.TransferRecord;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface TransferRecordMapper {
+
+    TransferResponse toResponse(TransferRecord transferRecord);
+
+}
@@ -0,0 +1,17 @@
+package com.example.bankcards.utility.mapper;
+
+import com.example.bankcards.dto.response.TransferScheduleResponse;
+import com.example.bankcards.entity.TransferSchedule;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.MappingConstants;
+
+@Mapper(
+    componentModel = MappingConstants.ComponentModel.SPRING,
+    injectionStrategy = InjectionStrategy.CONSTRUCTOR
+)
+public interface TransferScheduleMapper {
+
+    TransferScheduleResponse toResponse(TransferSchedule transferSchedule);
+
+}
@@ -21,6 +21,7 @@ public interface UserMapper {
     @Mapping(target = "encryptedPassword", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "cards", ignore = true)
+    @Mapping(target = "tokensValidAfter", ignore = true)
     User toEntity(UserRequest user);
 
     UserResponse toResponse(User user);
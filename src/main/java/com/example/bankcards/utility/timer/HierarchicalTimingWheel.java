@@ -0,0 +1,119 @@
+package com.example.bankcards.utility.timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+public class HierarchicalTimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final List<Deque<TimerEntry<T>>> buckets;
+    private final List<T> expiredItems = new ArrayList<>();
+
+    private long currentTimeMs;
+    private int size;
+    private HierarchicalTimingWheel<T> overflowWheel;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.currentTimeMs = startMs - Math.floorMod(startMs, tickMs);
+        this.buckets = new ArrayList<>(wheelSize);
+
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+    }
+
+    public synchronized void add(T item, long deadlineMs) {
+        TimerEntry<T> entry = new TimerEntry<>(item, deadlineMs + Math.floorMod(-deadlineMs, tickMs));
+
+        if (!insert(entry)) {
+            expiredItems.add(item);
+        }
+        size++;
+    }
+
+    public synchronized List<T> advance(long nowMs) {
+        List<T> dueItems = new ArrayList<>(expiredItems);
+        expiredItems.clear();
+
+        while (currentTimeMs + tickMs <= nowMs) {
+            currentTimeMs += tickMs;
+            reinsert(drainBucket(currentTimeMs), dueItems);
+
+            if (overflowWheel != null) {
+                reinsert(overflowWheel.advanceClock(currentTimeMs), dueItems);
+            }
+        }
+
+        size -= dueItems.size();
+        return dueItems;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private boolean insert(TimerEntry<T> entry) {
+        if (entry.deadlineMs() < currentTimeMs + tickMs) {
+            return false;
+        }
+
+        if (entry.deadlineMs() < currentTimeMs + interval) {
+            buckets.get(getBucketIndex(entry.deadlineMs())).addLast(entry);
+            return true;
+        }
+
+        if (overflowWheel == null) {
+            overflowWheel = new HierarchicalTimingWheel<>(interval, wheelSize, currentTimeMs);
+        }
+        return overflowWheel.insert(entry);
+    }
+
+    private List<TimerEntry<T>> advanceClock(long timeMs) {
+        List<TimerEntry<T>> cascadedEntries = new ArrayList<>();
+
+        while (currentTimeMs + tickMs <= timeMs) {
+            currentTimeMs += tickMs;
+            cascadedEntries.addAll(drainBucket(currentTimeMs));
+
+            if (overflowWheel != null) {
+                cascadedEntries.addAll(overflowWheel.advanceClock(currentTimeMs));
+            }
+        }
+
+        return cascadedEntries;
+    }
+
+    private List<TimerEntry<T>> drainBucket(long timeMs) {
+        Deque<TimerEntry<T>> bucket = buckets.get(getBucketIndex(timeMs));
+        List<TimerEntry<T>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        return entries;
+    }
+
+    private void reinsert(List<TimerEntry<T>> entries, List<T> dueItems) {
+        for (TimerEntry<T> entry : entries) {
+            if (!insert(entry)) {
+                dueItems.add(entry.item());
+            }
+        }
+    }
+
+    private int getBucketIndex(long timeMs) {
+        return (int) Math.floorMod(timeMs / tickMs, (long) wheelSize);
+    }
+
+    private record TimerEntry<T>(T item, long deadlineMs) {
+    }
+
+}
@@ -35,6 +35,18 @@ public class CardValidator {
         }
     }
 
+    public void validateCardForTransfer(Card card) {
+        if (card.isExpired() || card.getCardStatus() == CardStatus.EXPIRED) {
+            log.error("validateCardForTransfer. Card expired. Card ID: {}", card.getId());
+            throw new BadRequestException(ErrorMessagesConstant.CARD_EXPIRED.formatted(card.getId()));
+        }
+
+        if (card.getCardStatus() == CardStatus.BLOCKED) {
+            log.error("validateCardForTransfer. Card status is BLOCKED. Card ID: {}", card.getId());
+            throw new BadRequestException(ErrorMessagesConstant.CARD_BLOCKED.formatted(card.getId()));
+        }
+    }
+
     public void validateCardForBlock(Card blockableCard) {
         if (blockableCard.isExpired()) {
             log.error("validateCardForBlock. Cannot block expired card: {}", blockableCard);
@@ -0,0 +1,140 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.service.impl.CardHashService;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CardHashServiceBenchmark {
+
+    private static final String QUICK_HASH_KEY = "benchmark-card-quick-hash-pepper-32-bytes";
+    private static final String FINGERPRINT_KEY = "benchmark-card-fingerprint-pepper-32-bytes";
+    private static final int[] THREADS = {1, 8, 32};
+    private static final int CARD_NUMBERS = 1024;
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                .include(CardHashServiceBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()
+            ).run();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Services {
+
+        private CardHashService cardHashService;
+        private LegacyCardHashService legacyCardHashService;
+
+        @Setup
+        public void setUp() {
+            cardHashService = new CardHashService(null, null);
+            ReflectionTestUtils.setField(cardHashService, "quickHashKey", QUICK_HASH_KEY);
+            ReflectionTestUtils.setField(cardHashService, "fingerprintKey", FINGERPRINT_KEY);
+            legacyCardHashService = new LegacyCardHashService();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class CardNumbers {
+
+        private final String[] cardNumbers = new String[CARD_NUMBERS];
+        private int index;
+
+        @Setup
+        public void setUp() {
+            long seed = Thread.currentThread().getId() * 1_000_003L;
+            for (int i = 0; i < CARD_NUMBERS; i++) {
+                cardNumbers[i] = String.format("%016d", Math.floorMod(seed + i * 7_919L, 10_000_000_000_000_000L));
+            }
+        }
+
+        private String next() {
+            index = (index + 1) & (CARD_NUMBERS - 1);
+            return cardNumbers[index];
+        }
+
+    }
+
+    @Benchmark
+    public String quickHash(Services services, CardNumbers cardNumbers) {
+        return services.cardHashService.getQuickHash(cardNumbers.next());
+    }
+
+    @Benchmark
+    public String legacyQuickHash(Services services, CardNumbers cardNumbers) {
+        return services.legacyCardHashService.getQuickHash(cardNumbers.next());
+    }
+
+    @Benchmark
+    public String fingerprint(Services services, CardNumbers cardNumbers) {
+        return services.cardHashService.getFingerprint(cardNumbers.next());
+    }
+
+    @Benchmark
+    public String legacyFingerprint(Services services, CardNumbers cardNumbers) {
+        return services.legacyCardHashService.getFingerprint(cardNumbers.next());
+    }
+
+    private static final class LegacyCardHashService {
+
+        private final MessageDigest sha256Digest;
+
+        private LegacyCardHashService() {
+            try {
+                sha256Digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        private String getQuickHash(String cardNumber) {
+            byte[] hash;
+            synchronized (sha256Digest) {
+                hash = sha256Digest.digest(cardNumber.getBytes(StandardCharsets.UTF_8));
+            }
+            return Base64.getEncoder().encodeToString(hash);
+        }
+
+        private String getFingerprint(String cardNumber) {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(new SecretKeySpec(FINGERPRINT_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+
+                byte[] fingerprint = mac.doFinal(Base64.getDecoder().decode(getQuickHash(cardNumber)));
+                return Base64.getEncoder().encodeToString(fingerprint);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.utility.filter.ScalableBloomFilter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CardNumberFilterBenchmark {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int PROBES = 1 << 16;
+
+    @Param("10000000")
+    private int cards;
+
+    private ScalableBloomFilter filter;
+    private long[] presentHashes;
+    private long[] absentHashes;
+    private int index;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(CardNumberFilterBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        filter = new ScalableBloomFilter(cards, FALSE_POSITIVE_RATE);
+        presentHashes = new long[PROBES * 2];
+        absentHashes = new long[PROBES * 2];
+
+        for (int card = 0; card < cards; card++) {
+            ByteBuffer hash = hash(digest, card);
+            filter.add(hash.getLong(0), hash.getLong(Long.BYTES));
+
+            if (card % (cards / PROBES) == 0 && card / (cards / PROBES) < PROBES) {
+                int probe = card / (cards / PROBES);
+                presentHashes[2 * probe] = hash.getLong(0);
+                presentHashes[2 * probe + 1] = hash.getLong(Long.BYTES);
+            }
+        }
+
+        for (int probe = 0; probe < PROBES; probe++) {
+            ByteBuffer hash = hash(digest, cards + probe);
+            absentHashes[2 * probe] = hash.getLong(0);
+            absentHashes[2 * probe + 1] = hash.getLong(Long.BYTES);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        int falsePositives = 0;
+        for (int probe = 0; probe < PROBES; probe++) {
+            if (filter.mightContain(absentHashes[2 * probe], absentHashes[2 * probe + 1])) {
+                falsePositives++;
+            }
+        }
+
+        System.out.printf("%nCards: %d, layers: %d, memory: %.1f MiB, expected fpp: %.4f, measured fpp: %.4f%n",
+            filter.size(), filter.getLayerCount(), filter.getMemoryBytes() / (1024.0 * 1024.0),
+            filter.getExpectedFalsePositiveRate(), (double) falsePositives / PROBES);
+    }
+
+    @Benchmark
+    public boolean newCardLookup() {
+        int probe = nextProbe();
+        return filter.mightContain(absentHashes[2 * probe], absentHashes[2 * probe + 1]);
+    }
+
+    @Benchmark
+    public boolean existingCardLookup() {
+        int probe = nextProbe();
+        return filter.mightContain(presentHashes[2 * probe], presentHashes[2 * probe + 1]);
+    }
+
+    private int nextProbe() {
+        index = (index + 1) & (PROBES - 1);
+        return index;
+    }
+
+    private ByteBuffer hash(MessageDigest digest, int card) {
+        String cardNumber = String.format("4%03d %04d %04d %04d",
+            card / 1_000_000_000 % 1000, card / 100_000_000 % 10_000, card / 10_000 % 10_000, card % 10_000);
+        return ByteBuffer.wrap(digest.digest(cardNumber.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.example.bankcards.benchmark;
+
+import com.example.bankcards.config.CacheConfig;
+import com.example.bankcards.entity.Role;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.JwtTokenProvider;
+import com.example.bankcards.security.JwtVerificationResult;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.SecretKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String JWT_SECRET = "benchmark-jwt-secret-key-at-least-256-bits-long";
+    private static final int JWT_EXPIRATION_MS = 3_600_000;
+    private static final int TOKENS = 256;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(JwtTokenProviderBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Providers {
+
+        private final String[] tokens = new String[TOKENS];
+        private JwtTokenProvider cachedTokenProvider;
+        private JwtTokenProvider uncachedTokenProvider;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            cachedTokenProvider = newJwtTokenProvider(TOKENS);
+            uncachedTokenProvider = newJwtTokenProvider(0);
+
+            for (int i = 0; i < TOKENS; i++) {
+                CustomUserDetails userDetails = new CustomUserDetails(UUID.randomUUID(), "user" + i + "@example.com",
+                    null, List.of(new SimpleGrantedAuthority(Role.ROLE_USER.name())), true);
+                tokens[i] = cachedTokenProvider.generateToken(
+                    new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())
+                );
+            }
+        }
+
+        private String next() {
+            index = (index + 1) & (TOKENS - 1);
+            return tokens[index];
+        }
+
+        private JwtTokenProvider newJwtTokenProvider(long cacheSize) {
+            JwtTokenProvider tokenProvider = new JwtTokenProvider(new CacheConfig().jwtVerificationCache(cacheSize));
+            ReflectionTestUtils.setField(tokenProvider, "jwtSecret", JWT_SECRET);
+            ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", JWT_EXPIRATION_MS);
+            tokenProvider.init();
+            return tokenProvider;
+        }
+
+    }
+
+    @Benchmark
+    public UUID legacyValidateAndExtract(Providers providers) {
+        String token = providers.next();
+        Jwts.parserBuilder().setSigningKey(legacySigningKey()).build().parseClaimsJws(token);
+
+        Claims claims = Jwts.parserBuilder()
+            .setSigningKey(legacySigningKey())
+            .build()
+            .parseClaimsJws(token)
+            .getBody();
+        return UUID.fromString(claims.getSubject());
+    }
+
+    @Benchmark
+    public JwtVerificationResult verifyUncached(Providers providers) {
+        return providers.uncachedTokenProvider.verify(providers.next());
+    }
+
+    @Benchmark
+    public JwtVerificationResult verifyCached(Providers providers) {
+        return providers.cachedTokenProvider.verify(providers.next());
+    }
+
+    private static SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(JWT_SECRET.getBytes());
+    }
+
+}
@@ -12,6 +12,7 @@ import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.CardStatus;
 import com.example.bankcards.entity.Role;
 import com.example.bankcards.entity.User;
+import com.example.bankcards.security.CustomUserDetails;
 import java.math.BigDecimal;
 import java.time.YearMonth;
 import java.util.Collections;
@@ -50,9 +51,11 @@ public final class UnitTestDataProvider {
     public static final String TEST_NEW_HASHED_PASSWORD = "newEncodedPassword";
     public static final String TEST_CARD_HASH = "hash";
     public static final String TEST_CARD_QUICK_HASH = "quickHash";
+    public static final String TEST_CARD_FINGERPRINT = "cardFingerprint";
     public static final String TEST_MASKED_CARD_NUMBER = "1234 **** **** 5678";
     public static final YearMonth TEST_EXPIRY_DATE = YearMonth.of(2025, 12);
     public static final String TEST_JWT_TOKEN = "jwt-token";
+    public static final String TEST_REFRESH_TOKEN = "refresh-token";
     public static final String VALID_CARD_NUMBER = "1234567890123456";
     public static final String SHORT_CARD_NUMBER = "12345678901";
     public static final String CARD_NUMBER_WITH_SPACES = "1234 5678 9012 3456";
@@ -60,6 +63,8 @@ public final class UnitTestDataProvider {
     public static final String MASKED_WITH_SPACES = "1234 **** **** 3456";
     public static final String TEST_HASHED_CARD_NUMBER = "hashedCardNumber";
     public static final String TEST_DIFFERENT_HASH = "differentHash";
+    public static final UUID TEST_LOWER_CARD_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    public static final UUID TEST_HIGHER_CARD_ID = UUID.fromString("ffffffff-0000-0000-0000-000000000002");
 
     public static User user() {
         return User.builder()
@@ -218,7 +223,7 @@ public final class UnitTestDataProvider {
     }
 
     public static CardBalanceResponse cardBalanceResponse() {
-        return new CardBalanceResponse(TEST_BALANCE);
+        return new CardBalanceResponse(TEST_BALANCE, TEST_BALANCE);
     }
 
     public static AuthRequest authRequest() {
@@ -226,7 +231,7 @@ public final class UnitTestDataProvider {
     }
 
     public static AuthResponse authResponse() {
-        return new AuthResponse(TEST_JWT_TOKEN);
+        return new AuthResponse(TEST_JWT_TOKEN, TEST_REFRESH_TOKEN);
     }
 
     public static TransferRequest transferRequest(Card sourceCard, Card targetCard) {
@@ -282,7 +287,7 @@ public final class UnitTestDataProvider {
 
     public static UsernamePasswordAuthenticationToken authenticationForLogin() {
         return new UsernamePasswordAuthenticationToken(
-            TEST_EMAIL,
+            CustomUserDetails.create(user()),
             TEST_PASSWORD,
             Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
         );
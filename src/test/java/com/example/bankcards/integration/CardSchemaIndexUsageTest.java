@@ -0,0 +1,94 @@
+package com.example.bankcards.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "SCHEMA_EXPLAIN_TEST_ENABLED", matches = "true")
+public class CardSchemaIndexUsageTest {
+
+    private static final UUID OWNER_ID = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+    private static final UUID CARD_ID = UUID.fromString("223e4567-e89b-12d3-a456-426614174000");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ANALYZE cards");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    void findByOwnerId_shouldUseOwnerIndex() {
+        String plan = explain("SELECT * FROM cards WHERE owner_id = '%s' ORDER BY id LIMIT 10".formatted(OWNER_ID));
+
+        assertTrue(plan.contains("idx_cards_owner_id_id"), plan);
+    }
+
+    @Test
+    void existsByIdAndOwnerId_shouldAvoidSequentialScan() {
+        String plan = explain(
+            "SELECT 1 FROM cards WHERE id = '%s' AND owner_id = '%s' LIMIT 1".formatted(CARD_ID, OWNER_ID)
+        );
+
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Test
+    void findByQuickHash_shouldUseQuickHashIndex() {
+        String plan = explain("SELECT id FROM cards WHERE quick_hash = 'quick-hash'");
+
+        assertTrue(plan.contains("idx_cards_quick_hash"), plan);
+    }
+
+    @Test
+    void findByCardFingerprint_shouldUseFingerprintIndex() {
+        String plan = explain("SELECT id FROM cards WHERE card_fingerprint = 'fingerprint'");
+
+        assertTrue(plan.contains("uc_cards_card_fingerprint"), plan);
+    }
+
+    @Test
+    void findQuickHashesByCreatedAtAfter_shouldUseCreatedAtIndex() {
+        String plan = explain("SELECT quick_hash FROM cards WHERE created_at > now() - interval '10 seconds'");
+
+        assertTrue(plan.contains("idx_cards_created_at"), plan);
+    }
+
+    @Test
+    void cardsTable_shouldKeepFreeSpaceForHotUpdates() {
+        List<String> options = jdbcTemplate.queryForList(
+            "SELECT unnest(reloptions) FROM pg_class WHERE oid = 'cards'::regclass", String.class
+        );
+
+        assertTrue(options.contains("fillfactor=80"), options.toString());
+    }
+
+    @Test
+    void expiryDate_shouldBeStoredAsInteger() {
+        String dataType = jdbcTemplate.queryForObject(
+            "SELECT data_type FROM information_schema.columns WHERE table_name = 'cards' AND column_name = 'expiry_date'",
+            String.class
+        );
+
+        assertEquals("integer", dataType);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.example.bankcards.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.impl.CardServiceImpl;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "app.card.concurrency-mode=PESSIMISTIC",
+    "app.transfer.limits.enabled=false"
+})
+@EnabledIfEnvironmentVariable(named = "CARD_CONTENTION_TEST_ENABLED", matches = "true")
+public class CardTransferContentionTest {
+
+    private static final int HOT_CARDS = 4;
+    private static final int THREADS = 8;
+    private static final int TRANSFERS = 2_000;
+    private static final long TIMEOUT_SECONDS = 120;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100.00");
+    private static final BigDecimal TRANSFER_AMOUNT = new BigDecimal("7.00");
+
+    @Autowired
+    private CardServiceImpl cardService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private final List<UUID> cardIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+            .firstName(UnitTestDataProvider.TEST_FIRST_NAME)
+            .lastName(UnitTestDataProvider.TEST_LAST_NAME)
+            .email(UUID.randomUUID() + "@example.com")
+            .encryptedPassword(UnitTestDataProvider.TEST_HASHED_PASSWORD)
+            .build());
+
+        for (int i = 0; i < HOT_CARDS; i++) {
+            cardIds.add(cardRepository.save(card(user)).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID cardId : cardIds) {
+            jdbcTemplate.update("DELETE FROM ledger_entries WHERE card_id = ?", cardId);
+            jdbcTemplate.update("DELETE FROM card_balance_snapshots WHERE card_id = ?", cardId);
+            jdbcTemplate.update("DELETE FROM transfers WHERE source_card_id = ?", cardId);
+            jdbcTemplate.update("DELETE FROM cards WHERE id = ?", cardId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", user.getId());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldKeepBalanceInvariantUnderOpposingTransfers() throws Exception {
+        List<TransferRequest> transferRequests = opposingTransferRequests();
+        AtomicInteger rejectedTransfers = new AtomicInteger();
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        List<Future<?>> futures = new ArrayList<>(TRANSFERS);
+        for (TransferRequest transferRequest : transferRequests) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                try {
+                    cardService.transferMoneyByTransferRequest(transferRequest);
+                } catch (BadRequestException e) {
+                    rejectedTransfers.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        startSignal.countDown();
+        for (Future<?> future : futures) {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        List<BigDecimal> balances = cardIds.stream()
+            .map(cardId -> jdbcTemplate.queryForObject(
+                "SELECT balance FROM cards WHERE id = ?", BigDecimal.class, cardId
+            ))
+            .toList();
+        BigDecimal totalBalance = balances.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        log.info("Contention run. Transfers: {}, rejected: {}, elapsed: {} ms, balances: {}",
+            TRANSFERS, rejectedTransfers.get(), elapsedMs, balances);
+
+        assertEquals(0, INITIAL_BALANCE.multiply(BigDecimal.valueOf(HOT_CARDS)).compareTo(totalBalance));
+        balances.forEach(balance -> assertTrue(balance.signum() >= 0, balances.toString()));
+    }
+
+    private List<TransferRequest> opposingTransferRequests() {
+        Random random = new Random(42);
+        List<TransferRequest> transferRequests = new ArrayList<>(TRANSFERS);
+
+        for (int i = 0; i < TRANSFERS; i += 2) {
+            int first = random.nextInt(HOT_CARDS);
+            int second = (first + 1 + random.nextInt(HOT_CARDS - 1)) % HOT_CARDS;
+            String firstCardId = cardIds.get(first).toString();
+            String secondCardId = cardIds.get(second).toString();
+
+            transferRequests.add(new TransferRequest(firstCardId, secondCardId, TRANSFER_AMOUNT, null));
+            transferRequests.add(new TransferRequest(secondCardId, firstCardId, TRANSFER_AMOUNT, null));
+        }
+
+        return transferRequests;
+    }
+
+    private Card card(User owner) {
+        return Card.builder()
+            .quickHash(UUID.randomUUID().toString())
+            .cardNumberHash(UUID.randomUUID().toString())
+            .cardFingerprint(UUID.randomUUID().toString())
+            .maskedCardNumber(UnitTestDataProvider.TEST_MASKED_CARD_NUMBER)
+            .expiryDate(YearMonth.now().plusYears(2))
+            .owner(owner)
+            .cardStatus(CardStatus.ACTIVE)
+            .balance(INITIAL_BALANCE)
+            .build();
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.example.bankcards.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.impl.CardServiceImpl;
+import com.example.bankcards.service.impl.TransferSecurityService;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@Transactional
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@EnabledIfEnvironmentVariable(named = "TRANSFER_QUERY_COUNT_TEST_ENABLED", matches = "true")
+public class TransferQueryCountTest {
+
+    @Autowired
+    private CardServiceImpl cardService;
+
+    @Autowired
+    private TransferSecurityService transferSecurityService;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private CardConcurrencyMode configuredConcurrencyMode;
+    private TransferRequest transferRequest;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        configuredConcurrencyMode = (CardConcurrencyMode) ReflectionTestUtils.getField(
+            AopTestUtils.getUltimateTargetObject(cardService), "cardConcurrencyMode"
+        );
+
+        User user = userRepository.save(User.builder()
+            .firstName(UnitTestDataProvider.TEST_FIRST_NAME)
+            .lastName(UnitTestDataProvider.TEST_LAST_NAME)
+            .email(UUID.randomUUID() + "@example.com")
+            .encryptedPassword(UnitTestDataProvider.TEST_HASHED_PASSWORD)
+            .build());
+        Card sourceCard = cardRepository.save(card(user));
+        Card targetCard = cardRepository.save(card(user));
+        entityManager.flush();
+
+        transferRequest = new TransferRequest(sourceCard.getId().toString(), targetCard.getId().toString(),
+            BigDecimal.ONE, null);
+        SecurityContextHolder.getContext().setAuthentication(UnitTestDataProvider.authenticatedToken(user.getId()));
+
+        useConcurrencyMode(CardConcurrencyMode.OPTIMISTIC);
+        countTransferStatements(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        useConcurrencyMode(configuredConcurrencyMode);
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void transfer_shouldReuseCardsLoadedByAuthorizationWhenOptimistic() {
+        long inRequestStatements = countTransferStatements(true);
+        long outsideRequestStatements = countTransferStatements(false);
+
+        assertEquals(outsideRequestStatements - 3, inRequestStatements);
+    }
+
+    @Test
+    void transfer_shouldDebitLockedRowStateWhenPessimistic() {
+        UUID sourceCardId = UUID.fromString(transferRequest.sourceCardId());
+        useConcurrencyMode(CardConcurrencyMode.PESSIMISTIC);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        BigDecimal committedBalance = cardRepository.findCardById(sourceCardId).orElseThrow().getBalance()
+            .subtract(BigDecimal.TEN);
+
+        entityManager.createNativeQuery("update cards set balance = :balance, version = version + 1 where id = :id")
+            .setParameter("balance", committedBalance)
+            .setParameter("id", sourceCardId)
+            .executeUpdate();
+        cardService.transferMoneyByTransferRequest(transferRequest);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, committedBalance.subtract(BigDecimal.ONE)
+            .compareTo(cardRepository.findCardById(sourceCardId).orElseThrow().getBalance()));
+    }
+
+    private long countTransferStatements(boolean withinRequest) {
+        if (withinRequest) {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        } else {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        statistics.clear();
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        cardService.transferMoneyByTransferRequest(transferRequest);
+        entityManager.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void useConcurrencyMode(CardConcurrencyMode cardConcurrencyMode) {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(cardService), "cardConcurrencyMode",
+            cardConcurrencyMode);
+    }
+
+    private Card card(User user) {
+        return Card.builder()
+            .quickHash(UUID.randomUUID().toString())
+            .cardNumberHash(UUID.randomUUID().toString())
+            .cardFingerprint(UUID.randomUUID().toString())
+            .maskedCardNumber(UnitTestDataProvider.TEST_MASKED_CARD_NUMBER)
+            .expiryDate(YearMonth.now().plusYears(2))
+            .owner(user)
+            .cardStatus(CardStatus.ACTIVE)
+            .balance(UnitTestDataProvider.TEST_BALANCE)
+            .build();
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.example.bankcards.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.config.CacheConfig;
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.JwtTokenProvider;
+import com.example.bankcards.security.JwtVerificationResult;
+import com.example.bankcards.utility.constant.JwtVerificationFailure;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class JwtTokenProviderTest {
+
+    private static final String JWT_SECRET = "test-jwt-secret-key-at-least-256-bits-long-value";
+    private static final String OTHER_JWT_SECRET = "other-jwt-secret-key-at-least-256-bits-long-value";
+    private static final int JWT_EXPIRATION_MS = 60_000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = newJwtTokenProvider(JWT_SECRET);
+        user = UnitTestDataProvider.user();
+    }
+
+    @Test
+    void verify_shouldReturnClaimsForGeneratedToken() {
+        String token = jwtTokenProvider.generateToken(authentication());
+
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        assertTrue(result.isValid());
+        assertEquals(user.getId(), result.claims().userId());
+        assertEquals(user.getRole(), result.claims().role());
+        assertEquals(user.isActive(), result.claims().active());
+        assertTrue(result.claims().expiresAt().isAfter(result.claims().issuedAt()));
+    }
+
+    @Test
+    void verify_shouldRejectTokenSignedWithAnotherKey() {
+        String token = newJwtTokenProvider(OTHER_JWT_SECRET).generateToken(authentication());
+
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        assertFalse(result.isValid());
+        assertEquals(JwtVerificationFailure.INVALID_SIGNATURE, result.failure());
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        String token = Jwts.builder()
+            .setSubject(user.getId().toString())
+            .setIssuedAt(new Date(System.currentTimeMillis() - 2 * JWT_EXPIRATION_MS))
+            .setExpiration(new Date(System.currentTimeMillis() - JWT_EXPIRATION_MS))
+            .signWith(Keys.hmacShaKeyFor(JWT_SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+            .compact();
+
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        assertEquals(JwtVerificationFailure.EXPIRED, result.failure());
+    }
+
+    @Test
+    void verify_shouldRejectMalformedAndEmptyTokens() {
+        assertEquals(JwtVerificationFailure.MALFORMED, jwtTokenProvider.verify("not-a-jwt").failure());
+        assertEquals(JwtVerificationFailure.EMPTY, jwtTokenProvider.verify(" ").failure());
+    }
+
+    @Test
+    void verify_shouldServeRecentlyVerifiedTokenFromCache() {
+        String token = jwtTokenProvider.generateToken(authentication());
+        jwtTokenProvider.verify(token);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtParser", Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(OTHER_JWT_SECRET.getBytes(StandardCharsets.UTF_8)))
+            .build());
+
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        assertTrue(result.isValid());
+        assertEquals(user.getId(), result.claims().userId());
+    }
+
+    @Test
+    void verify_shouldNotCacheRejectedTokens() {
+        String token = newJwtTokenProvider(OTHER_JWT_SECRET).generateToken(authentication());
+
+        jwtTokenProvider.verify(token);
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        assertEquals(JwtVerificationFailure.INVALID_SIGNATURE, result.failure());
+    }
+
+    private UsernamePasswordAuthenticationToken authentication() {
+        CustomUserDetails userDetails = CustomUserDetails.create(user);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+
+    private JwtTokenProvider newJwtTokenProvider(String jwtSecret) {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider(new CacheConfig().jwtVerificationCache(100));
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", jwtSecret);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", JWT_EXPIRATION_MS);
+        tokenProvider.init();
+        return tokenProvider;
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.example.bankcards.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.security.OffloadingPasswordEncoder;
+import com.example.bankcards.security.PasswordHashingExecutor;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(meterRegistry);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "threads", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordHashingExecutor, "maxWaitMs", 2000L);
+        passwordHashingExecutor.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.stop();
+    }
+
+    @Test
+    void execute_shouldRunTaskOnHashingThread() {
+        String threadName = passwordHashingExecutor.execute(() -> Thread.currentThread().getName());
+
+        assertTrue(threadName.startsWith("password-hashing-"));
+        assertEquals(1, meterRegistry.get("password.hashing.wait").timer().count());
+    }
+
+    @Test
+    void execute_shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() ->
+            passwordHashingExecutor.execute(() -> {
+                started.countDown();
+                return await(release);
+            }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() ->
+            passwordHashingExecutor.execute(() -> true));
+        waitForQueueSize(1);
+
+        ServiceUnavailableException exception = assertThrows(
+            ServiceUnavailableException.class,
+            () -> passwordHashingExecutor.execute(() -> true)
+        );
+
+        assertEquals(ErrorMessagesConstant.PASSWORD_HASHING_OVERLOADED, exception.getMessage());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_shouldFailFastWhenWaitExceedsLimit() {
+        ReflectionTestUtils.setField(passwordHashingExecutor, "maxWaitMs", 50L);
+        CountDownLatch release = new CountDownLatch(1);
+
+        assertThrows(ServiceUnavailableException.class,
+            () -> passwordHashingExecutor.execute(() -> await(release)));
+
+        release.countDown();
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void execute_shouldPropagateTaskException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> passwordHashingExecutor.execute(() -> {
+                throw new IllegalArgumentException("bad hash");
+            }));
+
+        assertEquals("bad hash", exception.getMessage());
+    }
+
+    @Test
+    void offloadingPasswordEncoder_shouldDelegateToBCrypt() {
+        PasswordEncoder passwordEncoder = new OffloadingPasswordEncoder(
+            new BCryptPasswordEncoder(4), passwordHashingExecutor
+        );
+
+        String encodedPassword = passwordEncoder.encode("SecurePassword123!");
+
+        assertTrue(passwordEncoder.matches("SecurePassword123!", encodedPassword));
+        assertFalse(passwordEncoder.matches("WrongPassword", encodedPassword));
+        assertEquals(3, meterRegistry.get("password.hashing.wait").timer().count());
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void waitForQueueSize(int expectedSize) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < expectedSize
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+}
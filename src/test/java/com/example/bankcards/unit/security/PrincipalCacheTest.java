@@ -0,0 +1,113 @@
+package com.example.bankcards.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.config.CacheConfig;
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.entity.Role;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.security.CustomUserDetails;
+import com.example.bankcards.security.CustomUserDetailsService;
+import com.example.bankcards.security.JwtClaims;
+import com.example.bankcards.security.PrincipalCache;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class PrincipalCacheTest {
+
+    private static final long TTL_MS = 60_000;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private PrincipalCache principalCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        CacheConfig cacheConfig = new CacheConfig();
+        principalCache = new PrincipalCache(
+            userDetailsService,
+            cacheConfig.principalCache(100, TTL_MS),
+            cacheConfig.principalChangeCache(TTL_MS)
+        );
+        user = UnitTestDataProvider.user();
+    }
+
+    @Test
+    void getPrincipal_shouldBuildPrincipalFromClaimsWithoutDatabase() {
+        CustomUserDetails principal = principalCache.getPrincipal(claims(Role.ROLE_ADMIN, true, Instant.now()));
+
+        assertEquals(user.getId(), principal.getId());
+        assertTrue(principal.isEnabled());
+        assertEquals(Role.ROLE_ADMIN.name(), principal.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService, never()).loadUserById(any());
+    }
+
+    @Test
+    void getPrincipal_shouldLoadAndCacheTokensWithoutPrincipalClaims() {
+        CustomUserDetails loadedPrincipal = CustomUserDetails.create(user);
+        when(userDetailsService.loadUserById(user.getId())).thenReturn(loadedPrincipal);
+        JwtClaims claims = claims(null, null, Instant.now());
+
+        assertSame(loadedPrincipal, principalCache.getPrincipal(claims));
+        assertSame(loadedPrincipal, principalCache.getPrincipal(claims));
+
+        verify(userDetailsService, times(1)).loadUserById(user.getId());
+    }
+
+    @Test
+    void getPrincipal_shouldIgnoreStaleClaimsAfterInvalidation() {
+        JwtClaims staleClaims = claims(Role.ROLE_USER, true, Instant.now().minusSeconds(60));
+        user.setActive(false);
+        when(userDetailsService.loadUserById(user.getId())).thenReturn(CustomUserDetails.create(user));
+
+        principalCache.invalidate(user.getId());
+        CustomUserDetails principal = principalCache.getPrincipal(staleClaims);
+
+        assertFalse(principal.isEnabled());
+        verify(userDetailsService).loadUserById(user.getId());
+    }
+
+    @Test
+    void getPrincipal_shouldTrustClaimsIssuedAfterInvalidation() {
+        principalCache.invalidate(user.getId());
+
+        CustomUserDetails principal = principalCache.getPrincipal(
+            claims(Role.ROLE_USER, true, Instant.now().plusSeconds(1))
+        );
+
+        assertTrue(principal.isEnabled());
+        verify(userDetailsService, never()).loadUserById(any());
+    }
+
+    @Test
+    void evict_shouldReloadCachedPrincipal() {
+        when(userDetailsService.loadUserById(user.getId())).thenReturn(CustomUserDetails.create(user));
+        JwtClaims claims = claims(null, null, Instant.now());
+
+        principalCache.getPrincipal(claims);
+        principalCache.evict(user.getId());
+        principalCache.getPrincipal(claims);
+
+        verify(userDetailsService, times(2)).loadUserById(user.getId());
+    }
+
+    private JwtClaims claims(Role role, Boolean active, Instant issuedAt) {
+        return new JwtClaims(user.getId(), role, active, issuedAt, issuedAt.plusMillis(TTL_MS));
+    }
+
+}
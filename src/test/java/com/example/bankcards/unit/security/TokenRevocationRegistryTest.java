@@ -0,0 +1,146 @@
+package com.example.bankcards.unit.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.entity.DeletedUser;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.DeletedUserRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.security.JwtClaims;
+import com.example.bankcards.security.TokenRevocationRegistry;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenRevocationRegistryTest {
+
+    private static final long JWT_EXPIRATION_MS = 3_600_000;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DeletedUserRepository deletedUserRepository;
+
+    @InjectMocks
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenRevocationRegistry, "jwtExpirationMs", JWT_EXPIRATION_MS);
+        ReflectionTestUtils.setField(tokenRevocationRegistry, "pollOverlapMs", 10_000L);
+        user = UnitTestDataProvider.user();
+    }
+
+    @Test
+    void isRevoked_shouldAcceptTokensWithoutWatermark() {
+        assertFalse(tokenRevocationRegistry.isRevoked(claimsIssuedAt(Instant.now())));
+    }
+
+    @Test
+    void revoke_shouldRejectTokensIssuedUpToWatermark() {
+        LocalDateTime watermark = tokenRevocationRegistry.newWatermark();
+        Instant watermarkInstant = toInstant(watermark);
+
+        tokenRevocationRegistry.revoke(user.getId(), watermark);
+
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(watermarkInstant.minusSeconds(60))));
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(watermarkInstant.plusMillis(999))));
+        assertFalse(tokenRevocationRegistry.isRevoked(claimsIssuedAt(watermarkInstant.plusSeconds(1))));
+    }
+
+    @Test
+    void revoke_shouldKeepLatestWatermark() {
+        LocalDateTime watermark = tokenRevocationRegistry.newWatermark();
+
+        tokenRevocationRegistry.revoke(user.getId(), watermark);
+        tokenRevocationRegistry.revoke(user.getId(), watermark.minusMinutes(5));
+
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(toInstant(watermark))));
+    }
+
+    @Test
+    void pollWatermarks_shouldApplyWatermarksFromOtherNodes() {
+        LocalDateTime watermark = tokenRevocationRegistry.newWatermark();
+        user.setTokensValidAfter(watermark);
+        when(userRepository.findAllByTokensValidAfterGreaterThan(any())).thenReturn(List.of(user));
+
+        tokenRevocationRegistry.pollWatermarks();
+
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(toInstant(watermark))));
+    }
+
+    @Test
+    void revokeDeletedUser_shouldStoreWatermarkAndRejectTokens() {
+        tokenRevocationRegistry.revokeDeletedUser(user.getId());
+
+        ArgumentCaptor<DeletedUser> deletedUserCaptor = ArgumentCaptor.forClass(DeletedUser.class);
+        verify(deletedUserRepository).save(deletedUserCaptor.capture());
+        assertEquals(user.getId(), deletedUserCaptor.getValue().getUserId());
+        assertTrue(tokenRevocationRegistry.isRevoked(
+            claimsIssuedAt(toInstant(deletedUserCaptor.getValue().getDeletedAt()))
+        ));
+    }
+
+    @Test
+    void pollWatermarks_shouldApplyUsersDeletedOnOtherNodes() {
+        LocalDateTime deletedAt = tokenRevocationRegistry.newWatermark();
+        when(userRepository.findAllByTokensValidAfterGreaterThan(any())).thenReturn(List.of());
+        when(deletedUserRepository.findAllByDeletedAtGreaterThan(any())).thenReturn(List.of(
+            DeletedUser.builder().userId(user.getId()).deletedAt(deletedAt).build()
+        ));
+
+        tokenRevocationRegistry.pollWatermarks();
+
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(toInstant(deletedAt))));
+    }
+
+    @Test
+    void pollWatermarks_shouldDropWatermarksOlderThanTokenLifetime() {
+        LocalDateTime watermark = tokenRevocationRegistry.newWatermark().minusHours(2);
+        tokenRevocationRegistry.revoke(user.getId(), watermark);
+        when(userRepository.findAllByTokensValidAfterGreaterThan(any())).thenReturn(List.of());
+
+        tokenRevocationRegistry.pollWatermarks();
+
+        assertFalse(tokenRevocationRegistry.isRevoked(claimsIssuedAt(toInstant(watermark).minusSeconds(60))));
+    }
+
+    @Test
+    void pollWatermarks_shouldKeepWatermarksWhenQueryFails() {
+        LocalDateTime watermark = tokenRevocationRegistry.newWatermark();
+        tokenRevocationRegistry.revoke(user.getId(), watermark);
+        when(userRepository.findAllByTokensValidAfterGreaterThan(any())).thenThrow(new IllegalStateException());
+
+        tokenRevocationRegistry.pollWatermarks();
+
+        assertTrue(tokenRevocationRegistry.isRevoked(claimsIssuedAt(toInstant(watermark))));
+    }
+
+    private JwtClaims claimsIssuedAt(Instant issuedAt) {
+        return new JwtClaims(user.getId(), user.getRole(), true, issuedAt, issuedAt.plusMillis(JWT_EXPIRATION_MS));
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+}
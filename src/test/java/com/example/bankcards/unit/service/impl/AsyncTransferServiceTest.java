@@ -0,0 +1,240 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.dto.response.TransferResponse;
+import com.example.bankcards.entity.TransferRecord;
+import com.example.bankcards.entity.TransferStatus;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.exception.error.TransferNotFoundById;
+import com.example.bankcards.repository.TransferRecordRepository;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.impl.AsyncTransferService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import com.example.bankcards.utility.mapper.TransferRecordMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncTransferServiceTest {
+
+    private static final long PROCESSING_TIMEOUT_MS = 5_000;
+    private static final BigDecimal REJECTED_AMOUNT = new BigDecimal("999.00");
+
+    @Mock
+    private CardService cardService;
+
+    @Mock
+    private TransferRecordRepository transferRecordRepository;
+
+    private AsyncTransferService asyncTransferService;
+
+    private final Map<UUID, TransferRecord> transferRecords = new ConcurrentHashMap<>();
+    private UUID userId;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        asyncTransferService = new AsyncTransferService(
+            cardService,
+            transferRecordRepository,
+            Mappers.getMapper(TransferRecordMapper.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(asyncTransferService, "partitionCount", 2);
+        ReflectionTestUtils.setField(asyncTransferService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(asyncTransferService, "maxBatchSize", 100);
+        ReflectionTestUtils.setField(asyncTransferService, "pollTimeoutMs", 50L);
+
+        userId = UUID.randomUUID();
+        user = UnitTestDataProvider.user();
+
+        lenient().when(transferRecordRepository.save(any(TransferRecord.class))).thenAnswer(invocation -> {
+            TransferRecord transferRecord = invocation.getArgument(0);
+            transferRecords.put(transferRecord.getId(), transferRecord);
+            return transferRecord;
+        });
+        lenient().when(transferRecordRepository.findAllByIdInAndStatusForUpdate(anyCollection(),
+            eq(TransferStatus.PENDING))).thenAnswer(invocation -> {
+                Collection<UUID> transferIds = invocation.getArgument(0);
+                return transferIds.stream()
+                    .map(transferRecords::get)
+                    .filter(Objects::nonNull)
+                    .filter(TransferRecord::isPending)
+                    .toList();
+            });
+        lenient().when(transferRecordRepository.findById(any(UUID.class)))
+            .thenAnswer(invocation -> Optional.ofNullable(transferRecords.get(invocation.<UUID>getArgument(0))));
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncTransferService.stop();
+    }
+
+    @Test
+    void submitTransfer_shouldReturnPendingTransferAndApplyItInBackground() throws InterruptedException {
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> applyResults(invocation.getArgument(0)));
+        asyncTransferService.start();
+
+        TransferResponse completedTransfer = asyncTransferService.submitTransfer(userId, transferRequest(
+            new BigDecimal("100.00")
+        ));
+        TransferResponse rejectedTransfer = asyncTransferService.submitTransfer(userId, transferRequest(
+            REJECTED_AMOUNT
+        ));
+
+        assertEquals(TransferStatus.PENDING, completedTransfer.status());
+        assertEquals(TransferStatus.PENDING, rejectedTransfer.status());
+
+        awaitProcessed(completedTransfer.id());
+        awaitProcessed(rejectedTransfer.id());
+
+        assertEquals(TransferStatus.COMPLETED, transferRecords.get(completedTransfer.id()).getStatus());
+        assertNull(transferRecords.get(completedTransfer.id()).getErrorDescription());
+        assertEquals(TransferStatus.REJECTED, transferRecords.get(rejectedTransfer.id()).getStatus());
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE,
+            transferRecords.get(rejectedTransfer.id()).getErrorDescription());
+    }
+
+    @Test
+    void submitTransfer_shouldRejectWhenPartitionQueueIsFull() throws InterruptedException {
+        ReflectionTestUtils.setField(asyncTransferService, "partitionCount", 1);
+        ReflectionTestUtils.setField(asyncTransferService, "queueCapacity", 1);
+        CountDownLatch writerReleased = new CountDownLatch(1);
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> {
+            writerReleased.await(PROCESSING_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return applyResults(invocation.getArgument(0));
+        });
+        asyncTransferService.start();
+
+        try {
+            asyncTransferService.submitTransfer(userId, transferRequest(BigDecimal.TEN));
+            verify(cardService, timeout(PROCESSING_TIMEOUT_MS)).applyTransfers(anyMap());
+            asyncTransferService.submitTransfer(userId, transferRequest(BigDecimal.TEN));
+
+            ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                () -> asyncTransferService.submitTransfer(userId, transferRequest(BigDecimal.TEN)));
+
+            assertEquals(ErrorMessagesConstant.TRANSFER_QUEUE_FULL, exception.getMessage());
+            verify(transferRecordRepository).delete(any(TransferRecord.class));
+        } finally {
+            writerReleased.countDown();
+        }
+    }
+
+    @Test
+    void submitTransfer_shouldMarkTransferRejectedWhenProcessingFails() throws InterruptedException {
+        when(cardService.applyTransfers(anyMap())).thenThrow(new IllegalStateException("Lock wait timeout"));
+        asyncTransferService.start();
+
+        TransferResponse transferResponse = asyncTransferService.submitTransfer(userId, transferRequest(
+            BigDecimal.TEN
+        ));
+        awaitProcessed(transferResponse.id());
+
+        TransferRecord transferRecord = transferRecords.get(transferResponse.id());
+        assertEquals(TransferStatus.REJECTED, transferRecord.getStatus());
+        assertEquals(ErrorMessagesConstant.TRANSFER_PROCESSING_FAILED, transferRecord.getErrorDescription());
+    }
+
+    @Test
+    void submitTransfer_shouldRejectSameCardTransfer() {
+        asyncTransferService.start();
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+            () -> asyncTransferService.submitTransfer(userId, UnitTestDataProvider.transferRequestSameCard(UnitTestDataProvider.card(user))));
+
+        assertEquals(ErrorMessagesConstant.TRANSFER_SAME_CARD, exception.getMessage());
+        assertTrue(transferRecords.isEmpty());
+    }
+
+    @Test
+    void submitTransfer_shouldRejectWhenWritersAreNotRunning() {
+        assertThrows(ServiceUnavailableException.class,
+            () -> asyncTransferService.submitTransfer(userId, transferRequest(BigDecimal.TEN)));
+    }
+
+    @Test
+    void getTransfer_shouldThrowWhenTransferNotFound() {
+        UUID transferId = UUID.randomUUID();
+
+        TransferNotFoundById exception = assertThrows(TransferNotFoundById.class,
+            () -> asyncTransferService.getTransfer(transferId));
+
+        assertEquals(ErrorMessagesConstant.TRANSFER_NOT_FOUND_BY_ID_MESSAGE.formatted(transferId),
+            exception.getMessage());
+    }
+
+    private TransferRequest transferRequest(BigDecimal amount) {
+        return new TransferRequest(
+            UnitTestDataProvider.card(user).getId().toString(),
+            UnitTestDataProvider.card(user).getId().toString(),
+            amount,
+            null
+        );
+    }
+
+    private List<TransferItemResponse> applyResults(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        List<TransferItemResponse> results = new ArrayList<>();
+        int index = 0;
+
+        for (Map.Entry<UUID, TransferRequest> transfer : transferRequestsByTransferId.entrySet()) {
+            results.add(transfer.getValue().amount().compareTo(REJECTED_AMOUNT) == 0
+                ? new TransferItemResponse(index, null, TransferItemStatus.REJECTED,
+                    ErrorMessagesConstant.INSUFFICIENT_BALANCE)
+                : new TransferItemResponse(index, transfer.getKey(), TransferItemStatus.COMPLETED, null));
+            index++;
+        }
+
+        return results;
+    }
+
+    private void awaitProcessed(UUID transferId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROCESSING_TIMEOUT_MS;
+
+        while (transferRecords.get(transferId).isPending() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+}
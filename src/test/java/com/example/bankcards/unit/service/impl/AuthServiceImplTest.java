@@ -11,15 +11,22 @@ import static org.mockito.Mockito.when;
 
 import com.example.bankcards.constant.UnitTestDataProvider;
 import com.example.bankcards.dto.request.AuthRequest;
+import com.example.bankcards.dto.request.RefreshTokenRequest;
 import com.example.bankcards.dto.request.UserRequest;
 import com.example.bankcards.dto.response.AuthResponse;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ServiceUnavailableException;
+import com.example.bankcards.exception.error.UnauthorizedException;
 import com.example.bankcards.exception.error.UserAlreadyExistsByEmailException;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.security.CustomUserDetails;
 import com.example.bankcards.security.JwtTokenProvider;
 import com.example.bankcards.service.impl.AuthServiceImpl;
+import com.example.bankcards.service.impl.RefreshTokenService;
+import com.example.bankcards.service.impl.RefreshTokenService.RotatedRefreshToken;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,6 +52,9 @@ public class AuthServiceImplTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -97,14 +107,18 @@ public class AuthServiceImplTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class))).thenReturn(
             authentication);
         when(jwtTokenProvider.generateToken(authentication)).thenReturn(UnitTestDataProvider.TEST_JWT_TOKEN);
+        UUID userId = ((CustomUserDetails) authentication.getPrincipal()).getId();
+        when(refreshTokenService.issue(userId)).thenReturn(UnitTestDataProvider.TEST_REFRESH_TOKEN);
 
         AuthResponse result = authService.loginUser(authRequest);
 
         assertNotNull(result);
         assertEquals(UnitTestDataProvider.TEST_JWT_TOKEN, result.token());
+        assertEquals(UnitTestDataProvider.TEST_REFRESH_TOKEN, result.refreshToken());
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(jwtTokenProvider).generateToken(authentication);
+        verify(refreshTokenService).issue(userId);
     }
 
     @Test
@@ -122,4 +136,44 @@ public class AuthServiceImplTest {
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verifyNoInteractions(jwtTokenProvider);
     }
-}
\ No newline at end of file
+
+    @Test
+    void loginUser_shouldPropagateServiceUnavailableWhenHashingIsOverloaded() {
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+            .thenThrow(new ServiceUnavailableException(ErrorMessagesConstant.PASSWORD_HASHING_OVERLOADED));
+
+        ServiceUnavailableException exception = assertThrows(
+            ServiceUnavailableException.class,
+            () -> authService.loginUser(authRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.PASSWORD_HASHING_OVERLOADED, exception.getMessage());
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void refreshToken_shouldIssueNewTokenPairWithoutAuthenticationManager() {
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(UnitTestDataProvider.TEST_REFRESH_TOKEN);
+        when(refreshTokenService.rotate(UnitTestDataProvider.TEST_REFRESH_TOKEN))
+            .thenReturn(new RotatedRefreshToken(user, "rotated-refresh-token"));
+        when(jwtTokenProvider.generateToken(any(CustomUserDetails.class)))
+            .thenReturn(UnitTestDataProvider.TEST_JWT_TOKEN);
+
+        AuthResponse result = authService.refreshToken(refreshTokenRequest);
+
+        assertEquals(UnitTestDataProvider.TEST_JWT_TOKEN, result.token());
+        assertEquals("rotated-refresh-token", result.refreshToken());
+        verifyNoInteractions(authenticationManager, passwordEncoder);
+    }
+
+    @Test
+    void refreshToken_shouldPropagateUnauthorizedForRejectedToken() {
+        RefreshTokenRequest refreshTokenRequest = new RefreshTokenRequest(UnitTestDataProvider.TEST_REFRESH_TOKEN);
+        when(refreshTokenService.rotate(UnitTestDataProvider.TEST_REFRESH_TOKEN))
+            .thenThrow(new UnauthorizedException(ErrorMessagesConstant.INVALID_REFRESH_TOKEN));
+
+        assertThrows(UnauthorizedException.class, () -> authService.refreshToken(refreshTokenRequest));
+
+        verifyNoInteractions(jwtTokenProvider);
+    }
+}
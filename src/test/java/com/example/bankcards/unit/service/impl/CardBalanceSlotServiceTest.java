@@ -0,0 +1,103 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.entity.CardBalanceSlot;
+import com.example.bankcards.repository.CardBalanceSlotRepository;
+import com.example.bankcards.service.impl.CardBalanceSlotService;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CardBalanceSlotServiceTest {
+
+    @Mock
+    private CardBalanceSlotRepository cardBalanceSlotRepository;
+
+    private CardBalanceSlotService cardBalanceSlotService;
+
+    private UUID cardId;
+    private BigDecimal amount;
+
+    @BeforeEach
+    void setUp() {
+        cardBalanceSlotService = new CardBalanceSlotService(
+            cardBalanceSlotRepository, Caffeine.newBuilder().maximumSize(100).build()
+        );
+        cardId = UUID.randomUUID();
+        amount = UnitTestDataProvider.TEST_TRANSFER_AMOUNT;
+    }
+
+    @Test
+    void isStriped_shouldCacheSlotCount() {
+        when(cardBalanceSlotRepository.countByCardId(cardId)).thenReturn(4L);
+
+        assertTrue(cardBalanceSlotService.isStriped(cardId));
+        assertTrue(cardBalanceSlotService.isStriped(cardId));
+
+        verify(cardBalanceSlotRepository, times(1)).countByCardId(cardId);
+    }
+
+    @Test
+    void creditSlot_shouldSpreadCreditsAcrossSlots() {
+        when(cardBalanceSlotRepository.countByCardId(cardId)).thenReturn(2L);
+        when(cardBalanceSlotRepository.creditSlot(cardId, 0, amount)).thenReturn(1);
+        when(cardBalanceSlotRepository.creditSlot(cardId, 1, amount)).thenReturn(1);
+
+        assertTrue(cardBalanceSlotService.creditSlot(cardId, amount));
+        assertTrue(cardBalanceSlotService.creditSlot(cardId, amount));
+
+        verify(cardBalanceSlotRepository).creditSlot(cardId, 0, amount);
+        verify(cardBalanceSlotRepository).creditSlot(cardId, 1, amount);
+    }
+
+    @Test
+    void creditSlot_shouldReturnFalseForCardWithoutSlots() {
+        when(cardBalanceSlotRepository.countByCardId(cardId)).thenReturn(0L);
+
+        assertFalse(cardBalanceSlotService.creditSlot(cardId, amount));
+
+        verify(cardBalanceSlotRepository, never()).creditSlot(any(), anyInt(),
+            any());
+    }
+
+    @Test
+    void creditSlot_shouldInvalidateCachedCountWhenSlotMissing() {
+        when(cardBalanceSlotRepository.countByCardId(cardId)).thenReturn(2L, 0L);
+        when(cardBalanceSlotRepository.creditSlot(cardId, 0, amount)).thenReturn(0);
+
+        assertFalse(cardBalanceSlotService.creditSlot(cardId, amount));
+        assertFalse(cardBalanceSlotService.isStriped(cardId));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resizeSlots_shouldRecreateSlotsWithZeroBalance() {
+        ArgumentCaptor<List<CardBalanceSlot>> slotsCaptor = ArgumentCaptor.forClass(List.class);
+
+        cardBalanceSlotService.resizeSlots(cardId, 3);
+
+        verify(cardBalanceSlotRepository).deleteByCardId(cardId);
+        verify(cardBalanceSlotRepository).saveAll(slotsCaptor.capture());
+        assertEquals(3, slotsCaptor.getValue().size());
+        slotsCaptor.getValue().forEach(slot -> assertEquals(0, slot.getBalance().signum()));
+    }
+
+}
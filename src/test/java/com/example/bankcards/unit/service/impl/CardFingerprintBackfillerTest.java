@@ -0,0 +1,117 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.service.impl.CardFingerprintBackfiller;
+import com.example.bankcards.service.impl.CardHashService;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class CardFingerprintBackfillerTest {
+
+    private static final int KEY_VERSION = 2;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardHashService cardHashService;
+
+    private CardFingerprintBackfiller cardFingerprintBackfiller;
+
+    @BeforeEach
+    void setUp() {
+        cardFingerprintBackfiller = new CardFingerprintBackfiller(
+            cardRepository, cardHashService, new TransactionTemplate(mock(PlatformTransactionManager.class))
+        );
+        ReflectionTestUtils.setField(cardFingerprintBackfiller, "backfillBatchSize", 2);
+    }
+
+    @Test
+    void backfillFingerprints_shouldRewriteStaleRowsInBatchesAndMarkComplete() {
+        UUID firstCardId = UUID.randomUUID();
+        UUID secondCardId = UUID.randomUUID();
+        UUID thirdCardId = UUID.randomUUID();
+        when(cardHashService.getFingerprintKeyVersion()).thenReturn(KEY_VERSION);
+        when(cardRepository.findLegacyQuickHashesForUpdate(2)).thenReturn(Map.of());
+        when(cardRepository.findQuickHashesWithStaleFingerprintForUpdate(KEY_VERSION, 2))
+            .thenReturn(Map.of(firstCardId, "q1", secondCardId, "q2"))
+            .thenReturn(Map.of(thirdCardId, "q3"));
+        when(cardHashService.getFingerprintByQuickHash("q1")).thenReturn("f1");
+        when(cardHashService.getFingerprintByQuickHash("q2")).thenReturn("f2");
+        when(cardHashService.getFingerprintByQuickHash("q3")).thenReturn("f3");
+        when(cardRepository.countWithStaleFingerprint(KEY_VERSION)).thenReturn(0L);
+
+        cardFingerprintBackfiller.backfillFingerprints();
+
+        verify(cardRepository).updateFingerprintsInBatch(Map.of(firstCardId, "f1", secondCardId, "f2"), KEY_VERSION);
+        verify(cardRepository).updateFingerprintsInBatch(Map.of(thirdCardId, "f3"), KEY_VERSION);
+        verify(cardHashService).markFingerprintBackfillComplete();
+    }
+
+    @Test
+    void backfillFingerprints_shouldKeyLegacyQuickHashesBeforeFingerprinting() {
+        UUID legacyCardId = UUID.randomUUID();
+        UUID staleCardId = UUID.randomUUID();
+        when(cardHashService.getFingerprintKeyVersion()).thenReturn(KEY_VERSION);
+        when(cardRepository.findLegacyQuickHashesForUpdate(2)).thenReturn(Map.of(legacyCardId, "l1"), Map.of());
+        when(cardHashService.getQuickHashByLegacyQuickHash("l1")).thenReturn("q1");
+        when(cardRepository.findQuickHashesWithStaleFingerprintForUpdate(KEY_VERSION, 1))
+            .thenReturn(Map.of(staleCardId, "q2"));
+        when(cardHashService.getFingerprintByQuickHash("q1")).thenReturn("f1");
+        when(cardHashService.getFingerprintByQuickHash("q2")).thenReturn("f2");
+        when(cardRepository.findQuickHashesWithStaleFingerprintForUpdate(KEY_VERSION, 2)).thenReturn(Map.of());
+        when(cardRepository.countWithStaleFingerprint(KEY_VERSION)).thenReturn(0L);
+
+        cardFingerprintBackfiller.backfillFingerprints();
+
+        InOrder inOrder = inOrder(cardRepository);
+        inOrder.verify(cardRepository).updateQuickHashesInBatch(Map.of(legacyCardId, "q1"));
+        inOrder.verify(cardRepository)
+            .updateFingerprintsInBatch(Map.of(legacyCardId, "f1", staleCardId, "f2"), KEY_VERSION);
+        verify(cardHashService).markFingerprintBackfillComplete();
+    }
+
+    @Test
+    void backfillFingerprints_shouldNotMarkCompleteWhileRowsAreLockedElsewhere() {
+        when(cardHashService.getFingerprintKeyVersion()).thenReturn(KEY_VERSION);
+        when(cardRepository.findLegacyQuickHashesForUpdate(2)).thenReturn(Map.of());
+        when(cardRepository.findQuickHashesWithStaleFingerprintForUpdate(KEY_VERSION, 2)).thenReturn(Map.of());
+        when(cardRepository.countWithStaleFingerprint(KEY_VERSION)).thenReturn(3L);
+
+        cardFingerprintBackfiller.backfillFingerprints();
+
+        verify(cardHashService, never()).markFingerprintBackfillComplete();
+    }
+
+    @Test
+    void backfillFingerprints_shouldSkipWhenAlreadyComplete() {
+        when(cardHashService.isFingerprintBackfillComplete()).thenReturn(true);
+
+        cardFingerprintBackfiller.backfillFingerprints();
+
+        verify(cardRepository, never()).findLegacyQuickHashesForUpdate(anyInt());
+        verify(cardRepository, never()).findQuickHashesWithStaleFingerprintForUpdate(anyInt(), anyInt());
+        verify(cardRepository, times(0)).updateFingerprintsInBatch(anyMap(), eq(KEY_VERSION));
+    }
+
+}
@@ -3,9 +3,12 @@ package com.example.bankcards.unit.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,24 +17,45 @@ import com.example.bankcards.constant.UnitTestDataProvider;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.repository.CardRepository;
 import com.example.bankcards.service.impl.CardHashService;
+import com.example.bankcards.service.impl.CardNumberFilter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class CardHashServiceTest {
 
-    @Mock
-    private PasswordEncoder passwordEncoder;
+    private static final String QUICK_HASH_KEY = "test-card-quick-hash-pepper-32-bytes";
+    private static final String FINGERPRINT_KEY = "test-card-fingerprint-pepper-32-bytes";
+    private static final int FINGERPRINT_KEY_VERSION = 1;
+    private static final int THREADS = 32;
+    private static final int CARD_NUMBERS = 64;
+    private static final int ITERATIONS = 2_000;
+    private static final long TIMEOUT_SECONDS = 30;
 
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private CardNumberFilter cardNumberFilter;
+
     @InjectMocks
     private CardHashService cardHashService;
 
@@ -40,17 +64,48 @@ public class CardHashServiceTest {
     @BeforeEach
     void setUp() {
         cardNumber = UnitTestDataProvider.TEST_CARD_NUMBER;
+        ReflectionTestUtils.setField(cardHashService, "quickHashKey", QUICK_HASH_KEY);
+        ReflectionTestUtils.setField(cardHashService, "fingerprintKey", FINGERPRINT_KEY);
+        ReflectionTestUtils.setField(cardHashService, "fingerprintKeyVersion", FINGERPRINT_KEY_VERSION);
+    }
+
+    @Test
+    void isCardNumberUnique_shouldSkipDatabaseOnDefiniteFilterMiss() {
+        cardHashService.markFingerprintBackfillComplete();
+        when(cardNumberFilter.isDefinitelyAbsent(cardHashService.getQuickHash(cardNumber))).thenReturn(true);
+
+        boolean result = cardHashService.isCardNumberUnique(cardNumber);
+
+        assertTrue(result);
+        verify(cardRepository, never()).existsByCardFingerprint(any());
+    }
+
+    @Test
+    void isCardNumberUnique_shouldIgnoreFilterUntilBackfillCompletes() {
+        boolean result = cardHashService.isCardNumberUnique(cardNumber);
+
+        assertTrue(result);
+        verify(cardNumberFilter, never()).isDefinitelyAbsent(any());
+        verify(cardNumberFilter, never()).recordFalsePositive();
+    }
+
+    @Test
+    void markFingerprintBackfillComplete_shouldRebuildFilterOnce() {
+        cardHashService.markFingerprintBackfillComplete();
+        cardHashService.markFingerprintBackfillComplete();
+
+        verify(cardNumberFilter).rebuild();
+        assertTrue(cardHashService.isFingerprintBackfillComplete());
     }
 
     @Test
-    void hashCardNumber_shouldReturnHashedValue() {
-        when(passwordEncoder.encode(cardNumber)).thenReturn(UnitTestDataProvider.TEST_HASHED_CARD_NUMBER);
+    void isCardNumberUnique_shouldRecordFalsePositiveWhenDatabaseHasNoMatch() {
+        cardHashService.markFingerprintBackfillComplete();
 
-        String result = cardHashService.hashCardNumber(cardNumber);
+        boolean result = cardHashService.isCardNumberUnique(cardNumber);
 
-        assertNotNull(result);
-        assertEquals(UnitTestDataProvider.TEST_HASHED_CARD_NUMBER, result);
-        verify(passwordEncoder).encode(cardNumber);
+        assertTrue(result);
+        verify(cardNumberFilter).recordFalsePositive();
     }
 
     @Test
@@ -64,46 +119,193 @@ public class CardHashServiceTest {
     }
 
     @Test
-    void isCardNumberUnique_shouldReturnTrueForUniqueCard() {
+    void getQuickHash_shouldReturnKeyedHashOfCardNumber() throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(QUICK_HASH_KEY.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String expected = Base64.getEncoder().encodeToString(mac.doFinal(
+            MessageDigest.getInstance("SHA-256").digest(cardNumber.getBytes(StandardCharsets.UTF_8))
+        ));
+
+        assertEquals(expected, cardHashService.getQuickHash(cardNumber));
+        assertEquals(expected, cardHashService.getQuickHash(cardNumber));
+    }
+
+    @Test
+    void getQuickHash_shouldChangeWithKey() {
         String quickHash = cardHashService.getQuickHash(cardNumber);
-        Card existingCard = UnitTestDataProvider.cardWithHashes(UnitTestDataProvider.TEST_DIFFERENT_HASH, quickHash);
 
-        when(cardRepository.findByQuickHash(quickHash)).thenReturn(List.of(existingCard));
-        when(passwordEncoder.matches(cardNumber, existingCard.getCardNumberHash())).thenReturn(false);
+        ReflectionTestUtils.setField(cardHashService, "quickHashKey", QUICK_HASH_KEY + "-other");
 
-        boolean result = cardHashService.isCardNumberUnique(cardNumber);
+        assertNotEquals(quickHash, cardHashService.getQuickHash(cardNumber));
+    }
 
-        assertTrue(result);
-        verify(cardRepository).findByQuickHash(quickHash);
-        verify(passwordEncoder).matches(cardNumber, existingCard.getCardNumberHash());
+    @Test
+    void getLegacyQuickHash_shouldReturnBase64Sha256OfCardNumber() throws Exception {
+        String expected = Base64.getEncoder().encodeToString(
+            MessageDigest.getInstance("SHA-256").digest(cardNumber.getBytes(StandardCharsets.UTF_8))
+        );
+
+        assertEquals(expected, cardHashService.getLegacyQuickHash(cardNumber));
     }
 
     @Test
-    void isCardNumberUnique_shouldReturnFalseForDuplicateCard() {
-        String quickHash = cardHashService.getQuickHash(cardNumber);
-        Card existingCard =
-            UnitTestDataProvider.cardWithHashes(UnitTestDataProvider.TEST_HASHED_CARD_NUMBER, quickHash);
+    void getQuickHashByLegacyQuickHash_shouldMatchKeyedQuickHash() {
+        String legacyQuickHash = cardHashService.getLegacyQuickHash(cardNumber);
+
+        assertEquals(
+            cardHashService.getQuickHash(cardNumber), cardHashService.getQuickHashByLegacyQuickHash(legacyQuickHash)
+        );
+    }
+
+    @Test
+    void getQuickHash_shouldStayStableUnderConcurrentCalls() throws Exception {
+        List<String> cardNumbers = new ArrayList<>(CARD_NUMBERS);
+        List<String> expectedQuickHashes = new ArrayList<>(CARD_NUMBERS);
+        List<String> expectedFingerprints = new ArrayList<>(CARD_NUMBERS);
+        for (int i = 0; i < CARD_NUMBERS; i++) {
+            String number = String.format("4000%012d", i * 104_729L);
+            cardNumbers.add(number);
+            expectedQuickHashes.add(cardHashService.getQuickHash(number));
+            expectedFingerprints.add(cardHashService.getFingerprint(number));
+        }
+
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(THREADS);
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    int mismatches = 0;
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        int index = (offset + i) % CARD_NUMBERS;
+                        String number = cardNumbers.get(index);
+                        if (!expectedQuickHashes.get(index).equals(cardHashService.getQuickHash(number))
+                            || !expectedFingerprints.get(index).equals(cardHashService.getFingerprint(number))) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
 
-        when(cardRepository.findByQuickHash(quickHash)).thenReturn(List.of(existingCard));
-        when(passwordEncoder.matches(cardNumber, existingCard.getCardNumberHash())).thenReturn(true);
+            startSignal.countDown();
+            for (Future<Integer> future : futures) {
+                assertEquals(0, future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getFingerprintByQuickHash_shouldRejectMalformedQuickHash() {
+        assertThrows(IllegalArgumentException.class, () -> cardHashService.getFingerprintByQuickHash("quickHash"));
+    }
+
+    @Test
+    void getFingerprint_shouldBeDeterministicAndDerivedFromQuickHash() {
+        String fingerprint = cardHashService.getFingerprint(cardNumber);
+
+        assertEquals(fingerprint, cardHashService.getFingerprint(cardNumber));
+        assertEquals(fingerprint, cardHashService.getFingerprintByQuickHash(cardHashService.getQuickHash(cardNumber)));
+        assertNotEquals(fingerprint, cardHashService.getQuickHash(cardNumber));
+    }
+
+    @Test
+    void getFingerprint_shouldChangeWithKey() {
+        String fingerprint = cardHashService.getFingerprint(cardNumber);
+
+        ReflectionTestUtils.setField(cardHashService, "fingerprintKey", FINGERPRINT_KEY + "-rotated");
+
+        assertNotEquals(fingerprint, cardHashService.getFingerprint(cardNumber));
+    }
+
+    @Test
+    void isCardNumberUnique_shouldReturnFalseWhenFingerprintExists() {
+        when(cardRepository.existsByCardFingerprint(cardHashService.getFingerprint(cardNumber))).thenReturn(true);
 
         boolean result = cardHashService.isCardNumberUnique(cardNumber);
 
         assertFalse(result);
-        verify(cardRepository).findByQuickHash(quickHash);
-        verify(passwordEncoder).matches(cardNumber, existingCard.getCardNumberHash());
+        verify(cardRepository, never()).existsByQuickHashWithStaleFingerprint(any(), any(), anyInt());
     }
 
     @Test
-    void isCardNumberUnique_shouldReturnTrueWhenNoPotentialMatches() {
+    void isCardNumberUnique_shouldCheckStaleRowsUntilBackfillCompletes() {
         String quickHash = cardHashService.getQuickHash(cardNumber);
+        String legacyQuickHash = cardHashService.getLegacyQuickHash(cardNumber);
+        when(cardRepository.existsByCardFingerprint(cardHashService.getFingerprint(cardNumber))).thenReturn(false);
+        when(cardRepository.existsByQuickHashWithStaleFingerprint(quickHash, legacyQuickHash, FINGERPRINT_KEY_VERSION))
+            .thenReturn(true);
+
+        boolean result = cardHashService.isCardNumberUnique(cardNumber);
+
+        assertFalse(result);
+        verify(cardRepository)
+            .existsByQuickHashWithStaleFingerprint(quickHash, legacyQuickHash, FINGERPRINT_KEY_VERSION);
+    }
 
-        when(cardRepository.findByQuickHash(quickHash)).thenReturn(List.of());
+    @Test
+    void isCardNumberUnique_shouldProbeOnlyFingerprintAfterBackfill() {
+        cardHashService.markFingerprintBackfillComplete();
+        when(cardRepository.existsByCardFingerprint(cardHashService.getFingerprint(cardNumber))).thenReturn(false);
 
         boolean result = cardHashService.isCardNumberUnique(cardNumber);
 
         assertTrue(result);
-        verify(cardRepository).findByQuickHash(quickHash);
-        verify(passwordEncoder, never()).matches(any(), any());
+        verify(cardRepository, never()).existsByQuickHashWithStaleFingerprint(any(), any(), anyInt());
+    }
+
+    @Test
+    void findCardByCardNumber_shouldQueryDatabaseRegardlessOfFilter() {
+        Card card = UnitTestDataProvider.card(UnitTestDataProvider.user());
+        when(cardRepository.findByCardFingerprint(cardHashService.getFingerprint(cardNumber)))
+            .thenReturn(Optional.of(card));
+
+        Optional<Card> result = cardHashService.findCardByCardNumber(cardNumber);
+
+        assertEquals(Optional.of(card), result);
+        verify(cardNumberFilter, never()).isDefinitelyAbsent(any());
+    }
+
+    @Test
+    void findCardByCardNumber_shouldResolveCardByFingerprint() {
+        Card card = UnitTestDataProvider.card(UnitTestDataProvider.user());
+        when(cardRepository.findByCardFingerprint(cardHashService.getFingerprint(cardNumber)))
+            .thenReturn(Optional.of(card));
+
+        Optional<Card> result = cardHashService.findCardByCardNumber(cardNumber);
+
+        assertEquals(Optional.of(card), result);
+        verify(cardRepository, never()).findByQuickHashWithStaleFingerprint(any(), any(), anyInt());
+    }
+
+    @Test
+    void findCardByCardNumber_shouldFallBackToQuickHashUntilBackfillCompletes() {
+        Card card = UnitTestDataProvider.card(UnitTestDataProvider.user());
+        String quickHash = cardHashService.getQuickHash(cardNumber);
+        String legacyQuickHash = cardHashService.getLegacyQuickHash(cardNumber);
+        when(cardRepository.findByCardFingerprint(cardHashService.getFingerprint(cardNumber)))
+            .thenReturn(Optional.empty());
+        when(cardRepository.findByQuickHashWithStaleFingerprint(quickHash, legacyQuickHash, FINGERPRINT_KEY_VERSION))
+            .thenReturn(Optional.of(card));
+
+        Optional<Card> result = cardHashService.findCardByCardNumber(cardNumber);
+
+        assertEquals(Optional.of(card), result);
+    }
+
+    @Test
+    void findCardByCardNumber_shouldProbeOnlyFingerprintAfterBackfill() {
+        cardHashService.markFingerprintBackfillComplete();
+        when(cardRepository.findByCardFingerprint(cardHashService.getFingerprint(cardNumber)))
+            .thenReturn(Optional.empty());
+
+        Optional<Card> result = cardHashService.findCardByCardNumber(cardNumber);
+
+        assertTrue(result.isEmpty());
+        verify(cardRepository, never()).findByQuickHashWithStaleFingerprint(any(), any(), anyInt());
     }
-}
\ No newline at end of file
+}
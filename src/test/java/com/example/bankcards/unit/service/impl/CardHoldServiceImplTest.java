@@ -0,0 +1,252 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.CardHoldCaptureRequest;
+import com.example.bankcards.dto.request.CardHoldRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.CardHold;
+import com.example.bankcards.entity.CardHoldStatus;
+import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.CardHoldNotFoundById;
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.repository.CardHoldRepository;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.impl.CardBalanceSlotService;
+import com.example.bankcards.service.impl.CardHoldServiceImpl;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.mapper.CardHoldMapper;
+import com.example.bankcards.utility.validator.CardValidator;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class CardHoldServiceImplTest {
+
+    private static final BigDecimal HOLD_AMOUNT = new BigDecimal("300.00");
+
+    @Mock
+    private CardHoldRepository cardHoldRepository;
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardService cardService;
+
+    @Mock
+    private CardBalanceSlotService cardBalanceSlotService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private CardValidator cardValidator;
+
+    @Mock
+    private CardHoldMapper cardHoldMapper;
+
+    @InjectMocks
+    private CardHoldServiceImpl cardHoldService;
+
+    private UUID cardId;
+    private UUID holdId;
+
+    @BeforeEach
+    void setUp() {
+        cardId = UUID.randomUUID();
+        holdId = UUID.randomUUID();
+        ReflectionTestUtils.setField(cardHoldService, "defaultTtlMs", 60_000L);
+    }
+
+    @Test
+    void createHold_shouldReserveFundsAndSaveHold() {
+        when(cardRepository.holdFundsIfAvailable(eq(cardId), eq(HOLD_AMOUNT), eq(CardStatus.ACTIVE),
+            any(YearMonth.class))).thenReturn(1);
+        when(cardHoldRepository.save(any(CardHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        cardHoldService.createHold(cardId, new CardHoldRequest(HOLD_AMOUNT, "Hotel", null));
+
+        ArgumentCaptor<CardHold> holdCaptor = ArgumentCaptor.forClass(CardHold.class);
+        verify(cardHoldRepository).save(holdCaptor.capture());
+        CardHold savedHold = holdCaptor.getValue();
+
+        assertEquals(cardId, savedHold.getCardId());
+        assertEquals(HOLD_AMOUNT, savedHold.getAmount());
+        assertEquals(CardHoldStatus.ACTIVE, savedHold.getStatus());
+        assertEquals(true, savedHold.getExpiresAt().isAfter(LocalDateTime.now()));
+        verifyNoInteractions(cardService);
+    }
+
+    @Test
+    void createHold_shouldCompactBalanceSlotsBeforeRejectingStripedCard() {
+        when(cardRepository.holdFundsIfAvailable(eq(cardId), eq(HOLD_AMOUNT), eq(CardStatus.ACTIVE),
+            any(YearMonth.class))).thenReturn(0, 1);
+        when(cardBalanceSlotService.isStriped(cardId)).thenReturn(true);
+        when(cardHoldRepository.save(any(CardHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        cardHoldService.createHold(cardId, new CardHoldRequest(HOLD_AMOUNT, null, null));
+
+        verify(cardService).compactBalanceSlots(cardId);
+        verify(cardHoldRepository).save(any(CardHold.class));
+    }
+
+    @Test
+    void createHold_shouldThrowInsufficientBalanceWhenAvailableBalanceIsLow() {
+        Card card = UnitTestDataProvider.card(UnitTestDataProvider.user());
+        when(cardRepository.holdFundsIfAvailable(eq(cardId), eq(HOLD_AMOUNT), eq(CardStatus.ACTIVE),
+            any(YearMonth.class))).thenReturn(0);
+        when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardHoldService.createHold(cardId, new CardHoldRequest(HOLD_AMOUNT, null, null))
+        );
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, exception.getMessage());
+        verify(cardValidator).validateCardForTransfer(card);
+        verify(cardHoldRepository, never()).save(any(CardHold.class));
+    }
+
+    @Test
+    void captureHold_shouldCapturePartialAmountAndReleaseRemainder() {
+        CardHold cardHold = activeHold(LocalDateTime.now().plusHours(1));
+        BigDecimal capturedAmount = new BigDecimal("120.00");
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+        when(cardRepository.captureHeldFunds(cardId, HOLD_AMOUNT, capturedAmount)).thenReturn(1);
+
+        cardHoldService.captureHold(holdId, new CardHoldCaptureRequest(capturedAmount));
+
+        assertEquals(CardHoldStatus.CAPTURED, cardHold.getStatus());
+        assertEquals(capturedAmount, cardHold.getCapturedAmount());
+        verify(ledgerService).recordAdjustment(cardId, capturedAmount.negate());
+    }
+
+    @Test
+    void captureHold_shouldCaptureFullAmountWithoutRequestBody() {
+        CardHold cardHold = activeHold(LocalDateTime.now().plusHours(1));
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+        when(cardRepository.captureHeldFunds(cardId, HOLD_AMOUNT, HOLD_AMOUNT)).thenReturn(1);
+
+        cardHoldService.captureHold(holdId, null);
+
+        assertEquals(HOLD_AMOUNT, cardHold.getCapturedAmount());
+        verify(ledgerService).recordAdjustment(cardId, HOLD_AMOUNT.negate());
+    }
+
+    @Test
+    void captureHold_shouldRejectAmountAboveHold() {
+        CardHold cardHold = activeHold(LocalDateTime.now().plusHours(1));
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardHoldService.captureHold(holdId, new CardHoldCaptureRequest(HOLD_AMOUNT.add(BigDecimal.ONE)))
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_HOLD_CAPTURE_EXCEEDS_AMOUNT.formatted(holdId), exception.getMessage());
+        assertEquals(CardHoldStatus.ACTIVE, cardHold.getStatus());
+        verifyNoInteractions(ledgerService);
+    }
+
+    @Test
+    void captureHold_shouldRejectExpiredHold() {
+        CardHold cardHold = activeHold(LocalDateTime.now().minusMinutes(1));
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+
+        ConflictException exception = assertThrows(
+            ConflictException.class,
+            () -> cardHoldService.captureHold(holdId, null)
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_HOLD_EXPIRED.formatted(holdId), exception.getMessage());
+        verify(cardRepository, never()).captureHeldFunds(any(), any(), any());
+    }
+
+    @Test
+    void releaseHold_shouldReturnHeldFunds() {
+        CardHold cardHold = activeHold(LocalDateTime.now().plusHours(1));
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+
+        cardHoldService.releaseHold(holdId);
+
+        assertEquals(CardHoldStatus.RELEASED, cardHold.getStatus());
+        verify(cardRepository).releaseHeldFunds(cardId, HOLD_AMOUNT);
+    }
+
+    @Test
+    void releaseHold_shouldRejectHoldThatIsNotActive() {
+        CardHold cardHold = activeHold(LocalDateTime.now().plusHours(1));
+        cardHold.capture(HOLD_AMOUNT);
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.of(cardHold));
+
+        ConflictException exception = assertThrows(ConflictException.class, () -> cardHoldService.releaseHold(holdId));
+
+        assertEquals(ErrorMessagesConstant.CARD_HOLD_NOT_ACTIVE.formatted("captured", holdId), exception.getMessage());
+        verify(cardRepository, never()).releaseHeldFunds(any(), any());
+    }
+
+    @Test
+    void releaseHold_shouldThrowWhenHoldNotFound() {
+        when(cardHoldRepository.findByIdForUpdate(holdId)).thenReturn(Optional.empty());
+
+        assertThrows(CardHoldNotFoundById.class, () -> cardHoldService.releaseHold(holdId));
+    }
+
+    @Test
+    void expireHolds_shouldReleaseHeldFundsOncePerCard() {
+        UUID otherCardId = UUID.randomUUID();
+        CardHold firstHold = activeHold(LocalDateTime.now().minusMinutes(2));
+        CardHold secondHold = activeHold(LocalDateTime.now().minusMinutes(1));
+        CardHold otherHold = CardHold.builder()
+            .id(UUID.randomUUID())
+            .cardId(otherCardId)
+            .amount(BigDecimal.TEN)
+            .expiresAt(LocalDateTime.now().minusMinutes(1))
+            .build();
+        when(cardHoldRepository.findExpiredForUpdateSkipLocked(eq(CardHoldStatus.ACTIVE.getCode()),
+            any(LocalDateTime.class), anyInt())).thenReturn(List.of(firstHold, secondHold, otherHold));
+
+        int expiredHolds = cardHoldService.expireHolds(100);
+
+        assertEquals(3, expiredHolds);
+        assertEquals(CardHoldStatus.EXPIRED, firstHold.getStatus());
+        assertEquals(CardHoldStatus.EXPIRED, otherHold.getStatus());
+        verify(cardRepository).releaseHeldFunds(cardId, HOLD_AMOUNT.add(HOLD_AMOUNT));
+        verify(cardRepository).releaseHeldFunds(otherCardId, BigDecimal.TEN);
+    }
+
+    private CardHold activeHold(LocalDateTime expiresAt) {
+        return CardHold.builder()
+            .id(holdId)
+            .cardId(cardId)
+            .amount(HOLD_AMOUNT)
+            .expiresAt(expiresAt)
+            .build();
+    }
+
+}
@@ -0,0 +1,232 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.bankcards.config.MessageSourceConfig;
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.response.CardImportItemResponse;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.OutboxEventType;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.impl.CardHashService;
+import com.example.bankcards.service.impl.CardImportServiceImpl;
+import com.example.bankcards.service.impl.CardNumberFilter;
+import com.example.bankcards.service.impl.OutboxService;
+import com.example.bankcards.utility.constant.CardImportFormat;
+import com.example.bankcards.utility.constant.CardImportItemStatus;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+@ExtendWith(MockitoExtension.class)
+public class CardImportServiceImplTest {
+
+    private static final String QUICK_HASH_KEY = "test-card-quick-hash-pepper-32-bytes";
+    private static final String FINGERPRINT_KEY = "test-card-fingerprint-pepper-32-bytes";
+    private static final String FIRST_CARD_NUMBER = "4000 0000 0000 0001";
+    private static final String SECOND_CARD_NUMBER = "4000 0000 0000 0002";
+    private static final String THIRD_CARD_NUMBER = "4000 0000 0000 0003";
+    private static final String EXPIRY_DATE = "2099-12";
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardNumberFilter cardNumberFilter;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private CardHashService cardHashService;
+    private LocalValidatorFactoryBean validator;
+    private CardImportServiceImpl cardImportService;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        cardHashService = new CardHashService(cardRepository, cardNumberFilter);
+        ReflectionTestUtils.setField(cardHashService, "quickHashKey", QUICK_HASH_KEY);
+        ReflectionTestUtils.setField(cardHashService, "fingerprintKey", FINGERPRINT_KEY);
+        ReflectionTestUtils.setField(cardHashService, "fingerprintKeyVersion", 1);
+
+        validator = new MessageSourceConfig().getValidator();
+        validator.afterPropertiesSet();
+
+        cardImportService = new CardImportServiceImpl(
+            cardRepository, userRepository, cardHashService, ledgerService, outboxService, validator, objectMapper,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(cardImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(cardImportService, "hashParallelism", 2);
+        cardImportService.start();
+
+        ownerId = UnitTestDataProvider.user().getId();
+        lenient().when(cardRepository.findExistingFingerprints(anyList())).thenReturn(Set.of());
+        lenient().when(cardRepository.findExistingQuickHashesWithStaleFingerprint(anyList(), anyList(), anyInt()))
+            .thenReturn(Set.of());
+        lenient().when(userRepository.findExistingIds(any())).thenReturn(Set.of(ownerId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        cardImportService.stop();
+        validator.close();
+    }
+
+    @Test
+    void importCards_shouldCreateCardsFromCsvInChunks() throws Exception {
+        String csv = """
+            cardNumber,expiryDate,ownerId,balance
+            %s,%s,%s,100.00
+            %s,%s,%s,0.00
+            not-a-card-line
+            %s,%s,%s,50.00
+            """.formatted(
+            FIRST_CARD_NUMBER, EXPIRY_DATE, ownerId,
+            SECOND_CARD_NUMBER, EXPIRY_DATE, ownerId,
+            THIRD_CARD_NUMBER, EXPIRY_DATE, ownerId
+        );
+
+        List<CardImportItemResponse> results = importCards(CardImportFormat.CSV, csv);
+
+        assertEquals(List.of(2, 3, 4, 5), results.stream().map(CardImportItemResponse::line).toList());
+        assertEquals(
+            List.of(CardImportItemStatus.CREATED, CardImportItemStatus.CREATED, CardImportItemStatus.REJECTED,
+                CardImportItemStatus.CREATED),
+            results.stream().map(CardImportItemResponse::status).toList()
+        );
+        assertEquals(ErrorMessagesConstant.CARD_IMPORT_LINE_MALFORMED, results.get(2).errorDescription());
+        assertNotNull(results.get(0).cardId());
+        verify(cardRepository, times(2)).findExistingFingerprints(anyList());
+        verify(cardRepository, times(2)).insertAllInBatch(anyList());
+        verify(cardRepository).insertAllInBatch(argThat(cards -> cards.size() == 2
+            && cards.get(0).getCardFingerprint().equals(cardHashService.getFingerprint(FIRST_CARD_NUMBER))
+            && cards.get(0).getMaskedCardNumber().equals("4000 **** **** 0001")
+            && cards.get(0).getOwner().getId().equals(ownerId)));
+        verify(ledgerService).recordAdjustments(Map.of(
+            results.get(0).cardId(), new BigDecimal("100.00"), results.get(1).cardId(), new BigDecimal("0.00")
+        ));
+        verify(outboxService, times(2)).recordCardEvents(eq(OutboxEventType.CARD_CREATED), anyList());
+    }
+
+    @Test
+    void importCards_shouldRejectDuplicatesUnknownOwnersAndInvalidLinesFromNdjson() throws Exception {
+        UUID unknownOwnerId = UUID.randomUUID();
+        lenient().when(cardRepository.findExistingFingerprints(anyList()))
+            .thenReturn(Set.of(cardHashService.getFingerprint(THIRD_CARD_NUMBER)));
+        ReflectionTestUtils.setField(cardImportService, "chunkSize", 10);
+        String ndjson = String.join("\n",
+            cardLine(FIRST_CARD_NUMBER, ownerId),
+            cardLine(FIRST_CARD_NUMBER, ownerId),
+            cardLine(SECOND_CARD_NUMBER, unknownOwnerId),
+            cardLine(THIRD_CARD_NUMBER, ownerId),
+            cardLine("4000", ownerId),
+            "{\"cardNumber\":"
+        );
+
+        List<CardImportItemResponse> results = importCards(CardImportFormat.NDJSON, ndjson);
+
+        assertEquals(6, results.size());
+        assertEquals(CardImportItemStatus.CREATED, results.get(0).status());
+        assertEquals(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER, results.get(1).errorDescription());
+        assertEquals(ErrorMessagesConstant.USER_NOT_FOUND_BY_ID_MESSAGE.formatted(unknownOwnerId),
+            results.get(2).errorDescription());
+        assertEquals(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER, results.get(3).errorDescription());
+        assertEquals(CardImportItemStatus.REJECTED, results.get(4).status());
+        assertNotNull(results.get(4).errorDescription());
+        assertEquals(ErrorMessagesConstant.CARD_IMPORT_LINE_MALFORMED, results.get(5).errorDescription());
+        verify(cardRepository).insertAllInBatch(argThat(cards -> cards.size() == 1));
+    }
+
+    @Test
+    void importCards_shouldInsertOneByOneWhenChunkConflicts() throws Exception {
+        List<Integer> insertedSizes = new ArrayList<>();
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+            .doAnswer(invocation -> insertedSizes.add(invocation.<List<Card>>getArgument(0).size()))
+            .doThrow(new DataIntegrityViolationException("duplicate key"))
+            .when(cardRepository).insertAllInBatch(anyList());
+        String ndjson = String.join("\n", cardLine(FIRST_CARD_NUMBER, ownerId), cardLine(SECOND_CARD_NUMBER, ownerId));
+
+        List<CardImportItemResponse> results = importCards(CardImportFormat.NDJSON, ndjson);
+
+        assertEquals(List.of(1), insertedSizes);
+        assertEquals(CardImportItemStatus.CREATED, results.get(0).status());
+        assertNotNull(results.get(0).cardId());
+        assertEquals(CardImportItemStatus.REJECTED, results.get(1).status());
+        assertNull(results.get(1).cardId());
+        assertEquals(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER, results.get(1).errorDescription());
+    }
+
+    @Test
+    void importCards_shouldSkipStaleQuickHashLookupAfterBackfill() throws Exception {
+        cardHashService.markFingerprintBackfillComplete();
+
+        importCards(CardImportFormat.NDJSON, cardLine(FIRST_CARD_NUMBER, ownerId));
+
+        verify(cardRepository, never()).findExistingQuickHashesWithStaleFingerprint(anyList(), anyList(), anyInt());
+        verify(cardRepository).insertAllInBatch(anyList());
+    }
+
+    private String cardLine(String cardNumber, UUID cardOwnerId) {
+        return """
+            {"cardNumber":"%s","expiryDate":"%s","ownerId":"%s","balance":10.00}\
+            """.formatted(cardNumber, EXPIRY_DATE, cardOwnerId);
+    }
+
+    private List<CardImportItemResponse> importCards(CardImportFormat format, String content) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        cardImportService.importCards(
+            format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), outputStream
+        );
+
+        List<CardImportItemResponse> results = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            results.add(objectMapper.readValue(line, CardImportItemResponse.class));
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.service.impl.CardHashService;
+import com.example.bankcards.service.impl.CardNumberFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class CardNumberFilterTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    private final CardHashService cardHashService = new CardHashService(null, null);
+    private SimpleMeterRegistry meterRegistry;
+    private CardNumberFilter cardNumberFilter;
+    private String existingQuickHash;
+    private String newQuickHash;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardHashService, "quickHashKey", "test-card-quick-hash-pepper-32-bytes");
+        meterRegistry = new SimpleMeterRegistry();
+        cardNumberFilter = new CardNumberFilter(
+            cardRepository, new TransactionTemplate(mock(PlatformTransactionManager.class)), meterRegistry
+        );
+        ReflectionTestUtils.setField(cardNumberFilter, "enabled", true);
+        ReflectionTestUtils.setField(cardNumberFilter, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(cardNumberFilter, "initialCapacity", 1_000L);
+        ReflectionTestUtils.setField(cardNumberFilter, "rebuildDeletedRatio", 0.2);
+        ReflectionTestUtils.setField(cardNumberFilter, "fetchSize", 100);
+
+        existingQuickHash = cardHashService.getQuickHash("4000 0000 0000 0001");
+        newQuickHash = cardHashService.getQuickHash("4000 0000 0000 0002");
+    }
+
+    @Test
+    void isDefinitelyAbsent_shouldFallBackToDatabaseUntilBuilt() {
+        assertFalse(cardNumberFilter.isDefinitelyAbsent(newQuickHash));
+    }
+
+    @Test
+    void start_shouldWaitForFingerprintBackfillBeforeBuilding() {
+        cardNumberFilter.start();
+
+        verify(cardRepository, never()).streamQuickHashes(anyInt(), any());
+        assertFalse(cardNumberFilter.isDefinitelyAbsent(newQuickHash));
+    }
+
+    @Test
+    void rebuild_shouldLoadExistingQuickHashes() {
+        streamQuickHashes(List.of(existingQuickHash));
+
+        cardNumberFilter.start();
+        cardNumberFilter.rebuild();
+
+        assertFalse(cardNumberFilter.isDefinitelyAbsent(existingQuickHash));
+        assertTrue(cardNumberFilter.isDefinitelyAbsent(newQuickHash));
+        assertEquals(1, meterRegistry.get("card.filter.entries").gauge().value());
+        assertTrue(meterRegistry.get("card.filter.memory").gauge().value() > 0);
+    }
+
+    @Test
+    void recordCardAdded_shouldMakeCardVisibleImmediately() {
+        streamQuickHashes(List.of(existingQuickHash));
+        cardNumberFilter.start();
+        cardNumberFilter.rebuild();
+
+        cardNumberFilter.recordCardAdded(newQuickHash);
+
+        assertFalse(cardNumberFilter.isDefinitelyAbsent(newQuickHash));
+    }
+
+    @Test
+    void pollNewCards_shouldAddCardsCreatedOnOtherNodes() {
+        streamQuickHashes(List.of(existingQuickHash));
+        cardNumberFilter.start();
+        cardNumberFilter.rebuild();
+        when(cardRepository.findQuickHashesByCreatedAtAfter(any()))
+            .thenReturn(List.of(existingQuickHash, newQuickHash));
+
+        cardNumberFilter.pollNewCards();
+        cardNumberFilter.pollNewCards();
+
+        assertFalse(cardNumberFilter.isDefinitelyAbsent(newQuickHash));
+        assertEquals(2, meterRegistry.get("card.filter.entries").gauge().value());
+    }
+
+    @Test
+    void pollNewCards_shouldSkipUntilFilterIsBuilt() {
+        cardNumberFilter.pollNewCards();
+
+        verify(cardRepository, never()).findQuickHashesByCreatedAtAfter(any());
+    }
+
+    @Test
+    void recordFalsePositive_shouldUpdateObservedRate() {
+        streamQuickHashes(List.of(existingQuickHash));
+        cardNumberFilter.start();
+        cardNumberFilter.rebuild();
+
+        cardNumberFilter.isDefinitelyAbsent(newQuickHash);
+        cardNumberFilter.recordFalsePositive();
+
+        assertEquals(0.5, meterRegistry.get("card.filter.false.positive.rate.observed").gauge().value());
+    }
+
+    @Test
+    void rebuildIfStale_shouldRebuildAfterManyDeletes() {
+        streamQuickHashes(List.of(existingQuickHash));
+        cardNumberFilter.start();
+        cardNumberFilter.rebuild();
+        streamQuickHashes(List.of());
+
+        cardNumberFilter.recordCardDeleted();
+        cardNumberFilter.rebuildIfStale();
+
+        assertTrue(cardNumberFilter.isDefinitelyAbsent(existingQuickHash));
+    }
+
+    private void streamQuickHashes(List<String> quickHashes) {
+        when(cardRepository.count()).thenReturn((long) quickHashes.size());
+        doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(1);
+            quickHashes.forEach(consumer);
+            return null;
+        }).when(cardRepository).streamQuickHashes(anyInt(), any());
+    }
+
+}
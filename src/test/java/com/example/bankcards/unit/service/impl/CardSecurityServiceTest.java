@@ -8,6 +8,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.repository.CardHoldRepository;
 import com.example.bankcards.repository.CardRepository;
 import com.example.bankcards.service.impl.CardSecurityService;
 import java.util.UUID;
@@ -27,6 +28,9 @@ public class CardSecurityServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private CardHoldRepository cardHoldRepository;
+
     @InjectMocks
     private CardSecurityService cardSecurityService;
 
@@ -99,4 +103,23 @@ public class CardSecurityServiceTest {
         assertFalse(result);
         verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void isHoldOwner_shouldReturnTrueForCardOwner() {
+        UUID holdId = UUID.randomUUID();
+        SecurityContextHolder.getContext().setAuthentication(UnitTestDataProvider.authenticatedToken(userId));
+
+        when(cardHoldRepository.existsByIdAndCardOwnerId(holdId, userId)).thenReturn(true);
+
+        assertTrue(cardSecurityService.isHoldOwner(holdId));
+        verify(cardHoldRepository).existsByIdAndCardOwnerId(holdId, userId);
+    }
+
+    @Test
+    void isHoldOwner_shouldReturnFalseForUnauthenticatedUser() {
+        boolean result = cardSecurityService.isHoldOwner(UUID.randomUUID());
+
+        assertFalse(result);
+        verify(cardHoldRepository, never()).existsByIdAndCardOwnerId(any(), any());
+    }
+}
@@ -5,47 +5,73 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.BatchTransferRequest;
 import com.example.bankcards.dto.request.CardRequest;
 import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.BatchTransferResponse;
 import com.example.bankcards.dto.response.CardBalanceResponse;
 import com.example.bankcards.dto.response.CardResponse;
 import com.example.bankcards.dto.response.PageResponse;
+import com.example.bankcards.dto.response.TransferItemResponse;
 import com.example.bankcards.entity.Card;
 import com.example.bankcards.entity.CardStatus;
+import com.example.bankcards.entity.OutboxEventType;
 import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.BadRequestException;
 import com.example.bankcards.exception.error.CardAlreadyExistsByCardNumberException;
+import com.example.bankcards.exception.error.CardNotFoundByCardNumber;
 import com.example.bankcards.exception.error.CardNotFoundById;
+import com.example.bankcards.exception.error.ConflictException;
 import com.example.bankcards.exception.error.UserNotFoundById;
 import com.example.bankcards.repository.CardRepository;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.impl.CardBalanceSlotService;
 import com.example.bankcards.service.impl.CardHashService;
 import com.example.bankcards.service.impl.CardServiceImpl;
+import com.example.bankcards.service.impl.OutboxService;
+import com.example.bankcards.service.impl.TransferCardContext;
+import com.example.bankcards.service.impl.TransferLimitService;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
 import com.example.bankcards.utility.mapper.CardMapper;
 import com.example.bankcards.utility.mapper.PageResponseMapper;
 import com.example.bankcards.utility.validator.CardValidator;
+import jakarta.persistence.EntityManager;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class CardServiceImplTest {
@@ -68,6 +94,24 @@ public class CardServiceImplTest {
     @Mock
     private CardValidator cardValidator;
 
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private CardBalanceSlotService cardBalanceSlotService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransferLimitService transferLimitService;
+
+    @Mock
+    private TransferCardContext transferCardContext;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private CardServiceImpl cardService;
 
@@ -86,6 +130,7 @@ public class CardServiceImplTest {
         cardRequest = UnitTestDataProvider.cardRequest(user);
         cardId = card.getId();
         userId = user.getId();
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
     }
 
     @Test
@@ -102,6 +147,30 @@ public class CardServiceImplTest {
         verify(cardMapper).toResponse(card);
     }
 
+    @Test
+    void getCardByCardNumber_shouldReturnCardResponse() {
+        when(cardHashService.findCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER)).thenReturn(Optional.of(card));
+        when(cardMapper.toResponse(card)).thenReturn(cardResponse);
+
+        CardResponse result = cardService.getCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER);
+
+        assertEquals(cardResponse, result);
+        verify(cardRepository, never()).findCardById(any());
+    }
+
+    @Test
+    void getCardByCardNumber_shouldThrowCardNotFoundException() {
+        when(cardHashService.findCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER)).thenReturn(Optional.empty());
+
+        CardNotFoundByCardNumber exception = assertThrows(
+            CardNotFoundByCardNumber.class,
+            () -> cardService.getCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER)
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_NOT_FOUND_BY_CARD_NUMBER_MESSAGE, exception.getMessage());
+        verifyNoInteractions(cardMapper);
+    }
+
     @Test
     void getCardDetails_shouldThrowCardNotFoundException() {
         when(cardRepository.findCardById(cardId)).thenReturn(Optional.empty());
@@ -132,6 +201,30 @@ public class CardServiceImplTest {
         verify(cardRepository).findCardById(cardId);
     }
 
+    @Test
+    void getCardBalanceResponse_shouldSumBalanceSlotsForStripedCard() {
+        card.setBalanceSlotCount(4);
+        BigDecimal totalBalance = UnitTestDataProvider.TEST_BALANCE.add(UnitTestDataProvider.TEST_TRANSFER_AMOUNT);
+        when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
+        when(cardBalanceSlotService.getTotalBalance(cardId)).thenReturn(totalBalance);
+
+        CardBalanceResponse result = cardService.getCardBalanceResponse(cardId);
+
+        assertEquals(totalBalance, result.balance());
+    }
+
+    @Test
+    void getCardBalanceResponse_shouldSubtractHeldAmountFromAvailableBalance() {
+        card.setHeldAmount(UnitTestDataProvider.TEST_TRANSFER_AMOUNT);
+        when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
+
+        CardBalanceResponse result = cardService.getCardBalanceResponse(cardId);
+
+        assertEquals(UnitTestDataProvider.TEST_BALANCE, result.balance());
+        assertEquals(UnitTestDataProvider.TEST_BALANCE.subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            result.availableBalance());
+    }
+
     @Test
     void getCardBalanceResponse_shouldThrowCardNotFoundException() {
         when(cardRepository.findCardById(cardId)).thenReturn(Optional.empty());
@@ -199,11 +292,12 @@ public class CardServiceImplTest {
     void createNewCard_shouldCreateCardSuccessfully() {
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(cardHashService.isCardNumberUnique(cardRequest.cardNumber())).thenReturn(true);
-        when(cardHashService.hashCardNumber(cardRequest.cardNumber())).thenReturn(
-            UnitTestDataProvider.TEST_CARD_HASH);
         when(cardHashService.getQuickHash(cardRequest.cardNumber())).thenReturn(
             UnitTestDataProvider.TEST_CARD_QUICK_HASH);
-        when(cardRepository.save(any(Card.class))).thenReturn(card);
+        when(cardHashService.getFingerprintByQuickHash(UnitTestDataProvider.TEST_CARD_QUICK_HASH)).thenReturn(
+            UnitTestDataProvider.TEST_CARD_FINGERPRINT);
+        when(cardHashService.getFingerprintKeyVersion()).thenReturn(2);
+        when(cardRepository.saveAndFlush(any(Card.class))).thenReturn(card);
         when(cardMapper.toResponse(card)).thenReturn(cardResponse);
 
         CardResponse result = cardService.createNewCard(cardRequest);
@@ -213,9 +307,15 @@ public class CardServiceImplTest {
 
         verify(userRepository).findById(userId);
         verify(cardHashService).isCardNumberUnique(cardRequest.cardNumber());
-        verify(cardHashService).hashCardNumber(cardRequest.cardNumber());
         verify(cardHashService).getQuickHash(cardRequest.cardNumber());
-        verify(cardRepository).save(any(Card.class));
+
+        ArgumentCaptor<Card> cardCaptor = ArgumentCaptor.forClass(Card.class);
+        verify(cardRepository).saveAndFlush(cardCaptor.capture());
+        assertEquals(UnitTestDataProvider.TEST_CARD_FINGERPRINT, cardCaptor.getValue().getCardFingerprint());
+        assertEquals(2, cardCaptor.getValue().getFingerprintKeyVersion());
+        assertNull(cardCaptor.getValue().getCardNumberHash());
+        verify(ledgerService).recordAdjustment(cardId, UnitTestDataProvider.TEST_BALANCE);
+        verify(cardHashService).recordCardAdded(UnitTestDataProvider.TEST_CARD_QUICK_HASH);
         verify(cardMapper).toResponse(card);
     }
 
@@ -252,8 +352,25 @@ public class CardServiceImplTest {
         verify(userRepository).findById(userId);
         verify(cardHashService).isCardNumberUnique(cardRequest.cardNumber());
         verifyNoInteractions(cardRepository, cardMapper);
-        verify(cardHashService, never()).hashCardNumber(any());
         verify(cardHashService, never()).getQuickHash(any());
+        verify(cardHashService, never()).getFingerprintByQuickHash(any());
+    }
+
+    @Test
+    void createNewCard_shouldThrowCardAlreadyExistsExceptionOnUniqueViolation() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(cardHashService.isCardNumberUnique(cardRequest.cardNumber())).thenReturn(true);
+        when(cardRepository.saveAndFlush(any(Card.class)))
+            .thenThrow(new DataIntegrityViolationException("uc_cards_card_fingerprint"));
+
+        CardAlreadyExistsByCardNumberException exception = assertThrows(
+            CardAlreadyExistsByCardNumberException.class,
+            () -> cardService.createNewCard(cardRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_ALREADY_EXISTS_BY_CARD_NUMBER, exception.getMessage());
+        verify(cardHashService, never()).recordCardAdded(any());
+        verifyNoInteractions(ledgerService, outboxService, cardMapper);
     }
 
     @Test
@@ -273,6 +390,8 @@ public class CardServiceImplTest {
         verify(cardRepository).findCardById(cardId);
         verify(cardValidator).validateCardForUpade(card);
         verify(cardRepository).save(card);
+        verify(ledgerService).recordAdjustment(cardId,
+            UnitTestDataProvider.TEST_UPDATE_BALANCE.subtract(UnitTestDataProvider.TEST_BALANCE));
         verify(cardMapper).toResponse(card);
     }
 
@@ -320,6 +439,8 @@ public class CardServiceImplTest {
         verify(cardValidator).validateCardsForTransfer(sourceCard, targetCard);
         verify(cardRepository).save(sourceCard);
         verify(cardRepository).save(targetCard);
+        verify(ledgerService).recordTransfer(any(UUID.class), eq(sourceCard.getId()), eq(targetCard.getId()),
+            eq(UnitTestDataProvider.TEST_TRANSFER_AMOUNT), eq(UnitTestDataProvider.TEST_TRANSFER_DESCRIPTION));
     }
 
     @Test
@@ -356,6 +477,42 @@ public class CardServiceImplTest {
         verify(cardRepository).findCardById(targetCard.getId());
         verify(cardValidator).validateCardsForTransfer(sourceCard, targetCard);
         verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(ledgerService);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldNotSpendHeldAmount() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setHeldAmount(sourceCard.getBalance());
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardService.transferMoneyByTransferRequest(transferRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, exception.getMessage());
+        assertEquals(UnitTestDataProvider.TEST_BALANCE, sourceCard.getBalance());
+        verify(cardRepository, never()).save(any(Card.class));
+    }
+
+    @Test
+    void updateCardDetails_shouldRejectBalanceBelowHeldAmount() {
+        card.setHeldAmount(UnitTestDataProvider.TEST_BALANCE.add(BigDecimal.TEN));
+        when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardService.updateCardDetails(cardId, cardRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, exception.getMessage());
+        verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(ledgerService);
     }
 
     @Test
@@ -410,6 +567,462 @@ public class CardServiceImplTest {
         verify(cardRepository, never()).save(any(Card.class));
     }
 
+    @Test
+    void transferMoneyByTransferRequest_shouldLockCardsWhenPessimistic() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.PESSIMISTIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardRepository.findAllByIdInForUpdate(List.of(sourceCard.getId(), targetCard.getId())))
+            .thenReturn(List.of(targetCard, sourceCard));
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(UnitTestDataProvider.TEST_BALANCE.subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            sourceCard.getBalance());
+        assertEquals(new BigDecimal("500.00").add(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            targetCard.getBalance());
+
+        verify(cardRepository).findAllByIdInForUpdate(List.of(sourceCard.getId(), targetCard.getId()));
+        verify(cardRepository, never()).findCardById(any());
+        verify(cardValidator).validateCardsForTransfer(sourceCard, targetCard);
+        verify(cardRepository).save(sourceCard);
+        verify(cardRepository).save(targetCard);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldReloadPreloadedCardsUnderLockWhenPessimistic() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.PESSIMISTIC);
+        Card preloadedSourceCard = UnitTestDataProvider.sourceCard();
+        Card preloadedTargetCard = UnitTestDataProvider.targetCard();
+        Card lockedSourceCard = UnitTestDataProvider.sourceCard();
+        lockedSourceCard.setId(preloadedSourceCard.getId());
+        lockedSourceCard.setBalance(new BigDecimal("300.00"));
+        Card lockedTargetCard = UnitTestDataProvider.targetCard();
+        lockedTargetCard.setId(preloadedTargetCard.getId());
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(preloadedSourceCard, preloadedTargetCard);
+        List<UUID> cardIds = List.of(preloadedSourceCard.getId(), preloadedTargetCard.getId());
+
+        when(transferCardContext.takeCards()).thenReturn(Map.of(
+            preloadedSourceCard.getId(), preloadedSourceCard, preloadedTargetCard.getId(), preloadedTargetCard
+        ));
+        when(cardRepository.findAllByIdInForUpdate(cardIds)).thenReturn(List.of(lockedSourceCard, lockedTargetCard));
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        InOrder inOrder = inOrder(entityManager, cardRepository);
+        inOrder.verify(entityManager).detach(preloadedSourceCard);
+        inOrder.verify(entityManager).detach(preloadedTargetCard);
+        inOrder.verify(cardRepository).findAllByIdInForUpdate(cardIds);
+        assertEquals(new BigDecimal("100.00"), lockedSourceCard.getBalance());
+        assertEquals(UnitTestDataProvider.TEST_BALANCE, preloadedSourceCard.getBalance());
+        verify(cardRepository).save(lockedSourceCard);
+        verify(cardRepository).save(lockedTargetCard);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldThrowCardNotFoundExceptionWhenLockedCardMissing() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.PESSIMISTIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardRepository.findAllByIdInForUpdate(List.of(sourceCard.getId(), targetCard.getId())))
+            .thenReturn(List.of(sourceCard));
+
+        CardNotFoundById exception = assertThrows(
+            CardNotFoundById.class,
+            () -> cardService.transferMoneyByTransferRequest(transferRequest)
+        );
+
+        assertEquals(
+            ErrorMessagesConstant.CARD_NOT_FOUND_BY_ID_MESSAGE.formatted(transferRequest.targetCardId()),
+            exception.getMessage()
+        );
+
+        verifyNoInteractions(cardValidator);
+        verify(cardRepository, never()).save(any(Card.class));
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldUseConditionalUpdatesWhenAtomic() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+        YearMonth currentMonth = YearMonth.now();
+
+        when(cardRepository.debitCardIfAvailable(sourceCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT,
+            CardStatus.ACTIVE, currentMonth)).thenReturn(1);
+        when(cardRepository.creditCardIfAvailable(targetCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT,
+            CardStatus.ACTIVE, currentMonth)).thenReturn(1);
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        verify(cardRepository).debitCardIfAvailable(sourceCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT,
+            CardStatus.ACTIVE, currentMonth);
+        verify(cardRepository).creditCardIfAvailable(targetCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT,
+            CardStatus.ACTIVE, currentMonth);
+        verify(cardRepository, never()).findCardById(any());
+        verify(cardRepository, never()).save(any(Card.class));
+        verifyNoInteractions(cardValidator);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldThrowInsufficientBalanceWhenAtomicDebitFails() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.sourceCardInsufficient();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setId(UnitTestDataProvider.TEST_LOWER_CARD_ID);
+        targetCard.setId(UnitTestDataProvider.TEST_HIGHER_CARD_ID);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequestInsufficient(sourceCard, targetCard);
+
+        when(cardRepository.debitCardIfAvailable(eq(sourceCard.getId()), any(), any(), any())).thenReturn(0);
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardService.transferMoneyByTransferRequest(transferRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, exception.getMessage());
+
+        verify(cardValidator).validateCardForTransfer(sourceCard);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldMapBlockedCardWhenAtomicDebitFails() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.blockedCard(user);
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setId(UnitTestDataProvider.TEST_LOWER_CARD_ID);
+        targetCard.setId(UnitTestDataProvider.TEST_HIGHER_CARD_ID);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+        BadRequestException blockedException =
+            new BadRequestException(ErrorMessagesConstant.CARD_BLOCKED.formatted(sourceCard.getId()));
+
+        when(cardRepository.debitCardIfAvailable(eq(sourceCard.getId()), any(), any(), any())).thenReturn(0);
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        doThrow(blockedException).when(cardValidator).validateCardForTransfer(sourceCard);
+
+        BadRequestException exception = assertThrows(
+            BadRequestException.class,
+            () -> cardService.transferMoneyByTransferRequest(transferRequest)
+        );
+
+        assertEquals(blockedException.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldThrowConflictWhenAtomicCreditFailsOnValidCard() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setId(UnitTestDataProvider.TEST_LOWER_CARD_ID);
+        targetCard.setId(UnitTestDataProvider.TEST_HIGHER_CARD_ID);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardRepository.debitCardIfAvailable(eq(sourceCard.getId()), any(), any(), any())).thenReturn(1);
+        when(cardRepository.creditCardIfAvailable(eq(targetCard.getId()), any(), any(), any())).thenReturn(0);
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        ConflictException exception = assertThrows(
+            ConflictException.class,
+            () -> cardService.transferMoneyByTransferRequest(transferRequest)
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION, exception.getMessage());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldReserveUserLimitWhenRetriedWithoutLoadedCards() {
+        Card sourceCard = UnitTestDataProvider.card(user);
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(transferCardContext.takeCards())
+            .thenReturn(Map.of(sourceCard.getId(), sourceCard, targetCard.getId(), targetCard))
+            .thenReturn(Map.of());
+        when(cardRepository.findOwnerIdById(sourceCard.getId())).thenReturn(Optional.of(user.getId()));
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        verify(transferLimitService, times(2))
+            .reserve(sourceCard.getId(), user.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT);
+        verify(cardRepository, times(1)).findOwnerIdById(sourceCard.getId());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldReserveUserLimitOutsideRequestContext() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.card(user);
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(transferCardContext.takeCards()).thenReturn(Map.of());
+        when(cardRepository.findOwnerIdById(sourceCard.getId())).thenReturn(Optional.of(user.getId()));
+        when(cardRepository.debitCardIfAvailable(eq(sourceCard.getId()), any(), any(), any())).thenReturn(1);
+        when(cardRepository.creditCardIfAvailable(eq(targetCard.getId()), any(), any(), any())).thenReturn(1);
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        verify(transferLimitService)
+            .reserve(sourceCard.getId(), user.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldCreditBalanceSlotForStripedTarget() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.PESSIMISTIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        targetCard.setBalanceSlotCount(4);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardBalanceSlotService.isStriped(targetCard.getId())).thenReturn(true);
+        when(cardRepository.findAllByIdInForUpdate(List.of(sourceCard.getId()))).thenReturn(List.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+        when(cardBalanceSlotService.creditSlot(targetCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT))
+            .thenReturn(true);
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(new BigDecimal("500.00"), targetCard.getBalance());
+        verify(cardRepository).save(sourceCard);
+        verify(cardRepository, never()).save(targetCard);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldCreditCardRowWhenSlotCreditFails() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardBalanceSlotService.isStriped(targetCard.getId())).thenReturn(true);
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+        when(cardBalanceSlotService.creditSlot(targetCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT))
+            .thenReturn(false);
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(new BigDecimal("500.00").add(UnitTestDataProvider.TEST_TRANSFER_AMOUNT), targetCard.getBalance());
+        verify(cardRepository).save(targetCard);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldFoldBalanceSlotsWhenSourceRowBalanceInsufficient() {
+        Card sourceCard = UnitTestDataProvider.sourceCardInsufficient();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setBalanceSlotCount(2);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+        BigDecimal initialBalance = sourceCard.getBalance();
+
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+        when(cardBalanceSlotService.foldSlots(sourceCard.getId())).thenReturn(UnitTestDataProvider.TEST_BALANCE);
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(initialBalance.add(UnitTestDataProvider.TEST_BALANCE)
+            .subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT), sourceCard.getBalance());
+        verify(cardBalanceSlotService).foldSlots(sourceCard.getId());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldNotFoldBalanceSlotsWhenSourceRowBalanceSuffices() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setBalanceSlotCount(2);
+        TransferRequest transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        verify(cardBalanceSlotService, never()).foldSlots(any());
+    }
+
+    @Test
+    void updateBalanceSlots_shouldFoldAndResizeSlots() {
+        card.setBalanceSlotCount(2);
+        when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
+        when(cardBalanceSlotService.foldSlots(cardId)).thenReturn(UnitTestDataProvider.TEST_TRANSFER_AMOUNT);
+
+        cardService.updateBalanceSlots(cardId, 8);
+
+        assertEquals(8, card.getBalanceSlotCount());
+        assertEquals(UnitTestDataProvider.TEST_BALANCE.add(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            card.getBalance());
+        verify(cardBalanceSlotService).resizeSlots(cardId, 8);
+        verify(cardRepository).save(card);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transferMoneyBatch_shouldApplyItemsInOrderAndRejectInvalidOnes() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        UUID foreignCardId = UUID.randomUUID();
+        BatchTransferRequest batchTransferRequest = new BatchTransferRequest(List.of(
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard),
+            new TransferRequest(sourceCard.getId().toString(), targetCard.getId().toString(),
+                new BigDecimal("900.00"), null),
+            new TransferRequest(targetCard.getId().toString(), sourceCard.getId().toString(),
+                new BigDecimal("100.00"), null),
+            new TransferRequest(sourceCard.getId().toString(), foreignCardId.toString(),
+                new BigDecimal("10.00"), null)
+        ));
+        List<UUID> ownedCardIds = List.of(sourceCard.getId(), targetCard.getId());
+
+        when(cardRepository.findIdsByIdInAndOwnerId(any(), eq(userId))).thenReturn(ownedCardIds);
+        when(cardRepository.findAllByIdInForUpdate(ownedCardIds)).thenReturn(List.of(sourceCard, targetCard));
+
+        BatchTransferResponse result = cardService.transferMoneyBatch(batchTransferRequest, userId);
+
+        assertEquals(2, result.completed());
+        assertEquals(2, result.rejected());
+        assertEquals(TransferItemStatus.COMPLETED, result.results().get(0).status());
+        assertEquals(TransferItemStatus.REJECTED, result.results().get(1).status());
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, result.results().get(1).errorDescription());
+        assertEquals(TransferItemStatus.COMPLETED, result.results().get(2).status());
+        assertEquals(TransferItemStatus.REJECTED, result.results().get(3).status());
+        assertEquals(ErrorMessagesConstant.CARD_NOT_FOUND_BY_ID_MESSAGE.formatted(foreignCardId),
+            result.results().get(3).errorDescription());
+        assertNull(result.results().get(3).transferId());
+
+        assertEquals(new BigDecimal("900.00"), sourceCard.getBalance());
+        assertEquals(new BigDecimal("600.00"), targetCard.getBalance());
+
+        ArgumentCaptor<Map<UUID, TransferRequest>> completedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(cardRepository).findAllByIdInForUpdate(ownedCardIds);
+        verify(cardRepository, never()).findCardById(any());
+        verify(ledgerService).recordTransfers(completedCaptor.capture());
+        assertEquals(
+            List.of(result.results().get(0).transferId(), result.results().get(2).transferId()),
+            List.copyOf(completedCaptor.getValue().keySet())
+        );
+    }
+
+    @Test
+    void transferMoneyBatch_shouldRejectItemsWhenValidationFails() {
+        Card sourceCard = UnitTestDataProvider.blockedCard(user);
+        Card targetCard = UnitTestDataProvider.targetCard();
+        BatchTransferRequest batchTransferRequest = new BatchTransferRequest(List.of(
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard),
+            UnitTestDataProvider.transferRequestSameCard(targetCard)
+        ));
+        List<UUID> ownedCardIds = List.of(sourceCard.getId(), targetCard.getId());
+        BadRequestException blockedException =
+            new BadRequestException(ErrorMessagesConstant.CARD_BLOCKED.formatted(sourceCard.getId()));
+
+        when(cardRepository.findIdsByIdInAndOwnerId(any(), eq(userId))).thenReturn(ownedCardIds);
+        when(cardRepository.findAllByIdInForUpdate(ownedCardIds)).thenReturn(List.of(sourceCard, targetCard));
+        doThrow(blockedException).when(cardValidator).validateCardsForTransfer(sourceCard, targetCard);
+
+        BatchTransferResponse result = cardService.transferMoneyBatch(batchTransferRequest, userId);
+
+        assertEquals(0, result.completed());
+        assertEquals(2, result.rejected());
+        assertEquals(blockedException.getMessage(), result.results().get(0).errorDescription());
+        assertEquals(ErrorMessagesConstant.TRANSFER_SAME_CARD, result.results().get(1).errorDescription());
+        assertEquals(UnitTestDataProvider.TEST_BALANCE, sourceCard.getBalance());
+        verify(ledgerService).recordTransfers(Map.of());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void applyTransfers_shouldKeepGivenTransferIdsForCompletedItems() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        UUID completedTransferId = UUID.randomUUID();
+        UUID rejectedTransferId = UUID.randomUUID();
+        Map<UUID, TransferRequest> transferRequestsByTransferId = new LinkedHashMap<>();
+        transferRequestsByTransferId.put(completedTransferId,
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard));
+        transferRequestsByTransferId.put(rejectedTransferId, new TransferRequest(sourceCard.getId().toString(),
+            targetCard.getId().toString(), new BigDecimal("5000.00"), null));
+
+        when(cardRepository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of(sourceCard, targetCard));
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        assertEquals(completedTransferId, results.get(0).transferId());
+        assertEquals(TransferItemStatus.COMPLETED, results.get(0).status());
+        assertEquals(TransferItemStatus.REJECTED, results.get(1).status());
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, results.get(1).errorDescription());
+
+        ArgumentCaptor<Map<UUID, TransferRequest>> completedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(cardRepository, never()).findIdsByIdInAndOwnerId(any(), any());
+        verify(ledgerService).recordTransfers(completedCaptor.capture());
+        assertEquals(List.of(completedTransferId), List.copyOf(completedCaptor.getValue().keySet()));
+    }
+
+    @Test
+    void applyTransfers_shouldCreditStripedTargetThroughSlotsWithoutLockingIt() {
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        targetCard.setBalanceSlotCount(4);
+        Map<UUID, TransferRequest> transferRequestsByTransferId = Map.of(UUID.randomUUID(),
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard));
+
+        when(cardBalanceSlotService.isStriped(targetCard.getId())).thenReturn(true);
+        when(cardRepository.findAllByIdInForUpdate(List.of(sourceCard.getId()))).thenReturn(List.of(sourceCard));
+        when(cardRepository.findAllByIdInWithOwner(Set.of(targetCard.getId()))).thenReturn(List.of(targetCard));
+        when(cardBalanceSlotService.creditSlot(targetCard.getId(), UnitTestDataProvider.TEST_TRANSFER_AMOUNT))
+            .thenReturn(true);
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        assertEquals(TransferItemStatus.COMPLETED, results.get(0).status());
+        assertEquals(new BigDecimal("800.00"), sourceCard.getBalance());
+        assertEquals(new BigDecimal("500.00"), targetCard.getBalance());
+        verify(cardRepository).findAllByIdInForUpdate(List.of(sourceCard.getId()));
+        verify(cardBalanceSlotService, never()).foldSlots(any());
+    }
+
+    @Test
+    void applyTransfers_shouldFoldStripedSourceOnlyWhenRowBalanceInsufficient() {
+        Card sourceCard = UnitTestDataProvider.sourceCardInsufficient();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setBalanceSlotCount(2);
+        BigDecimal initialBalance = sourceCard.getBalance();
+        Map<UUID, TransferRequest> transferRequestsByTransferId = Map.of(UUID.randomUUID(),
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard));
+
+        when(cardRepository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of(sourceCard, targetCard));
+        when(cardBalanceSlotService.foldSlots(sourceCard.getId())).thenReturn(UnitTestDataProvider.TEST_BALANCE);
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        assertEquals(TransferItemStatus.COMPLETED, results.get(0).status());
+        assertEquals(initialBalance.add(UnitTestDataProvider.TEST_BALANCE)
+            .subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT), sourceCard.getBalance());
+        verify(cardBalanceSlotService).foldSlots(sourceCard.getId());
+        verify(cardBalanceSlotService, never()).foldSlots(targetCard.getId());
+    }
+
+    @Test
+    void applyTransfers_shouldUseOrderedLockPassInAtomicMode() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.ATOMIC);
+        Card sourceCard = UnitTestDataProvider.sourceCard();
+        Card targetCard = UnitTestDataProvider.targetCard();
+        Map<UUID, TransferRequest> transferRequestsByTransferId = Map.of(UUID.randomUUID(),
+            UnitTestDataProvider.transferRequest(sourceCard, targetCard));
+
+        when(cardRepository.findAllByIdInForUpdate(anyCollection())).thenReturn(List.of(sourceCard, targetCard));
+
+        List<TransferItemResponse> results = cardService.applyTransfers(transferRequestsByTransferId);
+
+        assertEquals(TransferItemStatus.COMPLETED, results.get(0).status());
+        verify(cardRepository, never()).debitCardIfAvailable(any(), any(), any(), any());
+        verify(cardRepository, never()).creditCardIfAvailable(any(), any(), any(), any());
+    }
+
     @Test
     void blockCardByCardId_shouldBlockCardSuccessfully() {
         when(cardRepository.findCardById(cardId)).thenReturn(Optional.of(card));
@@ -422,6 +1035,7 @@ public class CardServiceImplTest {
         verify(cardRepository).findCardById(cardId);
         verify(cardValidator).validateCardForBlock(card);
         verify(cardRepository).save(card);
+        verify(outboxService).recordCardEvent(OutboxEventType.CARD_BLOCKED, card);
     }
 
     @Test
@@ -486,6 +1100,7 @@ public class CardServiceImplTest {
         verify(cardRepository).findCardById(cardId);
         verify(cardValidator).validateCardForDelete(card);
         verify(cardRepository).delete(card);
+        verify(cardHashService).recordCardDeleted();
     }
 
     @Test
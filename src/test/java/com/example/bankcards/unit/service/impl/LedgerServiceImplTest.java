@@ -0,0 +1,197 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.CursorPageResponse;
+import com.example.bankcards.dto.response.LedgerEntryResponse;
+import com.example.bankcards.entity.CardBalanceSnapshot;
+import com.example.bankcards.entity.LedgerEntry;
+import com.example.bankcards.entity.LedgerEntryType;
+import com.example.bankcards.repository.CardBalanceSnapshotRepository;
+import com.example.bankcards.repository.LedgerEntryRepository;
+import com.example.bankcards.service.impl.LedgerServiceImpl;
+import com.example.bankcards.utility.mapper.LedgerEntryMapper;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+public class LedgerServiceImplTest {
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private CardBalanceSnapshotRepository cardBalanceSnapshotRepository;
+
+    @Mock
+    private LedgerEntryMapper ledgerEntryMapper;
+
+    @InjectMocks
+    private LedgerServiceImpl ledgerService;
+
+    private UUID sourceCardId;
+    private UUID targetCardId;
+
+    @BeforeEach
+    void setUp() {
+        sourceCardId = UnitTestDataProvider.TEST_LOWER_CARD_ID;
+        targetCardId = UnitTestDataProvider.TEST_HIGHER_CARD_ID;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordTransfer_shouldSaveDebitAndCreditEntries() {
+        ArgumentCaptor<List<LedgerEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+
+        UUID transferId = UUID.randomUUID();
+
+        ledgerService.recordTransfer(transferId, sourceCardId, targetCardId,
+            UnitTestDataProvider.TEST_TRANSFER_AMOUNT, UnitTestDataProvider.TEST_TRANSFER_DESCRIPTION);
+
+        verify(ledgerEntryRepository).saveAll(entriesCaptor.capture());
+
+        List<LedgerEntry> entries = entriesCaptor.getValue();
+        assertEquals(2, entries.size());
+        assertEquals(sourceCardId, entries.get(0).getCardId());
+        assertEquals(LedgerEntryType.DEBIT, entries.get(0).getEntryType());
+        assertEquals(targetCardId, entries.get(1).getCardId());
+        assertEquals(LedgerEntryType.CREDIT, entries.get(1).getEntryType());
+        entries.forEach(entry -> assertEquals(transferId, entry.getTransferId()));
+        assertEquals(0, entries.get(0).getSignedAmount().add(entries.get(1).getSignedAmount()).signum());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordTransfers_shouldInsertAllEntriesInOneBatch() {
+        ArgumentCaptor<List<LedgerEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+        Map<UUID, TransferRequest> transferRequests = new LinkedHashMap<>();
+        transferRequests.put(UUID.randomUUID(), new TransferRequest(sourceCardId.toString(), targetCardId.toString(),
+            UnitTestDataProvider.TEST_TRANSFER_AMOUNT, null));
+        transferRequests.put(UUID.randomUUID(), new TransferRequest(targetCardId.toString(), sourceCardId.toString(),
+            UnitTestDataProvider.TEST_TRANSFER_AMOUNT, null));
+
+        ledgerService.recordTransfers(transferRequests);
+
+        verify(ledgerEntryRepository).insertAllInBatch(entriesCaptor.capture());
+        assertEquals(4, entriesCaptor.getValue().size());
+        assertEquals(targetCardId, entriesCaptor.getValue().get(2).getCardId());
+        assertEquals(LedgerEntryType.DEBIT, entriesCaptor.getValue().get(2).getEntryType());
+    }
+
+    @Test
+    void recordTransfers_shouldSkipEmptyBatch() {
+        ledgerService.recordTransfers(Map.of());
+
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    void recordAdjustment_shouldSaveDebitEntryForNegativeDelta() {
+        ArgumentCaptor<LedgerEntry> entryCaptor = ArgumentCaptor.forClass(LedgerEntry.class);
+
+        ledgerService.recordAdjustment(sourceCardId, UnitTestDataProvider.TEST_TRANSFER_AMOUNT.negate());
+
+        verify(ledgerEntryRepository).save(entryCaptor.capture());
+        assertEquals(LedgerEntryType.DEBIT, entryCaptor.getValue().getEntryType());
+        assertEquals(UnitTestDataProvider.TEST_TRANSFER_AMOUNT, entryCaptor.getValue().getAmount());
+        assertNull(entryCaptor.getValue().getTransferId());
+    }
+
+    @Test
+    void recordAdjustment_shouldSkipZeroDelta() {
+        ledgerService.recordAdjustment(sourceCardId, BigDecimal.ZERO);
+
+        verifyNoInteractions(ledgerEntryRepository);
+    }
+
+    @Test
+    void getCardTransactions_shouldReturnNextCursorWhenMoreEntriesExist() {
+        List<LedgerEntry> entries = List.of(entry(30L), entry(20L), entry(10L));
+        when(ledgerEntryRepository.findByCardIdAndIdLessThanOrderByIdDesc(sourceCardId, 40L, Limit.of(3)))
+            .thenReturn(entries);
+        when(ledgerEntryMapper.toResponse(any(LedgerEntry.class))).thenReturn(entryResponse());
+
+        CursorPageResponse<LedgerEntryResponse> result = ledgerService.getCardTransactions(sourceCardId, 40L, 2);
+
+        assertEquals(2, result.content().size());
+        assertEquals(20L, result.nextCursor());
+        verify(ledgerEntryRepository, never()).findByCardIdOrderByIdDesc(any(UUID.class), any(Limit.class));
+    }
+
+    @Test
+    void getCardTransactions_shouldReturnNullCursorOnLastPage() {
+        when(ledgerEntryRepository.findByCardIdOrderByIdDesc(sourceCardId, Limit.of(11)))
+            .thenReturn(List.of(entry(10L)));
+        when(ledgerEntryMapper.toResponse(any(LedgerEntry.class))).thenReturn(entryResponse());
+
+        CursorPageResponse<LedgerEntryResponse> result = ledgerService.getCardTransactions(sourceCardId, null, 10);
+
+        assertEquals(1, result.content().size());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void getLedgerBalance_shouldAddEntriesAfterSnapshot() {
+        CardBalanceSnapshot snapshot = CardBalanceSnapshot.builder()
+            .cardId(sourceCardId)
+            .balance(UnitTestDataProvider.TEST_BALANCE)
+            .lastEntryId(100L)
+            .build();
+        when(cardBalanceSnapshotRepository.findById(sourceCardId)).thenReturn(Optional.of(snapshot));
+        when(ledgerEntryRepository.sumSignedAmountByCardIdAfterEntryId(sourceCardId, 100L, LedgerEntryType.CREDIT))
+            .thenReturn(UnitTestDataProvider.TEST_TRANSFER_AMOUNT.negate());
+
+        BigDecimal result = ledgerService.getLedgerBalance(sourceCardId);
+
+        assertEquals(UnitTestDataProvider.TEST_BALANCE.subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT), result);
+    }
+
+    @Test
+    void takeBalanceSnapshots_shouldSnapshotUpToPreviousWatermark() {
+        when(ledgerEntryRepository.findMaxId()).thenReturn(50L, 80L);
+
+        ledgerService.takeBalanceSnapshots();
+        verify(cardBalanceSnapshotRepository, never()).upsertSnapshotsUpToEntryId(anyLong(), anyInt());
+
+        ledgerService.takeBalanceSnapshots();
+        verify(cardBalanceSnapshotRepository).upsertSnapshotsUpToEntryId(eq(50L), eq(LedgerEntryType.CREDIT.getCode()));
+    }
+
+    private LedgerEntry entry(Long id) {
+        return LedgerEntry.builder()
+            .id(id)
+            .cardId(sourceCardId)
+            .entryType(LedgerEntryType.CREDIT)
+            .amount(UnitTestDataProvider.TEST_TRANSFER_AMOUNT)
+            .build();
+    }
+
+    private LedgerEntryResponse entryResponse() {
+        return new LedgerEntryResponse(1L, null, null, LedgerEntryType.CREDIT,
+            UnitTestDataProvider.TEST_TRANSFER_AMOUNT, null, null);
+    }
+
+}
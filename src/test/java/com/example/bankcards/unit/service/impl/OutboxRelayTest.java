@@ -0,0 +1,107 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.dto.event.OutboxEventMessage;
+import com.example.bankcards.entity.OutboxEvent;
+import com.example.bankcards.entity.OutboxEventType;
+import com.example.bankcards.repository.OutboxEventRepository;
+import com.example.bankcards.service.impl.InMemoryOutboxEventPublisher;
+import com.example.bankcards.service.impl.OutboxRelay;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    private InMemoryOutboxEventPublisher outboxEventPublisher;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventPublisher = spy(new InMemoryOutboxEventPublisher());
+        ReflectionTestUtils.setField(outboxEventPublisher, "capacity", 100);
+
+        outboxRelay = new OutboxRelay(
+            outboxEventRepository,
+            outboxEventPublisher,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new ObjectMapper().findAndRegisterModules()
+        );
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", BATCH_SIZE);
+    }
+
+    @Test
+    void relayEvents_shouldPublishAndDeleteBatchesUntilOutboxIsDrained() {
+        List<OutboxEvent> firstBatch = outboxEvents(1, 2);
+        List<OutboxEvent> secondBatch = outboxEvents(3, 3);
+        when(outboxEventRepository.findBatchForUpdateSkipLocked(BATCH_SIZE)).thenReturn(firstBatch, secondBatch);
+
+        outboxRelay.relayEvents();
+
+        List<OutboxEventMessage> publishedEvents = outboxEventPublisher.getPublishedEvents();
+        assertEquals(List.of(1L, 2L, 3L), publishedEvents.stream().map(OutboxEventMessage::id).toList());
+        assertEquals(OutboxEventType.CARD_BLOCKED, publishedEvents.get(0).eventType());
+        assertEquals("ACTIVE", publishedEvents.get(0).payload().get("cardStatus").asText());
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+    }
+
+    @Test
+    void relayEvents_shouldKeepEventsWhenPublishFails() {
+        when(outboxEventRepository.findBatchForUpdateSkipLocked(BATCH_SIZE)).thenReturn(outboxEvents(1, 1));
+        doThrow(new IllegalStateException("Broker unavailable")).when(outboxEventPublisher).publish(anyList());
+
+        assertThrows(IllegalStateException.class, () -> outboxRelay.relayEvents());
+
+        verify(outboxEventRepository, never()).deleteAllByIdInBatch(anyList());
+    }
+
+    @Test
+    void relayEvents_shouldDoNothingWhenOutboxIsEmpty() {
+        when(outboxEventRepository.findBatchForUpdateSkipLocked(BATCH_SIZE)).thenReturn(List.of());
+
+        outboxRelay.relayEvents();
+
+        verify(outboxEventPublisher, never()).publish(anyList());
+    }
+
+    private List<OutboxEvent> outboxEvents(long firstId, long lastId) {
+        return LongStream.rangeClosed(firstId, lastId)
+            .mapToObj(id -> OutboxEvent.builder()
+                .id(id)
+                .eventType(OutboxEventType.CARD_BLOCKED)
+                .aggregateId(UUID.randomUUID())
+                .payload("{\"cardStatus\":\"ACTIVE\"}")
+                .createdAt(LocalDateTime.now())
+                .build())
+            .toList();
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.entity.RefreshToken;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.UnauthorizedException;
+import com.example.bankcards.repository.RefreshTokenRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.impl.RefreshTokenService;
+import com.example.bankcards.service.impl.RefreshTokenService.RotatedRefreshToken;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenService refreshTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, meterRegistry);
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationMs", 60_000L);
+        user = UnitTestDataProvider.user();
+    }
+
+    @Test
+    void issue_shouldStoreOnlyTokenHash() {
+        String token = refreshTokenService.issue(user.getId());
+
+        RefreshToken storedToken = captureSavedTokens(1).get(0);
+        assertNotNull(token);
+        assertEquals(64, storedToken.getTokenHash().length());
+        assertNotEquals(token, storedToken.getTokenHash());
+        assertEquals(user.getId(), storedToken.getUserId());
+    }
+
+    @Test
+    void rotate_shouldRevokeCurrentTokenAndIssueOneInSameFamily() {
+        String token = refreshTokenService.issue(user.getId());
+        RefreshToken storedToken = captureSavedTokens(1).get(0);
+        when(refreshTokenRepository.findByTokenHashForUpdate(storedToken.getTokenHash()))
+            .thenReturn(Optional.of(storedToken));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        RotatedRefreshToken rotatedRefreshToken = refreshTokenService.rotate(token);
+
+        RefreshToken rotatedToken = captureSavedTokens(2).get(1);
+        assertSame(user, rotatedRefreshToken.user());
+        assertNotEquals(token, rotatedRefreshToken.refreshToken());
+        assertNotNull(storedToken.getRevokedAt());
+        assertEquals(storedToken.getFamilyId(), rotatedToken.getFamilyId());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    void rotate_shouldRevokeFamilyWhenTokenIsReused() {
+        String token = refreshTokenService.issue(user.getId());
+        RefreshToken storedToken = captureSavedTokens(1).get(0);
+        storedToken.setRevokedAt(LocalDateTime.now());
+        when(refreshTokenRepository.findByTokenHashForUpdate(storedToken.getTokenHash()))
+            .thenReturn(Optional.of(storedToken));
+
+        UnauthorizedException exception = assertThrows(
+            UnauthorizedException.class,
+            () -> refreshTokenService.rotate(token)
+        );
+
+        assertEquals(ErrorMessagesConstant.INVALID_REFRESH_TOKEN, exception.getMessage());
+        verify(refreshTokenRepository).revokeFamily(eq(storedToken.getFamilyId()), any());
+        verify(refreshTokenRepository, times(1)).save(any());
+        assertEquals(1, meterRegistry.counter("auth.refresh.rejected", "reason", "reused").count());
+    }
+
+    @Test
+    void rotate_shouldRejectExpiredToken() {
+        String token = refreshTokenService.issue(user.getId());
+        RefreshToken storedToken = captureSavedTokens(1).get(0);
+        ReflectionTestUtils.setField(storedToken, "expiresAt", LocalDateTime.now().minusSeconds(1));
+        when(refreshTokenRepository.findByTokenHashForUpdate(storedToken.getTokenHash()))
+            .thenReturn(Optional.of(storedToken));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(token));
+
+        verify(userRepository, never()).findById(any());
+        verify(refreshTokenRepository, times(1)).save(any());
+    }
+
+    @Test
+    void rotate_shouldRevokeFamilyForInactiveUser() {
+        String token = refreshTokenService.issue(user.getId());
+        RefreshToken storedToken = captureSavedTokens(1).get(0);
+        user.setActive(false);
+        when(refreshTokenRepository.findByTokenHashForUpdate(storedToken.getTokenHash()))
+            .thenReturn(Optional.of(storedToken));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate(token));
+
+        verify(refreshTokenRepository).revokeFamily(eq(storedToken.getFamilyId()), any());
+        verify(refreshTokenRepository, times(1)).save(any());
+    }
+
+    @Test
+    void rotate_shouldRejectUnknownToken() {
+        when(refreshTokenRepository.findByTokenHashForUpdate(any())).thenReturn(Optional.empty());
+
+        assertThrows(UnauthorizedException.class, () -> refreshTokenService.rotate("unknown"));
+
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    private List<RefreshToken> captureSavedTokens(int expectedCount) {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(expectedCount)).save(captor.capture());
+        return captor.getAllValues();
+    }
+
+}
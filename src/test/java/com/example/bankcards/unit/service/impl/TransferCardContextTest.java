@@ -0,0 +1,234 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.CardNumberTransferRequest;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.repository.TransferRecordRepository;
+import com.example.bankcards.repository.TransferScheduleRepository;
+import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.impl.CardBalanceSlotService;
+import com.example.bankcards.service.impl.CardHashService;
+import com.example.bankcards.service.impl.CardServiceImpl;
+import com.example.bankcards.service.impl.OutboxService;
+import com.example.bankcards.service.impl.TransferCardContext;
+import com.example.bankcards.service.impl.TransferLimitService;
+import com.example.bankcards.service.impl.TransferSecurityService;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
+import com.example.bankcards.utility.mapper.CardMapper;
+import com.example.bankcards.utility.mapper.PageResponseMapper;
+import com.example.bankcards.utility.validator.CardValidator;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferCardContextTest {
+
+    @Mock
+    private CardRepository cardRepository;
+
+    @Mock
+    private CardHashService cardHashService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CardMapper cardMapper;
+
+    @Mock
+    private PageResponseMapper pageResponseMapper;
+
+    @Mock
+    private CardValidator cardValidator;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private CardBalanceSlotService cardBalanceSlotService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private TransferLimitService transferLimitService;
+
+    @Mock
+    private TransferRecordRepository transferRecordRepository;
+
+    @Mock
+    private TransferScheduleRepository transferScheduleRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private TransferCardContext transferCardContext;
+
+    @InjectMocks
+    private CardServiceImpl cardService;
+
+    private TransferSecurityService transferSecurityService;
+    private Card sourceCard;
+    private Card targetCard;
+    private TransferRequest transferRequest;
+
+    @BeforeEach
+    void setUp() {
+        transferSecurityService = new TransferSecurityService(
+            cardRepository, transferRecordRepository, transferScheduleRepository, transferCardContext, cardHashService
+        );
+
+        User user = UnitTestDataProvider.user();
+        sourceCard = UnitTestDataProvider.sourceCard();
+        targetCard = UnitTestDataProvider.targetCard();
+        sourceCard.setOwner(user);
+        targetCard.setOwner(user);
+        transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
+
+        SecurityContextHolder.getContext().setAuthentication(UnitTestDataProvider.authenticatedToken(user.getId()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        lenient().when(cardRepository.findAllByIdInWithOwner(List.of(sourceCard.getId(), targetCard.getId())))
+            .thenReturn(List.of(sourceCard, targetCard));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void transfer_shouldReadCardsOnceWhenOptimistic() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
+
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(1, countCardRepositoryReads());
+        assertTransferApplied();
+        verify(cardRepository, never()).findCardById(any());
+        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+    }
+
+    @Test
+    void transfer_shouldOnlyAddRowLockReadWhenPessimistic() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.PESSIMISTIC);
+        when(cardRepository.findAllByIdInForUpdate(List.of(sourceCard.getId(), targetCard.getId())))
+            .thenReturn(List.of(sourceCard, targetCard));
+
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(2, countCardRepositoryReads());
+        assertTransferApplied();
+        verify(cardRepository, never()).findCardById(any());
+        verify(entityManager).detach(sourceCard);
+        verify(entityManager).detach(targetCard);
+    }
+
+    @Test
+    void transfer_shouldLoadCardsAgainOutsideRequest() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
+        RequestContextHolder.resetRequestAttributes();
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(4, countCardRepositoryReads());
+        assertTransferApplied();
+    }
+
+    @Test
+    void transfer_shouldUseLoadedCardsOnlyOnce() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
+        when(cardRepository.findCardById(sourceCard.getId())).thenReturn(Optional.of(sourceCard));
+        when(cardRepository.findCardById(targetCard.getId())).thenReturn(Optional.of(targetCard));
+
+        assertTrue(transferSecurityService.canTransfer(transferRequest));
+        cardService.transferMoneyByTransferRequest(transferRequest);
+        cardService.transferMoneyByTransferRequest(transferRequest);
+
+        assertEquals(4, countCardRepositoryReads());
+        verify(cardRepository).findCardById(sourceCard.getId());
+        verify(cardRepository).findCardById(targetCard.getId());
+    }
+
+    @Test
+    void transferToCardNumber_shouldResolveTargetOnceAndReuseLoadedCards() {
+        ReflectionTestUtils.setField(cardService, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
+        CardNumberTransferRequest cardNumberTransferRequest = new CardNumberTransferRequest(
+            transferRequest.sourceCardId(), UnitTestDataProvider.TEST_CARD_NUMBER, transferRequest.amount(), null
+        );
+        when(cardHashService.findCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER))
+            .thenReturn(Optional.of(targetCard));
+
+        assertTrue(transferSecurityService.canTransferToCardNumber(cardNumberTransferRequest));
+        TransferRequest resolvedTransferRequest = transferCardContext.takeTransferRequest();
+        cardService.transferMoneyByTransferRequest(resolvedTransferRequest);
+
+        assertEquals(targetCard.getId().toString(), resolvedTransferRequest.targetCardId());
+        assertEquals(1, countCardRepositoryReads());
+        assertTransferApplied();
+        verify(cardHashService).findCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER);
+    }
+
+    @Test
+    void transferToCardNumber_shouldDenyUnknownCardNumber() {
+        CardNumberTransferRequest cardNumberTransferRequest = new CardNumberTransferRequest(
+            transferRequest.sourceCardId(), UnitTestDataProvider.TEST_CARD_NUMBER, transferRequest.amount(), null
+        );
+        when(cardHashService.findCardByCardNumber(UnitTestDataProvider.TEST_CARD_NUMBER)).thenReturn(Optional.empty());
+
+        assertFalse(transferSecurityService.canTransferToCardNumber(cardNumberTransferRequest));
+        assertNull(transferCardContext.takeTransferRequest());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
+    }
+
+    private long countCardRepositoryReads() {
+        return mockingDetails(cardRepository).getInvocations().stream()
+            .map(invocation -> invocation.getMethod().getName())
+            .filter(methodName -> methodName.startsWith("find") || methodName.startsWith("exists"))
+            .count();
+    }
+
+    private void assertTransferApplied() {
+        assertEquals(UnitTestDataProvider.TEST_BALANCE.subtract(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            sourceCard.getBalance());
+        assertEquals(new BigDecimal("500.00").add(UnitTestDataProvider.TEST_TRANSFER_AMOUNT),
+            targetCard.getBalance());
+    }
+
+}
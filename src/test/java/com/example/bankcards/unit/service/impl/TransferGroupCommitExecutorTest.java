@@ -0,0 +1,220 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.impl.TransferGroupCommitExecutor;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@Slf4j
+public class TransferGroupCommitExecutorTest {
+
+    private static final int CALLERS = 8;
+    private static final int BENCHMARK_THREADS = 32;
+    private static final int BENCHMARK_TRANSFERS = 3_000;
+    private static final long COMMIT_COST_MICROS = 1_000;
+    private static final long TIMEOUT_SECONDS = 30;
+    private static final BigDecimal REJECTED_AMOUNT = new BigDecimal("999.00");
+
+    private CardService cardService;
+    private TransferGroupCommitExecutor transferGroupCommitExecutor;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        cardService = mock(CardService.class, withSettings().stubOnly());
+        transferGroupCommitExecutor = new TransferGroupCommitExecutor(cardService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "enabled", true);
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "windowMicros", 1_000L);
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "maxBatchSize", 64);
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "committerThreads", 4);
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "queueCapacity", 10_000);
+
+        user = UnitTestDataProvider.user();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferGroupCommitExecutor.stop();
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldCommitDirectlyWhenDisabled() {
+        cardService = mock(CardService.class);
+        transferGroupCommitExecutor = new TransferGroupCommitExecutor(cardService, new SimpleMeterRegistry());
+        TransferRequest transferRequest = transferRequest(BigDecimal.TEN);
+        UUID transferId = UUID.randomUUID();
+        when(cardService.transferMoneyByTransferRequest(transferRequest, transferId)).thenReturn(transferId);
+
+        transferGroupCommitExecutor.start();
+
+        assertEquals(transferId, transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest, transferId));
+        verify(cardService, never()).applyTransfers(anyMap());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldCoalesceConcurrentCallersIntoOneCommit() throws Exception {
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "windowMicros", 200_000L);
+        AtomicInteger commits = new AtomicInteger();
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> {
+            commits.incrementAndGet();
+            return applyResults(invocation.getArgument(0));
+        });
+        transferGroupCommitExecutor.start();
+
+        List<UUID> transferIds = new ArrayList<>();
+        List<UUID> results = runConcurrently(CALLERS, CALLERS, index -> {
+            UUID transferId = UUID.randomUUID();
+            synchronized (transferIds) {
+                transferIds.add(transferId);
+            }
+            return transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest(BigDecimal.TEN), transferId);
+        });
+
+        assertEquals(CALLERS, results.size());
+        assertTrue(results.containsAll(transferIds));
+        assertTrue(commits.get() < CALLERS);
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldReplayRejectedItemIndividually() {
+        TransferRequest transferRequest = transferRequest(REJECTED_AMOUNT);
+        UUID transferId = UUID.randomUUID();
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> applyResults(invocation.getArgument(0)));
+        when(cardService.transferMoneyByTransferRequest(transferRequest, transferId))
+            .thenThrow(new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE));
+        transferGroupCommitExecutor.start();
+
+        BadRequestException exception = assertThrows(BadRequestException.class,
+            () -> transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest, transferId));
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, exception.getMessage());
+    }
+
+    @Test
+    void transferMoneyByTransferRequest_shouldCommitOneByOneWhenGroupFails() {
+        TransferRequest transferRequest = transferRequest(BigDecimal.TEN);
+        UUID transferId = UUID.randomUUID();
+        when(cardService.applyTransfers(anyMap())).thenThrow(new IllegalStateException("Deadlock detected"));
+        when(cardService.transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class))).thenReturn(transferId);
+        transferGroupCommitExecutor.start();
+
+        assertEquals(transferId, transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest, transferId));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 250, 1_000, 2_000})
+    void transferMoneyByTransferRequest_benchmarkCommitsPerSecondByWindow(long windowMicros) throws Exception {
+        ReflectionTestUtils.setField(transferGroupCommitExecutor, "windowMicros", windowMicros);
+        AtomicInteger commits = new AtomicInteger();
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> {
+            commits.incrementAndGet();
+            TimeUnit.MICROSECONDS.sleep(COMMIT_COST_MICROS);
+            return applyResults(invocation.getArgument(0));
+        });
+        transferGroupCommitExecutor.start();
+
+        long startedAt = System.nanoTime();
+        List<UUID> results = runConcurrently(BENCHMARK_THREADS, BENCHMARK_TRANSFERS,
+            index -> transferGroupCommitExecutor.transferMoneyByTransferRequest(transferRequest(BigDecimal.TEN)));
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        log.info("Group commit run. Window: {} us, transfers: {}, commits: {}, commits/s: {}, transfers/s: {}, "
+                + "avg group size: {}",
+            windowMicros, results.size(), commits.get(), Math.round(commits.get() / elapsedSeconds),
+            Math.round(results.size() / elapsedSeconds), results.size() / commits.get());
+
+        assertEquals(BENCHMARK_TRANSFERS, results.size());
+        assertTrue(commits.get() <= BENCHMARK_TRANSFERS);
+    }
+
+    private TransferRequest transferRequest(BigDecimal amount) {
+        return new TransferRequest(
+            UnitTestDataProvider.card(user).getId().toString(),
+            UnitTestDataProvider.card(user).getId().toString(),
+            amount,
+            null
+        );
+    }
+
+    private List<TransferItemResponse> applyResults(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        List<TransferItemResponse> results = new ArrayList<>();
+        int index = 0;
+
+        for (Map.Entry<UUID, TransferRequest> transfer : transferRequestsByTransferId.entrySet()) {
+            results.add(transfer.getValue().amount().compareTo(REJECTED_AMOUNT) == 0
+                ? new TransferItemResponse(index, null, TransferItemStatus.REJECTED,
+                    ErrorMessagesConstant.INSUFFICIENT_BALANCE)
+                : new TransferItemResponse(index, transfer.getKey(), TransferItemStatus.COMPLETED, null));
+            index++;
+        }
+
+        return results;
+    }
+
+    private List<UUID> runConcurrently(int threads, int transfers, TransferCall transferCall) throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<UUID>> futures = new ArrayList<>(transfers);
+            for (int i = 0; i < transfers; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    return transferCall.transfer(index);
+                }));
+            }
+
+            startSignal.countDown();
+            List<UUID> results = new ArrayList<>(transfers);
+            for (Future<UUID> future : futures) {
+                results.add(future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface TransferCall {
+        UUID transfer(int index);
+    }
+
+}
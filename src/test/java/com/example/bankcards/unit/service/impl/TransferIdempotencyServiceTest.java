@@ -0,0 +1,279 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.constant.UnitTestDataProvider;
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.entity.IdempotencyRecord;
+import com.example.bankcards.entity.IdempotencyStatus;
+import com.example.bankcards.entity.User;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.exception.error.TransferLimitExceededException;
+import com.example.bankcards.repository.IdempotencyRecordRepository;
+import com.example.bankcards.service.LedgerService;
+import com.example.bankcards.service.impl.TransferGroupCommitExecutor;
+import com.example.bankcards.service.impl.TransferIdempotencyService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferIdempotencyServiceTest {
+
+    private static final String IDEMPOTENCY_KEY = "idempotency-key";
+
+    @Mock
+    private TransferGroupCommitExecutor transferGroupCommitExecutor;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private TransferIdempotencyService transferIdempotencyService;
+
+    private UUID userId;
+    private TransferRequest transferRequest;
+
+    @BeforeEach
+    void setUp() {
+        transferIdempotencyService = new TransferIdempotencyService(
+            transferGroupCommitExecutor, ledgerService, idempotencyRecordRepository, Caffeine.newBuilder().maximumSize(100).build()
+        );
+        ReflectionTestUtils.setField(transferIdempotencyService, "waitTimeoutMs", 5_000L);
+        ReflectionTestUtils.setField(transferIdempotencyService, "inProgressTimeoutMs", 30_000L);
+
+        userId = UUID.randomUUID();
+        User user = UnitTestDataProvider.user();
+        transferRequest = UnitTestDataProvider.transferRequest(
+            UnitTestDataProvider.card(user), UnitTestDataProvider.card(user)
+        );
+    }
+
+    @Test
+    void transferMoney_shouldExecuteOnceAndReplayFromCache() {
+        AtomicReference<IdempotencyRecord> storedRecord = new AtomicReference<>();
+        stubClaim(storedRecord);
+
+        UUID firstTransferId = transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest);
+        UUID secondTransferId = transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest);
+
+        assertEquals(firstTransferId, secondTransferId);
+        verify(transferGroupCommitExecutor).transferMoneyByTransferRequest(transferRequest, firstTransferId);
+        verify(idempotencyRecordRepository).insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), eq(IdempotencyStatus.IN_PROGRESS.getCode()), any(LocalDateTime.class));
+        verify(idempotencyRecordRepository).markCompleted(eq(userId), eq(IDEMPOTENCY_KEY), eq(firstTransferId),
+            any(LocalDateTime.class), eq(IdempotencyStatus.COMPLETED));
+    }
+
+    @Test
+    void transferMoney_shouldThrowConflictWhenKeyReusedWithDifferentRequest() {
+        AtomicReference<IdempotencyRecord> storedRecord = new AtomicReference<>();
+        stubClaim(storedRecord);
+        transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest);
+
+        TransferRequest differentRequest = new TransferRequest(
+            transferRequest.sourceCardId(), transferRequest.targetCardId(), BigDecimal.ONE, null
+        );
+
+        ConflictException exception = assertThrows(ConflictException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, differentRequest));
+
+        assertEquals(ErrorMessagesConstant.IDEMPOTENCY_KEY_REUSED, exception.getMessage());
+        verify(transferGroupCommitExecutor, times(1)).transferMoneyByTransferRequest(any(TransferRequest.class), any(UUID.class));
+    }
+
+    @Test
+    void transferMoney_shouldReturnStoredResultWithoutTransfer() {
+        UUID transferId = UUID.randomUUID();
+        IdempotencyRecord completedRecord = completedRecord(transferId, requestHashOf(transferRequest));
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class))).thenReturn(0);
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, IDEMPOTENCY_KEY))
+            .thenReturn(Optional.of(completedRecord));
+
+        UUID result = transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest);
+
+        assertEquals(transferId, result);
+        verifyNoInteractions(transferGroupCommitExecutor);
+    }
+
+    @Test
+    void transferMoney_shouldThrowConflictWhenRequestInProgressElsewhere() {
+        IdempotencyRecord inProgressRecord = completedRecord(UUID.randomUUID(), requestHashOf(transferRequest));
+        inProgressRecord.setStatus(IdempotencyStatus.IN_PROGRESS);
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class))).thenReturn(0);
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, IDEMPOTENCY_KEY))
+            .thenReturn(Optional.of(inProgressRecord));
+        when(ledgerService.isTransferRecorded(inProgressRecord.getTransferId())).thenReturn(false);
+
+        ConflictException exception = assertThrows(ConflictException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+
+        assertEquals(ErrorMessagesConstant.IDEMPOTENT_REQUEST_IN_PROGRESS, exception.getMessage());
+        verifyNoInteractions(transferGroupCommitExecutor);
+    }
+
+    @Test
+    void transferMoney_shouldRecordFailureWhenTransferIsRejected() {
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class))).thenReturn(1);
+        when(transferGroupCommitExecutor.transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class)))
+            .thenThrow(new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE));
+
+        assertThrows(BadRequestException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+
+        verify(idempotencyRecordRepository).markFailed(eq(userId), eq(IDEMPOTENCY_KEY), any(UUID.class),
+            eq(HttpStatus.BAD_REQUEST.value()), eq(ErrorMessagesConstant.INSUFFICIENT_BALANCE),
+            any(LocalDateTime.class), eq(IdempotencyStatus.FAILED), eq(IdempotencyStatus.IN_PROGRESS));
+        verify(idempotencyRecordRepository, never()).deleteInProgress(any(UUID.class), anyString(), any(UUID.class),
+            any(IdempotencyStatus.class));
+        verify(idempotencyRecordRepository, never()).markCompleted(any(UUID.class), anyString(), any(UUID.class),
+            any(LocalDateTime.class), any(IdempotencyStatus.class));
+    }
+
+    @Test
+    void transferMoney_shouldReleaseKeyWhenTransferFailsTransiently() {
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class))).thenReturn(1);
+        when(transferGroupCommitExecutor.transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class)))
+            .thenThrow(new ConflictException(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION));
+
+        assertThrows(ConflictException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+
+        verify(idempotencyRecordRepository).deleteInProgress(eq(userId), eq(IDEMPOTENCY_KEY), any(UUID.class),
+            eq(IdempotencyStatus.IN_PROGRESS));
+        verify(idempotencyRecordRepository, never()).markFailed(any(UUID.class), anyString(), any(UUID.class),
+            anyInt(), anyString(), any(LocalDateTime.class), any(IdempotencyStatus.class),
+            any(IdempotencyStatus.class));
+    }
+
+    @Test
+    void transferMoney_shouldRunTransferAgainWhenRetriedAfterLimitRejection() {
+        AtomicReference<IdempotencyRecord> storedRecord = new AtomicReference<>();
+        stubClaim(storedRecord);
+        when(transferGroupCommitExecutor.transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class)))
+            .thenThrow(new TransferLimitExceededException(ErrorMessagesConstant.TRANSFER_RATE_LIMIT_EXCEEDED))
+            .thenAnswer(invocation -> invocation.getArgument(1));
+
+        assertThrows(TransferLimitExceededException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+        UUID transferId = transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest);
+
+        assertEquals(storedRecord.get().getTransferId(), transferId);
+        verify(transferGroupCommitExecutor, times(2)).transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class));
+        verify(idempotencyRecordRepository).deleteInProgress(eq(userId), eq(IDEMPOTENCY_KEY), any(UUID.class),
+            eq(IdempotencyStatus.IN_PROGRESS));
+        verify(idempotencyRecordRepository, never()).markFailed(any(UUID.class), anyString(), any(UUID.class),
+            anyInt(), anyString(), any(LocalDateTime.class), any(IdempotencyStatus.class),
+            any(IdempotencyStatus.class));
+    }
+
+    @Test
+    void transferMoney_shouldReplayRecordedFailureWithoutTransfer() {
+        IdempotencyRecord failedRecord = completedRecord(UUID.randomUUID(), requestHashOf(transferRequest));
+        failedRecord.setStatus(IdempotencyStatus.FAILED);
+        failedRecord.setErrorStatus(HttpStatus.BAD_REQUEST.value());
+        failedRecord.setErrorMessage(ErrorMessagesConstant.INSUFFICIENT_BALANCE);
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class))).thenReturn(0);
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, IDEMPOTENCY_KEY))
+            .thenReturn(Optional.of(failedRecord));
+
+        BadRequestException firstReplay = assertThrows(BadRequestException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+        assertThrows(BadRequestException.class,
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, firstReplay.getMessage());
+        verify(idempotencyRecordRepository, times(1)).findByUserIdAndIdempotencyKey(userId, IDEMPOTENCY_KEY);
+        verifyNoInteractions(transferGroupCommitExecutor);
+    }
+
+    @Test
+    void transferMoney_shouldMakeConcurrentDuplicatesWaitForInFlightExecution() throws Exception {
+        AtomicReference<IdempotencyRecord> storedRecord = new AtomicReference<>();
+        CountDownLatch transferStarted = new CountDownLatch(1);
+        CountDownLatch releaseTransfer = new CountDownLatch(1);
+        stubClaim(storedRecord);
+        when(transferGroupCommitExecutor.transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class)))
+            .thenAnswer(invocation -> {
+                transferStarted.countDown();
+                releaseTransfer.await(5, TimeUnit.SECONDS);
+                return invocation.getArgument(1);
+            });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<UUID> original = executor.submit(
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+        transferStarted.await(5, TimeUnit.SECONDS);
+        Future<UUID> duplicate = executor.submit(
+            () -> transferIdempotencyService.transferMoney(userId, IDEMPOTENCY_KEY, transferRequest));
+        releaseTransfer.countDown();
+
+        assertEquals(original.get(5, TimeUnit.SECONDS), duplicate.get(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        verify(transferGroupCommitExecutor, times(1)).transferMoneyByTransferRequest(eq(transferRequest), any(UUID.class));
+    }
+
+    private void stubClaim(AtomicReference<IdempotencyRecord> storedRecord) {
+        when(idempotencyRecordRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(IDEMPOTENCY_KEY),
+            anyString(), any(UUID.class), anyInt(), any(LocalDateTime.class)))
+            .thenAnswer(invocation -> {
+                storedRecord.set(completedRecord(invocation.getArgument(4), invocation.getArgument(3)));
+                return 1;
+            });
+        when(idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, IDEMPOTENCY_KEY))
+            .thenAnswer(invocation -> Optional.of(storedRecord.get()));
+    }
+
+    private IdempotencyRecord completedRecord(UUID transferId, String requestHash) {
+        return IdempotencyRecord.builder()
+            .id(UUID.randomUUID())
+            .userId(userId)
+            .idempotencyKey(IDEMPOTENCY_KEY)
+            .requestHash(requestHash)
+            .transferId(transferId)
+            .status(IdempotencyStatus.COMPLETED)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private String requestHashOf(TransferRequest request) {
+        return ReflectionTestUtils.invokeMethod(transferIdempotencyService, "getRequestHash", request);
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.entity.CardLimitUsage;
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.TransferLimitExceededException;
+import com.example.bankcards.repository.CardLimitUsageRepository;
+import com.example.bankcards.service.impl.TransferLimitService;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferLimitServiceTest {
+
+    @Mock
+    private CardLimitUsageRepository cardLimitUsageRepository;
+
+    private TransferLimitService transferLimitService;
+    private UUID cardId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        transferLimitService = new TransferLimitService(
+            cardLimitUsageRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            new SimpleMeterRegistry()
+        );
+        ReflectionTestUtils.setField(transferLimitService, "enabled", true);
+        ReflectionTestUtils.setField(transferLimitService, "maxAmountPerTransfer", new BigDecimal("1000.00"));
+        ReflectionTestUtils.setField(transferLimitService, "cardDailyAmount", new BigDecimal("2500.00"));
+        ReflectionTestUtils.setField(transferLimitService, "cardTransfersPerMinuteLimit", 5L);
+        ReflectionTestUtils.setField(transferLimitService, "userDailyAmount", new BigDecimal("4000.00"));
+
+        cardId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void reserve_shouldRejectAmountAbovePerTransferLimit() {
+        BadRequestException exception = assertThrows(BadRequestException.class,
+            () -> transferLimitService.reserve(cardId, userId, new BigDecimal("1000.01")));
+
+        assertEquals(ErrorMessagesConstant.TRANSFER_AMOUNT_LIMIT_EXCEEDED, exception.getMessage());
+    }
+
+    @Test
+    void reserve_shouldRejectBurstAboveTransfersPerMinute() {
+        for (int i = 0; i < 5; i++) {
+            transferLimitService.reserve(cardId, userId, BigDecimal.ONE);
+        }
+
+        TransferLimitExceededException exception = assertThrows(TransferLimitExceededException.class,
+            () -> transferLimitService.reserve(cardId, userId, BigDecimal.ONE));
+
+        assertEquals(ErrorMessagesConstant.TRANSFER_RATE_LIMIT_EXCEEDED, exception.getMessage());
+    }
+
+    @Test
+    void reserve_shouldNotCountRejectedOrReleasedTransfersAgainstRate() {
+        transferLimitService.reserve(cardId, userId, new BigDecimal("1000.00"));
+        TransferLimitService.Reservation reservation = transferLimitService.reserve(cardId, userId,
+            new BigDecimal("1000.00"));
+        for (int i = 0; i < 3; i++) {
+            assertThrows(TransferLimitExceededException.class,
+                () -> transferLimitService.reserve(cardId, userId, new BigDecimal("600.00")));
+        }
+        reservation.release();
+
+        for (int i = 0; i < 4; i++) {
+            assertDoesNotThrow(() -> transferLimitService.reserve(cardId, userId, BigDecimal.ONE));
+        }
+        TransferLimitExceededException exception = assertThrows(TransferLimitExceededException.class,
+            () -> transferLimitService.reserve(cardId, userId, BigDecimal.ONE));
+
+        assertEquals(ErrorMessagesConstant.TRANSFER_RATE_LIMIT_EXCEEDED, exception.getMessage());
+    }
+
+    @Test
+    void reserve_shouldRejectCardDailyLimitAndAllowAfterRelease() {
+        transferLimitService.reserve(cardId, userId, new BigDecimal("1000.00"));
+        TransferLimitService.Reservation reservation = transferLimitService.reserve(cardId, userId,
+            new BigDecimal("1000.00"));
+
+        TransferLimitExceededException exception = assertThrows(TransferLimitExceededException.class,
+            () -> transferLimitService.reserve(cardId, userId, new BigDecimal("600.00")));
+        assertEquals(ErrorMessagesConstant.CARD_DAILY_LIMIT_EXCEEDED, exception.getMessage());
+
+        reservation.release();
+        reservation.release();
+
+        assertDoesNotThrow(() -> transferLimitService.reserve(cardId, userId, new BigDecimal("600.00")));
+    }
+
+    @Test
+    void reserve_shouldRejectUserDailyLimitAcrossCards() {
+        ReflectionTestUtils.setField(transferLimitService, "userDailyAmount", new BigDecimal("3500.00"));
+        UUID otherCardId = UUID.randomUUID();
+        transferLimitService.reserve(cardId, userId, new BigDecimal("1000.00"));
+        transferLimitService.reserve(cardId, userId, new BigDecimal("1000.00"));
+        transferLimitService.reserve(otherCardId, userId, new BigDecimal("1000.00"));
+
+        TransferLimitExceededException exception = assertThrows(TransferLimitExceededException.class,
+            () -> transferLimitService.reserve(otherCardId, userId, new BigDecimal("1000.00")));
+
+        assertEquals(ErrorMessagesConstant.USER_DAILY_LIMIT_EXCEEDED, exception.getMessage());
+        assertDoesNotThrow(() -> transferLimitService.reserve(otherCardId, null, new BigDecimal("1000.00")));
+    }
+
+    @Test
+    void flushUsage_shouldWriteReservedAmountsOnce() {
+        transferLimitService.reserve(cardId, userId, new BigDecimal("10.50"));
+        transferLimitService.reserve(cardId, userId, new BigDecimal("4.50"));
+        transferLimitService.reserve(cardId, userId, new BigDecimal("5.00")).release();
+
+        transferLimitService.flushUsage();
+        transferLimitService.flushUsage();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardLimitUsage>> usagesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cardLimitUsageRepository).addAllInBatch(usagesCaptor.capture());
+        List<CardLimitUsage> usages = usagesCaptor.getValue();
+
+        assertEquals(1, usages.size());
+        assertEquals(cardId, usages.get(0).getCardId());
+        assertEquals(userId, usages.get(0).getUserId());
+        assertEquals(new BigDecimal("15.00"), usages.get(0).getAmount());
+        verify(cardLimitUsageRepository).deleteAllByWindowStartBefore(any(LocalDateTime.class));
+    }
+
+    @Test
+    void flushUsage_shouldPersistReleaseAfterFlushAsCompensation() {
+        TransferLimitService.Reservation reservation = transferLimitService.reserve(cardId, userId,
+            new BigDecimal("10.00"));
+        transferLimitService.flushUsage();
+
+        reservation.release();
+        transferLimitService.flushUsage();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardLimitUsage>> usagesCaptor = ArgumentCaptor.forClass(List.class);
+        verify(cardLimitUsageRepository, times(2)).addAllInBatch(usagesCaptor.capture());
+        List<List<CardLimitUsage>> flushedUsages = usagesCaptor.getAllValues();
+
+        assertEquals(new BigDecimal("10.00"), flushedUsages.get(0).get(0).getAmount());
+        assertEquals(new BigDecimal("-10.00"), flushedUsages.get(1).get(0).getAmount());
+        assertEquals(userId, flushedUsages.get(1).get(0).getUserId());
+    }
+
+    @Test
+    void loadUsage_shouldRebuildDailyCountersFromStoredWindows() {
+        when(cardLimitUsageRepository.findAllByWindowStartGreaterThanEqual(any(LocalDateTime.class)))
+            .thenReturn(List.of(CardLimitUsage.builder()
+                .cardId(cardId)
+                .userId(userId)
+                .windowStart(LocalDateTime.now().truncatedTo(ChronoUnit.HOURS))
+                .amount(new BigDecimal("2000.00"))
+                .build()));
+
+        transferLimitService.loadUsage();
+
+        TransferLimitExceededException exception = assertThrows(TransferLimitExceededException.class,
+            () -> transferLimitService.reserve(cardId, userId, new BigDecimal("600.00")));
+        assertEquals(ErrorMessagesConstant.CARD_DAILY_LIMIT_EXCEEDED, exception.getMessage());
+        assertDoesNotThrow(() -> transferLimitService.reserve(cardId, userId, new BigDecimal("500.00")));
+    }
+
+    @Test
+    void reserve_shouldSkipChecksWhenDisabled() {
+        ReflectionTestUtils.setField(transferLimitService, "enabled", false);
+
+        transferLimitService.reserve(cardId, userId, new BigDecimal("5000.00"));
+        transferLimitService.flushUsage();
+
+        verify(cardLimitUsageRepository, never()).addAllInBatch(anyList());
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.example.bankcards.unit.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.dto.request.TransferRequest;
+import com.example.bankcards.dto.response.TransferItemResponse;
+import com.example.bankcards.entity.TransferFrequency;
+import com.example.bankcards.entity.TransferSchedule;
+import com.example.bankcards.repository.TransferScheduleRepository;
+import com.example.bankcards.service.CardService;
+import com.example.bankcards.service.impl.TransferScheduleEngine;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import com.example.bankcards.utility.constant.TransferItemStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class TransferScheduleEngineTest {
+
+    private static final BigDecimal REJECTED_AMOUNT = new BigDecimal("999.00");
+
+    @Mock
+    private TransferScheduleRepository transferScheduleRepository;
+
+    @Mock
+    private CardService cardService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TransferScheduleEngine transferScheduleEngine;
+    private final List<TransferSchedule> transferSchedules = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        transferScheduleEngine = new TransferScheduleEngine(
+            transferScheduleRepository,
+            cardService,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            meterRegistry
+        );
+        ReflectionTestUtils.setField(transferScheduleEngine, "tickMs", 1_000L);
+        ReflectionTestUtils.setField(transferScheduleEngine, "horizonMs", 300_000L);
+        ReflectionTestUtils.setField(transferScheduleEngine, "leaseTimeoutMs", 120_000L);
+        ReflectionTestUtils.setField(transferScheduleEngine, "claimLimit", 1_000);
+        ReflectionTestUtils.setField(transferScheduleEngine, "batchSize", 2);
+        ReflectionTestUtils.setField(transferScheduleEngine, "executorThreads", 2);
+
+        lenient().when(transferScheduleRepository.findClaimableForUpdateSkipLocked(any(LocalDateTime.class),
+            any(LocalDateTime.class), anyInt())).thenAnswer(invocation -> List.copyOf(transferSchedules));
+        lenient().when(transferScheduleRepository.findAllByIdInAndLeaseOwnerForUpdate(anyCollection(), anyString()))
+            .thenAnswer(invocation -> {
+                Collection<UUID> scheduleIds = invocation.getArgument(0);
+                String leaseOwner = invocation.getArgument(1);
+                return transferSchedules.stream()
+                    .filter(transferSchedule -> scheduleIds.contains(transferSchedule.getId()))
+                    .filter(transferSchedule -> Objects.equals(leaseOwner, transferSchedule.getLeaseOwner()))
+                    .toList();
+            });
+    }
+
+    @Test
+    void tick_shouldRunDueSchedulesAndAdvanceNextRun() {
+        LocalDateTime startAt = LocalDateTime.now().minusMinutes(1);
+        TransferSchedule completedSchedule = transferSchedule(TransferFrequency.DAILY, startAt, BigDecimal.TEN);
+        TransferSchedule rejectedSchedule = transferSchedule(TransferFrequency.WEEKLY, startAt, REJECTED_AMOUNT);
+        TransferSchedule futureSchedule = transferSchedule(TransferFrequency.DAILY, startAt.plusMinutes(3),
+            BigDecimal.TEN);
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> applyResults(invocation.getArgument(0)));
+
+        transferScheduleEngine.start();
+        transferScheduleEngine.tick();
+        transferScheduleEngine.stop();
+
+        assertEquals(1L, completedSchedule.getRunCount());
+        assertEquals(startAt.plusDays(1), completedSchedule.getNextRunAt());
+        assertTrue(completedSchedule.getLastTransferId() != null);
+        assertNull(completedSchedule.getLeaseOwner());
+
+        assertEquals(1L, rejectedSchedule.getRunCount());
+        assertEquals(startAt.plusWeeks(1), rejectedSchedule.getNextRunAt());
+        assertNull(rejectedSchedule.getLastTransferId());
+        assertEquals(ErrorMessagesConstant.INSUFFICIENT_BALANCE, rejectedSchedule.getLastErrorDescription());
+
+        assertEquals(0L, futureSchedule.getRunCount());
+        assertTrue(futureSchedule.getLeaseOwner() != null);
+        assertEquals(startAt.plusMinutes(3).plusMinutes(2), futureSchedule.getLeaseUntil());
+    }
+
+    @Test
+    void tick_shouldSkipSchedulesCancelledAfterClaim() {
+        TransferSchedule transferSchedule = transferSchedule(TransferFrequency.MONTHLY,
+            LocalDateTime.now().minusSeconds(5), BigDecimal.TEN);
+
+        transferScheduleEngine.start();
+        transferSchedule.cancel();
+        transferScheduleEngine.tick();
+        transferScheduleEngine.stop();
+
+        verify(cardService, never()).applyTransfers(anyMap());
+        assertFalse(transferSchedule.getActive());
+        assertEquals(0L, transferSchedule.getRunCount());
+    }
+
+    @Test
+    void tick_shouldDeferRunsToNextTickWhenWorkersAreBusy() {
+        ReflectionTestUtils.setField(transferScheduleEngine, "batchSize", 1);
+        ReflectionTestUtils.setField(transferScheduleEngine, "executorThreads", 1);
+        ReflectionTestUtils.setField(transferScheduleEngine, "configuredNodeId", "node-a");
+        LocalDateTime startAt = LocalDateTime.now().minusMinutes(1);
+        List<TransferSchedule> dueSchedules = List.of(
+            transferSchedule(TransferFrequency.DAILY, startAt, BigDecimal.TEN),
+            transferSchedule(TransferFrequency.DAILY, startAt, BigDecimal.TEN),
+            transferSchedule(TransferFrequency.DAILY, startAt, BigDecimal.TEN)
+        );
+        CountDownLatch workersReleased = new CountDownLatch(1);
+        when(cardService.applyTransfers(anyMap())).thenAnswer(invocation -> {
+            workersReleased.await();
+            return applyResults(invocation.getArgument(0));
+        });
+
+        transferScheduleEngine.start();
+        transferScheduleEngine.tick();
+        workersReleased.countDown();
+        transferScheduleEngine.stop();
+
+        assertEquals(1.0, meterRegistry.counter("transfer.schedule.deferred").count());
+        assertEquals(1.0, meterRegistry.get("transfer.schedule.wheel.size").gauge().value());
+        assertEquals(2L, dueSchedules.stream().mapToLong(TransferSchedule::getRunCount).sum());
+        assertEquals(List.of("node-a"), dueSchedules.stream()
+            .map(TransferSchedule::getLeaseOwner)
+            .filter(Objects::nonNull)
+            .toList());
+    }
+
+    @Test
+    void recordRun_shouldSkipMissedRunsAndClampMonthEnd() {
+        LocalDateTime startAt = LocalDateTime.of(2025, 1, 31, 9, 0);
+        TransferSchedule transferSchedule = TransferSchedule.builder()
+            .frequency(TransferFrequency.MONTHLY)
+            .startAt(startAt)
+            .nextRunAt(startAt)
+            .build();
+
+        transferSchedule.recordRun(LocalDateTime.of(2025, 2, 10, 0, 0), UUID.randomUUID(), null);
+        assertEquals(LocalDateTime.of(2025, 2, 28, 9, 0), transferSchedule.getNextRunAt());
+
+        transferSchedule.recordRun(LocalDateTime.of(2025, 5, 1, 0, 0), UUID.randomUUID(), null);
+        assertEquals(LocalDateTime.of(2025, 5, 31, 9, 0), transferSchedule.getNextRunAt());
+        assertEquals(4L, transferSchedule.getRunCount());
+    }
+
+    private TransferSchedule transferSchedule(TransferFrequency frequency, LocalDateTime startAt, BigDecimal amount) {
+        TransferSchedule transferSchedule = TransferSchedule.builder()
+            .id(UUID.randomUUID())
+            .userId(UUID.randomUUID())
+            .sourceCardId(UUID.randomUUID())
+            .targetCardId(UUID.randomUUID())
+            .amount(amount)
+            .frequency(frequency)
+            .startAt(startAt)
+            .nextRunAt(startAt)
+            .build();
+        transferSchedules.add(transferSchedule);
+        return transferSchedule;
+    }
+
+    private List<TransferItemResponse> applyResults(Map<UUID, TransferRequest> transferRequestsByTransferId) {
+        List<TransferItemResponse> results = new ArrayList<>();
+        int index = 0;
+
+        for (Map.Entry<UUID, TransferRequest> transfer : transferRequestsByTransferId.entrySet()) {
+            results.add(transfer.getValue().amount().compareTo(REJECTED_AMOUNT) == 0
+                ? new TransferItemResponse(index, null, TransferItemStatus.REJECTED,
+                    ErrorMessagesConstant.INSUFFICIENT_BALANCE)
+                : new TransferItemResponse(index, transfer.getKey(), TransferItemStatus.COMPLETED, null));
+            index++;
+        }
+
+        return results;
+    }
+
+}
@@ -10,8 +10,11 @@ import static org.mockito.Mockito.when;
 import com.example.bankcards.constant.UnitTestDataProvider;
 import com.example.bankcards.dto.request.TransferRequest;
 import com.example.bankcards.entity.Card;
+import com.example.bankcards.entity.User;
 import com.example.bankcards.repository.CardRepository;
+import com.example.bankcards.service.impl.TransferCardContext;
 import com.example.bankcards.service.impl.TransferSecurityService;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +32,9 @@ public class TransferSecurityServiceTest {
     @Mock
     private CardRepository cardRepository;
 
+    @Mock
+    private TransferCardContext transferCardContext;
+
     @InjectMocks
     private TransferSecurityService transferSecurityService;
 
@@ -36,18 +42,21 @@ public class TransferSecurityServiceTest {
     private UUID userId;
     private UUID sourceCardId;
     private UUID targetCardId;
+    private Card sourceCard;
     private Card targetCard;
+    private User owner;
+    private User otherUser;
 
     @BeforeEach
     void setUp() {
-        userId = UUID.randomUUID();
-        Card sourceCard = UnitTestDataProvider.sourceCard();
+        owner = UnitTestDataProvider.user();
+        otherUser = UnitTestDataProvider.user();
+        userId = owner.getId();
+        sourceCard = UnitTestDataProvider.sourceCard();
         targetCard = UnitTestDataProvider.targetCard();
         sourceCardId = sourceCard.getId();
         targetCardId = targetCard.getId();
         transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
-
-        transferRequest = UnitTestDataProvider.transferRequest(sourceCard, targetCard);
     }
 
     @AfterEach
@@ -60,7 +69,7 @@ public class TransferSecurityServiceTest {
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
     }
 
     @Test
@@ -73,7 +82,7 @@ public class TransferSecurityServiceTest {
         boolean result = transferSecurityService.canTransfer(invalidRequest);
 
         assertFalse(result);
-        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
     }
 
     @Test
@@ -81,7 +90,7 @@ public class TransferSecurityServiceTest {
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
     }
 
     @Test
@@ -92,7 +101,7 @@ public class TransferSecurityServiceTest {
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
     }
 
     @Test
@@ -103,7 +112,7 @@ public class TransferSecurityServiceTest {
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository, never()).existsByIdAndOwnerId(any(), any());
+        verify(cardRepository, never()).findAllByIdInWithOwner(any());
     }
 
     @Test
@@ -111,14 +120,16 @@ public class TransferSecurityServiceTest {
         UsernamePasswordAuthenticationToken authentication = UnitTestDataProvider.authenticatedToken(userId);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        when(cardRepository.existsByIdAndOwnerId(sourceCardId, userId)).thenReturn(true);
-        when(cardRepository.existsByIdAndOwnerId(targetCardId, userId)).thenReturn(true);
+        sourceCard.setOwner(owner);
+        targetCard.setOwner(owner);
+        when(cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId)))
+            .thenReturn(List.of(sourceCard, targetCard));
 
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertTrue(result);
-        verify(cardRepository).existsByIdAndOwnerId(sourceCardId, userId);
-        verify(cardRepository).existsByIdAndOwnerId(targetCardId, userId);
+        verify(cardRepository).findAllByIdInWithOwner(List.of(sourceCardId, targetCardId));
+        verify(transferCardContext).putCards(List.of(sourceCard, targetCard));
     }
 
     @Test
@@ -126,14 +137,16 @@ public class TransferSecurityServiceTest {
         UsernamePasswordAuthenticationToken authentication = UnitTestDataProvider.authenticatedToken(userId);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        when(cardRepository.existsByIdAndOwnerId(sourceCardId, userId)).thenReturn(true);
-        when(cardRepository.existsByIdAndOwnerId(targetCardId, userId)).thenReturn(false);
+        sourceCard.setOwner(owner);
+        targetCard.setOwner(otherUser);
+        when(cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId)))
+            .thenReturn(List.of(sourceCard, targetCard));
 
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository).existsByIdAndOwnerId(sourceCardId, userId);
-        verify(cardRepository).existsByIdAndOwnerId(targetCardId, userId);
+        verify(cardRepository).findAllByIdInWithOwner(List.of(sourceCardId, targetCardId));
+        verify(transferCardContext, never()).putCards(any());
     }
 
     @Test
@@ -141,14 +154,31 @@ public class TransferSecurityServiceTest {
         UsernamePasswordAuthenticationToken authentication = UnitTestDataProvider.authenticatedToken(userId);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        when(cardRepository.existsByIdAndOwnerId(sourceCardId, userId)).thenReturn(false);
-        when(cardRepository.existsByIdAndOwnerId(targetCardId, userId)).thenReturn(true);
+        sourceCard.setOwner(otherUser);
+        targetCard.setOwner(owner);
+        when(cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId)))
+            .thenReturn(List.of(sourceCard, targetCard));
+
+        boolean result = transferSecurityService.canTransfer(transferRequest);
+
+        assertFalse(result);
+        verify(cardRepository).findAllByIdInWithOwner(List.of(sourceCardId, targetCardId));
+        verify(transferCardContext, never()).putCards(any());
+    }
+
+    @Test
+    void canTransfer_shouldReturnFalseWhenCardIsMissing() {
+        UsernamePasswordAuthenticationToken authentication = UnitTestDataProvider.authenticatedToken(userId);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        sourceCard.setOwner(owner);
+        when(cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId)))
+            .thenReturn(List.of(sourceCard));
 
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository).existsByIdAndOwnerId(sourceCardId, userId);
-        verify(cardRepository).existsByIdAndOwnerId(targetCardId, userId);
+        verify(transferCardContext, never()).putCards(any());
     }
 
     @Test
@@ -156,13 +186,15 @@ public class TransferSecurityServiceTest {
         UsernamePasswordAuthenticationToken authentication = UnitTestDataProvider.authenticatedToken(userId);
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        when(cardRepository.existsByIdAndOwnerId(sourceCardId, userId)).thenReturn(false);
-        when(cardRepository.existsByIdAndOwnerId(targetCardId, userId)).thenReturn(false);
+        sourceCard.setOwner(otherUser);
+        targetCard.setOwner(otherUser);
+        when(cardRepository.findAllByIdInWithOwner(List.of(sourceCardId, targetCardId)))
+            .thenReturn(List.of(sourceCard, targetCard));
 
         boolean result = transferSecurityService.canTransfer(transferRequest);
 
         assertFalse(result);
-        verify(cardRepository).existsByIdAndOwnerId(sourceCardId, userId);
-        verify(cardRepository).existsByIdAndOwnerId(targetCardId, userId);
+        verify(cardRepository).findAllByIdInWithOwner(List.of(sourceCardId, targetCardId));
+        verify(transferCardContext, never()).putCards(any());
     }
 }
\ No newline at end of file
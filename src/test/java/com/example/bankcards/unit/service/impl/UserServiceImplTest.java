@@ -18,11 +18,15 @@ import com.example.bankcards.entity.User;
 import com.example.bankcards.exception.error.UserAlreadyExistsByEmailException;
 import com.example.bankcards.exception.error.UserNotFoundById;
 import com.example.bankcards.repository.UserRepository;
+import com.example.bankcards.security.PrincipalCache;
+import com.example.bankcards.security.TokenRevocationRegistry;
+import com.example.bankcards.service.impl.RefreshTokenService;
 import com.example.bankcards.service.impl.UserServiceImpl;
 import com.example.bankcards.utility.constant.ErrorMessagesConstant;
 import com.example.bankcards.utility.mapper.PageResponseMapper;
 import com.example.bankcards.utility.mapper.UserMapper;
 import com.example.bankcards.utility.validator.UserValidator;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -55,6 +59,15 @@ public class UserServiceImplTest {
     @Mock
     private UserValidator userValidator;
 
+    @Mock
+    private PrincipalCache principalCache;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -168,8 +181,10 @@ public class UserServiceImplTest {
     void updateUserDetails_shouldUpdateUserSuccessfully() {
         UserRequest updateRequest = UnitTestDataProvider.updateUserRequest();
         UserResponse updatedResponse = UnitTestDataProvider.updatedUserResponse(user);
+        LocalDateTime tokensValidAfter = LocalDateTime.now();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(tokenRevocationRegistry.newWatermark()).thenReturn(tokensValidAfter);
         when(userRepository.existsByEmail(updateRequest.email())).thenReturn(false);
         when(passwordEncoder.encode(updateRequest.password())).thenReturn(
             UnitTestDataProvider.TEST_NEW_HASHED_PASSWORD);
@@ -186,7 +201,11 @@ public class UserServiceImplTest {
         verify(userRepository).existsByEmail(updateRequest.email());
         verify(passwordEncoder).encode(updateRequest.password());
         verify(userRepository).save(user);
+        verify(principalCache).evict(userId);
         verify(userMapper).toResponse(user);
+        assertEquals(tokensValidAfter, user.getTokensValidAfter());
+        verify(tokenRevocationRegistry).revoke(userId, tokensValidAfter);
+        verify(refreshTokenService).revokeAll(userId);
     }
 
     @Test
@@ -232,7 +251,7 @@ public class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userValidator).validateUserForUpdate(user);
         verify(userRepository).existsByEmail(updateRequest.email());
-        verifyNoInteractions(passwordEncoder);
+        verifyNoInteractions(passwordEncoder, tokenRevocationRegistry, refreshTokenService);
         verify(userRepository).save(user);
         verify(userMapper).toResponse(user);
     }
@@ -270,20 +289,51 @@ public class UserServiceImplTest {
         verify(userRepository).findById(inactiveUser.getId());
         verify(userValidator).validateUserForActivation(inactiveUser);
         verify(userRepository).save(inactiveUser);
+        verify(principalCache).invalidate(inactiveUser.getId());
     }
 
     @Test
     void deactivateUser_shouldDeactivateUserSuccessfully() {
+        LocalDateTime tokensValidAfter = LocalDateTime.now();
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
+        when(tokenRevocationRegistry.newWatermark()).thenReturn(tokensValidAfter);
 
         userService.deactivateUser(userId);
 
         assertEquals(false, user.isActive());
+        assertEquals(tokensValidAfter, user.getTokensValidAfter());
 
         verify(userRepository).findById(userId);
         verify(userValidator).validateUserForDeactivation(user);
         verify(userRepository).save(user);
+        verify(principalCache).invalidate(userId);
+        verify(tokenRevocationRegistry).revoke(userId, tokensValidAfter);
+        verify(refreshTokenService).revokeAll(userId);
+    }
+
+    @Test
+    void logoutAll_shouldRevokeUserTokens() {
+        LocalDateTime tokensValidAfter = LocalDateTime.now();
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(tokenRevocationRegistry.newWatermark()).thenReturn(tokensValidAfter);
+
+        userService.logoutAll(userId);
+
+        assertEquals(tokensValidAfter, user.getTokensValidAfter());
+        verify(userRepository).save(user);
+        verify(tokenRevocationRegistry).revoke(userId, tokensValidAfter);
+        verify(refreshTokenService).revokeAll(userId);
+    }
+
+    @Test
+    void logoutAll_shouldThrowUserNotFoundException() {
+        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFoundById.class, () -> userService.logoutAll(userId));
+
+        verify(userRepository, never()).save(any());
+        verifyNoInteractions(tokenRevocationRegistry, refreshTokenService);
     }
 
     @Test
@@ -295,6 +345,8 @@ public class UserServiceImplTest {
         verify(userRepository).findById(userId);
         verify(userValidator).validateUserForDelete(user);
         verify(userRepository).delete(user);
+        verify(principalCache).invalidate(userId);
+        verify(tokenRevocationRegistry).revokeDeletedUser(userId);
     }
 
     @Test
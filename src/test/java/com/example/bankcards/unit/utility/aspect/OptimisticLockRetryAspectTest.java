@@ -0,0 +1,105 @@
+package com.example.bankcards.unit.utility.aspect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.bankcards.exception.error.BadRequestException;
+import com.example.bankcards.exception.error.ConflictException;
+import com.example.bankcards.utility.aspect.OptimisticLockRetryAspect;
+import com.example.bankcards.utility.constant.CardConcurrencyMode;
+import com.example.bankcards.utility.constant.ErrorMessagesConstant;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class OptimisticLockRetryAspectTest {
+
+    private static final String OPERATION = "transferMoneyByTransferRequest";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    private MeterRegistry meterRegistry;
+    private OptimisticLockRetryAspect optimisticLockRetryAspect;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        optimisticLockRetryAspect = new OptimisticLockRetryAspect(meterRegistry);
+
+        ReflectionTestUtils.setField(optimisticLockRetryAspect, "cardConcurrencyMode", CardConcurrencyMode.OPTIMISTIC);
+        ReflectionTestUtils.setField(optimisticLockRetryAspect, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(optimisticLockRetryAspect, "initialBackoffMs", 1L);
+        ReflectionTestUtils.setField(optimisticLockRetryAspect, "maxBackoffMs", 2L);
+
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn(OPERATION);
+    }
+
+    @Test
+    void retryOnOptimisticLock_shouldRetryUntilSuccess() throws Throwable {
+        when(joinPoint.proceed())
+            .thenThrow(new ObjectOptimisticLockingFailureException("Card", null))
+            .thenReturn("result");
+
+        Object result = optimisticLockRetryAspect.retryOnOptimisticLock(joinPoint);
+
+        assertEquals("result", result);
+        assertEquals(1.0, counter("card.concurrency.conflicts"));
+        assertEquals(1.0, counter("card.concurrency.retries"));
+        assertEquals(0.0, counter("card.concurrency.exhausted"));
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void retryOnOptimisticLock_shouldThrowConflictExceptionWhenRetriesExhausted() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("Card", null));
+
+        ConflictException exception = assertThrows(
+            ConflictException.class,
+            () -> optimisticLockRetryAspect.retryOnOptimisticLock(joinPoint)
+        );
+
+        assertEquals(ErrorMessagesConstant.CARD_CONCURRENT_MODIFICATION, exception.getMessage());
+        assertEquals(MAX_ATTEMPTS, counter("card.concurrency.conflicts"));
+        assertEquals(MAX_ATTEMPTS - 1, counter("card.concurrency.retries"));
+        assertEquals(1.0, counter("card.concurrency.exhausted"));
+        verify(joinPoint, times(MAX_ATTEMPTS)).proceed();
+    }
+
+    @Test
+    void retryOnOptimisticLock_shouldNotRetryOtherExceptions() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new BadRequestException(ErrorMessagesConstant.INSUFFICIENT_BALANCE));
+
+        assertThrows(
+            BadRequestException.class,
+            () -> optimisticLockRetryAspect.retryOnOptimisticLock(joinPoint)
+        );
+
+        assertEquals(0.0, counter("card.concurrency.conflicts"));
+        assertEquals(1.0, counter("card.concurrency.invocations"));
+        verify(joinPoint).proceed();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.counter(name, "operation", OPERATION, "mode", CardConcurrencyMode.OPTIMISTIC.name())
+            .count();
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.example.bankcards.unit.utility.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.utility.converter.YearMonthConverter;
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+
+public class YearMonthConverterTest {
+
+    private final YearMonthConverter yearMonthConverter = new YearMonthConverter();
+
+    @Test
+    void convertToDatabaseColumn_shouldEncodeAsYearMonthInteger() {
+        assertEquals(202701, yearMonthConverter.convertToDatabaseColumn(YearMonth.of(2027, 1)));
+        assertEquals(203012, yearMonthConverter.convertToDatabaseColumn(YearMonth.of(2030, 12)));
+        assertNull(yearMonthConverter.convertToDatabaseColumn(null));
+    }
+
+    @Test
+    void convertToEntityAttribute_shouldDecodeYearMonthInteger() {
+        assertEquals(YearMonth.of(2027, 1), yearMonthConverter.convertToEntityAttribute(202701));
+        assertNull(yearMonthConverter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    void convertToDatabaseColumn_shouldPreserveChronologicalOrder() {
+        int december = yearMonthConverter.convertToDatabaseColumn(YearMonth.of(2026, 12));
+        int january = yearMonthConverter.convertToDatabaseColumn(YearMonth.of(2027, 1));
+
+        assertTrue(december < january);
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.example.bankcards.unit.utility.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.utility.filter.ScalableBloomFilter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ScalableBloomFilterTest {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    private static final int ENTRIES = 100_000;
+    private static final int THREADS = 8;
+
+    @Test
+    void mightContain_shouldNeverMissAddedEntries() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        SplittableRandom random = new SplittableRandom(1);
+        long[] hashes = new long[ENTRIES * 2];
+
+        for (int i = 0; i < hashes.length; i++) {
+            hashes[i] = random.nextLong();
+        }
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add(hashes[2 * i], hashes[2 * i + 1]);
+        }
+
+        for (int i = 0; i < ENTRIES; i++) {
+            assertTrue(filter.mightContain(hashes[2 * i], hashes[2 * i + 1]));
+        }
+        assertEquals(ENTRIES, filter.size());
+    }
+
+    @Test
+    void mightContain_shouldStayWithinFalsePositiveRate() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(ENTRIES, FALSE_POSITIVE_RATE);
+        SplittableRandom random = new SplittableRandom(2);
+
+        for (int i = 0; i < ENTRIES; i++) {
+            filter.add(random.nextLong(), random.nextLong());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < ENTRIES; i++) {
+            if (filter.mightContain(random.nextLong(), random.nextLong())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue((double) falsePositives / ENTRIES <= FALSE_POSITIVE_RATE);
+        assertTrue(filter.getExpectedFalsePositiveRate() <= FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void add_shouldGrowNewLayerWhenCapacityIsReached() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+        SplittableRandom random = new SplittableRandom(3);
+        long memoryBytes = filter.getMemoryBytes();
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.add(random.nextLong(), random.nextLong());
+        }
+
+        assertEquals(4, filter.getLayerCount());
+        assertTrue(filter.getMemoryBytes() > memoryBytes);
+        assertTrue(filter.getExpectedFalsePositiveRate() <= FALSE_POSITIVE_RATE);
+    }
+
+    @Test
+    void add_shouldKeepEntriesAddedConcurrently() throws Exception {
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, FALSE_POSITIVE_RATE);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                long seed = thread;
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 10_000; i++) {
+                        filter.add(random.nextLong(), random.nextLong());
+                    }
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int i = 0; i < 10_000; i++) {
+                assertTrue(filter.mightContain(random.nextLong(), random.nextLong()));
+            }
+        }
+        assertEquals(THREADS * 10_000L, filter.size());
+    }
+
+    @Test
+    void constructor_shouldRejectInvalidFalsePositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(ENTRIES, 1));
+        assertFalse(new ScalableBloomFilter(ENTRIES, FALSE_POSITIVE_RATE).mightContain(1, 2));
+    }
+
+}
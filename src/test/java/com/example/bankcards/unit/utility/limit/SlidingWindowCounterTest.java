@@ -0,0 +1,94 @@
+package com.example.bankcards.unit.utility.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.bankcards.utility.limit.SlidingWindowCounter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class SlidingWindowCounterTest {
+
+    private static final long WINDOW_MS = 60_000;
+    private static final int SLICES = 60;
+    private static final long START_MS = 1_000_000_000;
+
+    @Test
+    void sum_shouldDropSlicesThatLeftTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MS, SLICES);
+
+        counter.add(START_MS, 5);
+        counter.add(START_MS + 30_000, 3);
+
+        assertEquals(8, counter.sum(START_MS + 59_000));
+        assertEquals(3, counter.sum(START_MS + 60_000));
+        assertEquals(0, counter.sum(START_MS + 90_000));
+    }
+
+    @Test
+    void add_shouldReuseBucketSlotForNewSlice() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MS, SLICES);
+
+        counter.add(START_MS, 5);
+        counter.add(START_MS + WINDOW_MS, 2);
+
+        assertEquals(2, counter.sum(START_MS + WINDOW_MS));
+    }
+
+    @Test
+    void add_shouldReturnBucketUsableForRelease() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MS, SLICES);
+
+        counter.add(START_MS, 5).add(-5);
+
+        assertEquals(0, counter.sum(START_MS));
+    }
+
+    @Test
+    void addAt_shouldIgnoreTimesOutsideWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MS, SLICES);
+
+        counter.addAt(START_MS - WINDOW_MS, 7, START_MS);
+        counter.addAt(START_MS + 1_000, 7, START_MS);
+        counter.addAt(START_MS - 10_000, 4, START_MS);
+
+        assertEquals(4, counter.sum(START_MS));
+    }
+
+    @Test
+    void add_shouldNotLoseConcurrentIncrements() throws Exception {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW_MS, SLICES);
+        int threads = 8;
+        int incrementsPerThread = 10_000;
+        CountDownLatch startSignal = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int i = 0; i < incrementsPerThread; i++) {
+                        counter.add(START_MS, 1);
+                    }
+                    return null;
+                }));
+            }
+
+            startSignal.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * incrementsPerThread, counter.sum(START_MS));
+    }
+
+}
@@ -0,0 +1,61 @@
+package com.example.bankcards.unit.utility.timer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.bankcards.utility.timer.HierarchicalTimingWheel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class HierarchicalTimingWheelTest {
+
+    private static final long START_MS = 1_000_000;
+    private static final long TICK_MS = 1_000;
+    private static final int WHEEL_SIZE = 60;
+
+    @Test
+    void advance_shouldReturnItemsWhenDeadlinePasses() {
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("first", START_MS + 5 * TICK_MS);
+        timingWheel.add("second", START_MS + 10 * TICK_MS);
+
+        assertTrue(timingWheel.advance(START_MS + 4 * TICK_MS).isEmpty());
+        assertEquals(List.of("first"), timingWheel.advance(START_MS + 5 * TICK_MS));
+        assertEquals(List.of("second"), timingWheel.advance(START_MS + 10 * TICK_MS));
+        assertEquals(0, timingWheel.size());
+    }
+
+    @Test
+    void advance_shouldReturnOverdueItemsOnNextAdvance() {
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        timingWheel.add("overdue", START_MS - 60 * TICK_MS);
+
+        assertEquals(1, timingWheel.size());
+        assertEquals(List.of("overdue"), timingWheel.advance(START_MS));
+    }
+
+    @Test
+    void advance_shouldCascadeItemsFromOverflowWheels() {
+        HierarchicalTimingWheel<String> timingWheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, START_MS);
+        long hourDeadline = START_MS + 3_600 * TICK_MS + 500;
+        long dayDeadline = START_MS + 86_400 * TICK_MS;
+        timingWheel.add("hour", hourDeadline);
+        timingWheel.add("day", dayDeadline);
+
+        List<String> dueItems = new ArrayList<>();
+        long now = START_MS;
+        while (now + TICK_MS <= hourDeadline) {
+            now += TICK_MS;
+            dueItems.addAll(timingWheel.advance(now));
+        }
+        assertTrue(dueItems.isEmpty());
+
+        assertTrue(timingWheel.advance(hourDeadline).isEmpty());
+        assertEquals(List.of("hour"), timingWheel.advance(hourDeadline + TICK_MS));
+        assertTrue(timingWheel.advance(dayDeadline - TICK_MS).isEmpty());
+        assertEquals(List.of("day"), timingWheel.advance(dayDeadline));
+        assertEquals(0, timingWheel.size());
+    }
+
+}